@@ -0,0 +1,3 @@
+#!/bin/bash
+# Allows replication connections with a password, so a standby can stream the WAL of this database
+echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"
@@ -0,0 +1,73 @@
+package com.phirom_02.blog_api.benchmark;
+
+import com.phirom_02.blog_api.domain.PostStatus;
+import com.phirom_02.blog_api.domain.entities.Category;
+import com.phirom_02.blog_api.domain.entities.Post;
+import com.phirom_02.blog_api.domain.entities.Tag;
+import com.phirom_02.blog_api.domain.entities.User;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Builds the inputs of the benchmarks. Inputs are generated from a fixed seed, so every run measures the same data.
+ */
+public final class BenchmarkData {
+
+    private static final String[] WORDS = {
+            "spring", "boot", "java", "post", "blog", "cache", "query", "index", "thread", "latency",
+            "the", "a", "of", "and", "to", "in", "with", "performance", "benchmark", "database"
+    };
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Returns words separated by single spaces, with a line break every twelve words, of about the given length.
+     *
+     * @param length the length of the content in characters
+     * @return the content
+     */
+    public static String content(int length) {
+        Random random = new Random(42);
+        StringBuilder content = new StringBuilder(length + 16);
+        int words = 0;
+        while (content.length() < length) {
+            content.append(WORDS[random.nextInt(WORDS.length)]);
+            content.append(++words % 12 == 0 ? '\n' : ' ');
+        }
+        return content.toString();
+    }
+
+    /**
+     * Returns a published post with an author, a category and the given number of tags, and content of about
+     * the given length, as loaded from the database.
+     *
+     * @param contentLength the length of the content in characters
+     * @param tagCount      the number of tags
+     * @return the post
+     */
+    public static Post post(int contentLength, int tagCount) {
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(Tag.builder().id(UUID.randomUUID()).name("tag-" + i).publishedPostCount(i).build());
+        }
+        Instant createdAt = Instant.parse("2025-01-01T12:00:00Z");
+        return Post.builder()
+                .id(UUID.randomUUID())
+                .title("Benchmarking the hot paths of a blog API")
+                .content(content(contentLength))
+                .excerpt(content(200))
+                .status(PostStatus.PUBLISHED)
+                .readingTime(contentLength / 1000 + 1)
+                .author(User.builder().id(UUID.randomUUID()).name("John Smith").email("john.smith@example.com").build())
+                .category(Category.builder().id(UUID.randomUUID()).name("engineering").publishedPostCount(42).build())
+                .tags(tags)
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build();
+    }
+}
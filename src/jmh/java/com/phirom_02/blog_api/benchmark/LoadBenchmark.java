@@ -0,0 +1,131 @@
+package com.phirom_02.blog_api.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test of a running instance of the API, comparing its throughput and latency with the Tomcat worker pool and
+ * with virtual threads ({@code spring.threads.virtual.enabled}). Not a JMH benchmark: run it against each mode in turn.
+ * <p>
+ * For each number of concurrent connections, as many clients each send requests to the URL one after the other,
+ * first to warm up, then for the measured duration. Prints the throughput, the median and 99th percentile latency, and
+ * the failed requests. Clients wait for each response before the next request, so the latencies under saturation are
+ * understated rather than queued up, and the throughput is what the server sustains.
+ * <p>
+ * Arguments: the URL, the connection counts separated by commas, and the measured seconds per count, e.g.
+ * {@code http://localhost:8080/api/v1/posts 1000,5000,10000 30}.
+ */
+public final class LoadBenchmark {
+
+    private LoadBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        URI uri = URI.create(args.length > 0 ? args[0] : "http://localhost:8080/api/v1/posts");
+        int[] connectionCounts = Arrays.stream((args.length > 1 ? args[1] : "1000,5000,10000").split(","))
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        Duration duration = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 30);
+        Duration warmup = duration.dividedBy(3);
+
+        System.out.printf("%12s %10s %8s %12s %10s %10s%n", "connections", "requests", "errors", "requests/s", "p50 ms", "p99 ms");
+        for (int connections : connectionCounts) {
+            run(uri, connections, warmup);
+            Result result = run(uri, connections, duration);
+            System.out.printf("%12d %10d %8d %12.0f %10.1f %10.1f%n",
+                    connections,
+                    result.latencies().length,
+                    result.errors(),
+                    result.latencies().length / (double) duration.toSeconds(),
+                    result.percentile(0.50),
+                    result.percentile(0.99));
+        }
+    }
+
+    /**
+     * Sends requests from the given number of clients until the duration has elapsed.
+     */
+    private static Result run(URI uri, int connections, Duration duration) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET().build();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient httpClient = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .executor(clients)
+                     .connectTimeout(Duration.ofSeconds(60))
+                     .build()) {
+            long deadline = System.nanoTime() + duration.toNanos();
+            List<Future<Client>> futures = new ArrayList<>(connections);
+            for (int i = 0; i < connections; i++) {
+                futures.add(clients.submit(() -> {
+                    Client client = new Client();
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() == 200) {
+                                client.record(System.nanoTime() - start);
+                            } else {
+                                client.errors++;
+                            }
+                        } catch (Exception e) {
+                            client.errors++;
+                        }
+                    }
+                    return client;
+                }));
+            }
+
+            long[][] latencies = new long[connections][];
+            long errors = 0;
+            for (int i = 0; i < connections; i++) {
+                Client client = futures.get(i).get();
+                latencies[i] = Arrays.copyOf(client.latencies, client.count);
+                errors += client.errors;
+            }
+            long[] merged = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+            return new Result(merged, errors);
+        }
+    }
+
+    /**
+     * Latencies recorded by a single client, so clients never contend on a shared recorder.
+     */
+    private static final class Client {
+
+        long[] latencies = new long[1024];
+        int count;
+        long errors;
+
+        void record(long nanos) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+        }
+    }
+
+    /**
+     * @param latencies the latencies of the successful requests in nanoseconds, sorted
+     * @param errors    the number of failed requests
+     */
+    private record Result(long[] latencies, long errors) {
+
+        double percentile(double percentile) {
+            if (latencies.length == 0) {
+                return Double.NaN;
+            }
+            int index = (int) Math.min(latencies.length - 1, Math.ceil(percentile * latencies.length) - 1);
+            return latencies[Math.max(0, index)] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+}
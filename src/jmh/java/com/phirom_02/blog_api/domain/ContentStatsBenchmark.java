@@ -0,0 +1,55 @@
+package com.phirom_02.blog_api.domain;
+
+import com.phirom_02.blog_api.benchmark.BenchmarkData;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the statistics computed on every post creation and update, for contents up to the 50 KB a post can hold,
+ * against the reading time and excerpt computations they replaced.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContentStatsBenchmark {
+
+    @Param({"1000", "10000", "50000"})
+    int contentLength;
+
+    String content;
+
+    @Setup
+    public void setUp() {
+        content = BenchmarkData.content(contentLength);
+    }
+
+    @Benchmark
+    public ContentStats contentStats() {
+        return ContentStats.of(content);
+    }
+
+    /**
+     * The former reading time estimate and excerpt, which copied and split the content.
+     */
+    @Benchmark
+    public void splitReadingTimeAndExcerpt(Blackhole blackhole) {
+        int wordCount = content.trim().split("\\s+").length;
+        blackhole.consume((int) Math.ceil((double) wordCount / ContentStats.WORDS_PER_MINUTE));
+
+        String text = content.strip().replaceAll("\\s+", " ");
+        if (text.length() <= ContentStats.EXCERPT_LENGTH) {
+            blackhole.consume(text);
+            return;
+        }
+        int end = text.lastIndexOf(' ', ContentStats.EXCERPT_LENGTH - 1);
+        if (end <= 0) {
+            end = ContentStats.EXCERPT_LENGTH - 1;
+        }
+        blackhole.consume(text.substring(0, end) + "…");
+    }
+}
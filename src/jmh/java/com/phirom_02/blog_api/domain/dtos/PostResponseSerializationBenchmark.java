@@ -0,0 +1,46 @@
+package com.phirom_02.blog_api.domain.dtos;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.phirom_02.blog_api.benchmark.BenchmarkData;
+import com.phirom_02.blog_api.mappers.PostMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Measures the serialization of lists of posts to JSON, with an object mapper configured like the one of the
+ * application.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PostResponseSerializationBenchmark {
+
+    @Param({"20", "100"})
+    int postCount;
+
+    ObjectMapper objectMapper;
+    List<PostResponse> posts;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        PostMapper postMapper = Mappers.getMapper(PostMapper.class);
+        posts = IntStream.range(0, postCount)
+                .mapToObj(i -> postMapper.toPostResponse(BenchmarkData.post(5000, 3)))
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] writePostResponses() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(posts);
+    }
+}
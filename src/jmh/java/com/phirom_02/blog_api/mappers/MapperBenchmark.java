@@ -0,0 +1,66 @@
+package com.phirom_02.blog_api.mappers;
+
+import com.phirom_02.blog_api.benchmark.BenchmarkData;
+import com.phirom_02.blog_api.domain.dtos.CategoryResponse;
+import com.phirom_02.blog_api.domain.dtos.PostResponse;
+import com.phirom_02.blog_api.domain.dtos.PostTag;
+import com.phirom_02.blog_api.domain.dtos.TagResponse;
+import com.phirom_02.blog_api.domain.entities.Post;
+import com.phirom_02.blog_api.domain.entities.Tag;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the mappings of entities to the responses of the API.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    PostMapper postMapper;
+    TagMapper tagMapper;
+    CategoryMapper categoryMapper;
+
+    Post post;
+    Set<PostTag> postTags;
+    Tag tag;
+
+    @Setup
+    public void setUp() {
+        postMapper = Mappers.getMapper(PostMapper.class);
+        tagMapper = Mappers.getMapper(TagMapper.class);
+        categoryMapper = Mappers.getMapper(CategoryMapper.class);
+
+        post = BenchmarkData.post(5000, 4);
+        postTags = post.getTags().stream().map(postMapper::toPostTag).collect(Collectors.toSet());
+        tag = post.getTags().iterator().next();
+    }
+
+    @Benchmark
+    public PostResponse toPostResponse() {
+        return postMapper.toPostResponse(post);
+    }
+
+    @Benchmark
+    public PostResponse toPostResponseWithLoadedTags() {
+        return postMapper.toPostResponse(post, postTags);
+    }
+
+    @Benchmark
+    public TagResponse toResponseTag() {
+        return tagMapper.toResponseTag(tag);
+    }
+
+    @Benchmark
+    public CategoryResponse toResponseCategory() {
+        return categoryMapper.toResponseCategory(post.getCategory());
+    }
+}
@@ -0,0 +1,45 @@
+package com.phirom_02.blog_api.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead the rate limit adds to every request: finding the policy and the bucket of the client, and
+ * taking a token. The post policy refills faster than the benchmark consumes, so every request is allowed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RateLimitFilterBenchmark {
+
+    RateLimitFilter rateLimitFilter;
+    MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        rateLimitFilter = new RateLimitFilter(
+                List.of(
+                        new RateLimitPolicy("auth", "POST", "/api/v1/auth/", 10, Duration.ofMinutes(1)),
+                        new RateLimitPolicy("posts", "GET", "/api/v1/posts", 1_000_000_000, Duration.ofSeconds(1)),
+                        new RateLimitPolicy("default", null, "/api/", 600, Duration.ofMinutes(1))
+                ),
+                100_000,
+                new SimpleMeterRegistry()
+        );
+        request = new MockHttpServletRequest("GET", "/api/v1/posts");
+        request.setRemoteAddr("10.0.0.1");
+    }
+
+    @Benchmark
+    public long tryAcquire() {
+        return rateLimitFilter.tryAcquire(request);
+    }
+}
@@ -0,0 +1,64 @@
+package com.phirom_02.blog_api.service.impl;
+
+import com.phirom_02.blog_api.domain.entities.User;
+import com.phirom_02.blog_api.security.BlogUserDetails;
+import com.phirom_02.blog_api.security.RefreshToken;
+import com.phirom_02.blog_api.security.VerifiedToken;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures issuing an access token, done on every login, reading its user back, done on every
+ * authenticated request, and verifying a refresh token, done on every token refresh.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final long TOKEN_EXPIRATION = 600000L;
+
+    JwtServiceImpl jwtService;
+    BlogUserDetails userDetails;
+    String token;
+    String refreshToken;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtServiceImpl("a2V5MTIzNDU2Nzg5MDEyMzQ1Njc4OTAxMjM0NTY3ODkwMTIzNDU2Nzg5MDEyMw");
+        userDetails = new BlogUserDetails(User.builder()
+                .id(UUID.randomUUID())
+                .name("John Smith")
+                .email("john.smith@example.com")
+                .password("@#password")
+                .build());
+        token = jwtService.buildToken(userDetails, Map.of(), TOKEN_EXPIRATION);
+        refreshToken = jwtService.buildRefreshToken(userDetails, UUID.randomUUID(), TOKEN_EXPIRATION);
+    }
+
+    @Benchmark
+    public String buildToken() {
+        return jwtService.buildToken(userDetails, Map.of(), TOKEN_EXPIRATION);
+    }
+
+    @Benchmark
+    public String extractSubject() {
+        return jwtService.extractSubject(token);
+    }
+
+    @Benchmark
+    public VerifiedToken verifyToken() {
+        return jwtService.verifyToken(token);
+    }
+
+    @Benchmark
+    public RefreshToken verifyRefreshToken() {
+        return jwtService.verifyRefreshToken(refreshToken);
+    }
+}
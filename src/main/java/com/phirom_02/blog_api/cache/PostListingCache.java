@@ -0,0 +1,279 @@
+package com.phirom_02.blog_api.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.phirom_02.blog_api.domain.PostCursor;
+import com.phirom_02.blog_api.domain.PostVersion;
+import com.phirom_02.blog_api.domain.dtos.CursorPage;
+import com.phirom_02.blog_api.domain.dtos.PostSummary;
+import com.phirom_02.blog_api.domain.events.CategoryDeletedEvent;
+import com.phirom_02.blog_api.domain.events.PostChangedEvent;
+import com.phirom_02.blog_api.domain.events.PostChangedEvent.Placement;
+import com.phirom_02.blog_api.domain.events.TagDeletedEvent;
+import com.phirom_02.blog_api.metrics.TimedJsonHttpMessageConverter;
+import com.phirom_02.blog_api.service.PostService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ResolvableType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache of the pages of published posts served by {@code GET /api/v1/posts}, holding each page already serialized
+ * to JSON along with its {@code ETag}.
+ * <p>
+ * Pages are keyed by their filters, cursor and limit. A page covers the keys from its cursor down to its last post,
+ * so a {@link PostChangedEvent} only invalidates the pages listing the post, before or after the change, in that range.
+ * The cached pages are indexed by their filters, so a change only visits the pages of the listings the post appears
+ * in, rather than every cached page. Pages of a deleted category or tag are dropped.
+ * <p>
+ * Invalidated pages are not dropped but marked stale: the stale page keeps being served while a single reload
+ * per page runs in the background, so a write never sends every reader of a page to the database at once.
+ * Pages are also reloaded some time after they were loaded, in case they missed a change.
+ * <p>
+ * Reloads read the database, so they run on the application task executor, on virtual threads when those are enabled,
+ * rather than on the common pool meant for computations. They read the primary, in a read-write transaction the
+ * read-only {@link PostService#getAllPosts} joins, even when a read replica is enabled: a replica lagging behind a
+ * change would reload the page as it was before it, which would then be served as fresh until the next refresh.
+ * <p>
+ * Pages are only invalidated by the changes committed on this instance. With several instances, a page cached by
+ * one instance misses the changes committed on the others until it is reloaded after
+ * {@code post_listing_cache.refresh_interval}.
+ */
+@Component
+@ConditionalOnProperty(name = "post_listing_cache.enabled", havingValue = "true")
+public class PostListingCache {
+
+    private final PostService postService;
+    private final TransactionTemplate primaryTransaction;
+    private final ObjectMapper objectMapper;
+    private final LoadingCache<ListingKey, CachedPage> cache;
+    /**
+     * Keys of the cached pages of each listing.
+     */
+    private final ConcurrentMap<ListingFilter, Set<ListingKey>> keysByFilter = new ConcurrentHashMap<>();
+    private final Timer serializationTimer;
+    /**
+     * Number of post changes seen, so a page loaded while a change was committed comes out stale.
+     */
+    private final AtomicLong changes = new AtomicLong();
+
+    public PostListingCache(
+            PostService postService,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Qualifier("applicationTaskExecutor") Executor executor,
+            @Value("${post_listing_cache.maximum_size}") long maximumSize,
+            @Value("${post_listing_cache.refresh_interval}") Duration refreshInterval
+    ) {
+        this.postService = postService;
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .refreshAfterWrite(refreshInterval)
+                .executor(executor)
+                .evictionListener((ListingKey key, CachedPage page, RemovalCause cause) -> unindex(key))
+                .recordStats()
+                .build(this::load);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "post_listings");
+        this.serializationTimer = TimedJsonHttpMessageConverter.serializationTimer(
+                meterRegistry,
+                ResolvableType.forClassWithGenerics(CursorPage.class, PostSummary.class)
+        );
+    }
+
+    /**
+     * Returns a page of published posts, newest first, loading it if it is not cached.
+     * A stale page is returned as is while it is reloaded in the background.
+     *
+     * @param categoryId the UUID of the category to filter by (optional)
+     * @param tagId      the UUID of the tag to filter by (optional)
+     * @param cursor     the cursor returned with the previous page (optional)
+     * @param limit      the maximum number of posts in the page
+     * @return the page
+     * @throws IllegalArgumentException if the cursor is malformed or the limit is out of range
+     */
+    public CachedPage get(UUID categoryId, UUID tagId, String cursor, int limit) {
+        ListingKey key = new ListingKey(categoryId, tagId, cursor == null || cursor.isBlank() ? null : cursor, limit);
+        CachedPage page = cache.get(key);
+        if (page.stale()) {
+            // Joins the reload already running for the page, if any
+            cache.refresh(key);
+        }
+        return page;
+    }
+
+    /**
+     * Marks the pages listing a post, before or after a committed change, as stale.
+     *
+     * @param event the change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        changes.incrementAndGet();
+        PostCursor position = new PostCursor(event.createdAt(), event.postId());
+        Set<ListingFilter> filters = new HashSet<>();
+        ListingFilter.addListingsOf(event.before(), filters);
+        ListingFilter.addListingsOf(event.after(), filters);
+        for (ListingFilter filter : filters) {
+            Set<ListingKey> keys = keysByFilter.get(filter);
+            if (keys == null) {
+                continue;
+            }
+            for (ListingKey key : keys) {
+                cache.asMap().computeIfPresent(
+                        key,
+                        (k, page) -> page.isAffectedBy(k, position, event) ? page.markStale() : page
+                );
+            }
+        }
+    }
+
+    /**
+     * Drops the pages filtered by a deleted category.
+     *
+     * @param event the deletion
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryDeleted(CategoryDeletedEvent event) {
+        cache.asMap().keySet().removeIf(key -> event.categoryId().equals(key.categoryId()) && unindex(key));
+    }
+
+    /**
+     * Drops the pages filtered by a deleted tag.
+     *
+     * @param event the deletion
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTagDeleted(TagDeletedEvent event) {
+        cache.asMap().keySet().removeIf(key -> event.tagId().equals(key.tagId()) && unindex(key));
+    }
+
+    private CachedPage load(ListingKey key) throws JsonProcessingException {
+        keysByFilter.compute(key.filter(), (filter, keys) -> {
+            Set<ListingKey> indexed = keys == null ? ConcurrentHashMap.newKeySet() : keys;
+            indexed.add(key);
+            return indexed;
+        });
+        long changesBefore = changes.get();
+        CursorPage<PostSummary> page = primaryTransaction.execute(status ->
+                postService.getAllPosts(key.categoryId(), key.tagId(), key.cursor(), key.limit())
+        );
+        List<PostVersion> versions = page.getItems().stream()
+                .map(post -> new PostVersion(post.getId(), post.getUpdatedAt()))
+                .toList();
+        PostCursor last = page.getNextCursor() == null ? null : PostCursor.after(page.getItems().getLast());
+
+        long serializationStart = System.nanoTime();
+        byte[] json = objectMapper.writeValueAsBytes(page);
+        serializationTimer.record(System.nanoTime() - serializationStart, TimeUnit.NANOSECONDS);
+
+        return new CachedPage(
+                json,
+                PostVersion.tagOf(versions, last != null),
+                PostCursor.decode(key.cursor()),
+                last,
+                changes.get() != changesBefore
+        );
+    }
+
+    /**
+     * Removes a page from the index of its listing.
+     *
+     * @return {@code true}, so it can be chained in the predicate of a removal
+     */
+    private boolean unindex(ListingKey key) {
+        keysByFilter.computeIfPresent(key.filter(), (filter, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+        return true;
+    }
+
+    /**
+     * Identifies a page of published posts.
+     */
+    private record ListingKey(UUID categoryId, UUID tagId, String cursor, int limit) {
+
+        private ListingFilter filter() {
+            return new ListingFilter(categoryId, tagId);
+        }
+    }
+
+    /**
+     * Identifies a listing of published posts, of which pages are cached.
+     */
+    private record ListingFilter(UUID categoryId, UUID tagId) {
+
+        /**
+         * Adds the listings a post appears in: the unfiltered listing, and the listings filtered by its category, by
+         * each of its tags, and by both.
+         */
+        private static void addListingsOf(Placement placement, Set<ListingFilter> filters) {
+            if (!placement.published()) {
+                return;
+            }
+            filters.add(new ListingFilter(null, null));
+            filters.add(new ListingFilter(placement.categoryId(), null));
+            for (UUID tagId : placement.tagIds()) {
+                filters.add(new ListingFilter(null, tagId));
+                filters.add(new ListingFilter(placement.categoryId(), tagId));
+            }
+        }
+    }
+
+    /**
+     * A page of published posts serialized to JSON.
+     *
+     * @param body  the JSON of the page
+     * @param eTag  the tag of the page
+     * @param after the position the page starts after
+     * @param last  the position of the last post of the page, or {@code null} if it is the last page
+     * @param stale whether the page may be out of date
+     */
+    public record CachedPage(byte[] body, String eTag, PostCursor after, PostCursor last, boolean stale) {
+
+        private CachedPage markStale() {
+            return stale ? this : new CachedPage(body, eTag, after, last, true);
+        }
+
+        /**
+         * Returns whether a change of the post at the given position can change this page: the post is listed
+         * under the filters of the page, before or after the change, and falls within the page. A post leaving
+         * the listing past the last post of the page can still make it the last page.
+         */
+        private boolean isAffectedBy(ListingKey key, PostCursor position, PostChangedEvent event) {
+            boolean listedBefore = event.before().isListedIn(key.categoryId(), key.tagId());
+            boolean listedAfter = event.after().isListedIn(key.categoryId(), key.tagId());
+            if (!listedBefore && !listedAfter) {
+                return false;
+            }
+            if (position.compareTo(after) >= 0) {
+                return false;
+            }
+            return last == null || position.compareTo(last) >= 0 || (listedBefore && !listedAfter);
+        }
+    }
+}
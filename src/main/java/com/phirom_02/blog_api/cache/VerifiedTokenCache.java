@@ -0,0 +1,76 @@
+package com.phirom_02.blog_api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.phirom_02.blog_api.security.VerifiedToken;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Function;
+
+/**
+ * Cache of the tokens already verified by the {@link com.phirom_02.blog_api.security.JwtAuthenticationFilter},
+ * so the repeated requests of a client skip checking the signature and parsing the claims of its token.
+ * <p>
+ * Tokens are keyed by their SHA-256 hash, so the cache never holds the tokens themselves, and every entry expires
+ * when its token does. At most {@code verified_token_cache.maximum_size} tokens are kept. Invalid tokens are not
+ * cached.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final Cache<ByteBuffer, VerifiedToken> cache;
+
+    @Autowired
+    public VerifiedTokenCache(
+            MeterRegistry meterRegistry,
+            @Value("${verified_token_cache.maximum_size}") long maximumSize
+    ) {
+        this(meterRegistry, maximumSize, Ticker.systemTicker());
+    }
+
+    VerifiedTokenCache(MeterRegistry meterRegistry, long maximumSize, Ticker ticker) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(Expiry.creating((ByteBuffer hash, VerifiedToken token) -> timeToLive(token)))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "verified_tokens");
+    }
+
+    /**
+     * Returns a verified token, verifying it if it is not cached.
+     *
+     * @param token    the token
+     * @param verifier verifies the token, throwing if it is invalid
+     * @return the verified token
+     */
+    public VerifiedToken get(String token, Function<String, VerifiedToken> verifier) {
+        return cache.get(hash(token), hash -> verifier.apply(token));
+    }
+
+    private static Duration timeToLive(VerifiedToken token) {
+        Duration timeToLive = Duration.between(Instant.now(), token.expiresAt());
+        return timeToLive.isNegative() ? Duration.ZERO : timeToLive;
+    }
+
+    private static ByteBuffer hash(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
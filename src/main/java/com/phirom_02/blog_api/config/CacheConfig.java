@@ -0,0 +1,32 @@
+package com.phirom_02.blog_api.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables the lookup caches of the application.
+ * <p>
+ * The caches are Caffeine caches bounded in size and expiring entries some time after they were written,
+ * configured with {@code spring.cache}. They record statistics, which are published as {@code cache.*} metrics.
+ * They hold immutable references rather than entities, which would be shared by every thread reading the cache and
+ * detached from the transaction of each of them.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * {@link com.phirom_02.blog_api.domain.CategoryRef}s by ID.
+     */
+    public static final String CATEGORIES = "categories";
+
+    /**
+     * {@link com.phirom_02.blog_api.domain.TagRef}s by ID.
+     */
+    public static final String TAGS = "tags";
+
+    /**
+     * {@link com.phirom_02.blog_api.domain.UserRef}s by ID.
+     */
+    public static final String USERS = "users";
+}
@@ -0,0 +1,91 @@
+package com.phirom_02.blog_api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.phirom_02.blog_api.mappers.PostMapper;
+import com.phirom_02.blog_api.metrics.ConnectionHoldMetricsInterceptor;
+import com.phirom_02.blog_api.metrics.ConnectionHoldTimer;
+import com.phirom_02.blog_api.metrics.HandlerTaggingObservationConvention;
+import com.phirom_02.blog_api.metrics.SqlStatementCounter;
+import com.phirom_02.blog_api.metrics.SqlStatementMetricsInterceptor;
+import com.phirom_02.blog_api.metrics.TimedJsonHttpMessageConverter;
+import com.phirom_02.blog_api.metrics.TimingMethodInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Configures the metrics breaking down the latency of a request by layer, scraped from {@code /actuator/prometheus}.
+ * <ul>
+ *     <li>{@code http.server.requests}: latency of each controller method, tagged with {@code handler}</li>
+ *     <li>{@code http.server.requests.sql.statements}: SQL statements run by each request, per controller method</li>
+ *     <li>{@code http.server.requests.connection.hold}: time each request holds connections, per controller method</li>
+ *     <li>{@code spring.data.repository.invocations}: latency of each repository method, published by Spring Boot</li>
+ *     <li>{@code hikaricp.connections.*}: pool saturation and connection acquisition time, published by Spring Boot</li>
+ *     <li>{@code post.mapper}: time spent mapping posts, per {@link PostMapper} method</li>
+ *     <li>{@code json.serialization}: time spent serializing responses, per type</li>
+ * </ul>
+ * The percentile histograms of these timers are enabled with {@code management.metrics.distribution}.
+ */
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final SqlStatementCounter sqlStatementCounter = new SqlStatementCounter();
+    private final ConnectionHoldTimer connectionHoldTimer = new ConnectionHoldTimer();
+    private final MeterRegistry meterRegistry;
+
+    public MetricsConfig(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean
+    public HandlerTaggingObservationConvention handlerTaggingObservationConvention() {
+        return new HandlerTaggingObservationConvention();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlStatementCounter);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer connectionHoldTimerCustomizer() {
+        return properties -> properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, ConnectionHoldTimer.class.getName());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new SqlStatementMetricsInterceptor(sqlStatementCounter, meterRegistry));
+        registry.addInterceptor(new ConnectionHoldMetricsInterceptor(connectionHoldTimer, meterRegistry));
+    }
+
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new TimedJsonHttpMessageConverter(objectMapper, meterRegistry);
+    }
+
+    /**
+     * Times the calls to the {@link PostMapper}. Static, so the post processor is created before the other beans.
+     */
+    @Bean
+    public static BeanPostProcessor postMapperTimer(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof PostMapper)) {
+                    return bean;
+                }
+                ProxyFactory proxyFactory = new ProxyFactory(bean);
+                proxyFactory.addAdvice(new TimingMethodInterceptor("post.mapper", meterRegistry.getObject()));
+                return proxyFactory.getProxy();
+            }
+        };
+    }
+}
@@ -0,0 +1,40 @@
+package com.phirom_02.blog_api.config;
+
+import com.phirom_02.blog_api.security.RateLimitFilter;
+import com.phirom_02.blog_api.security.RateLimitPolicy;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Configures the rate limits of the API, applied by the {@link RateLimitFilter} of the security filter chain.
+ * <p>
+ * Logins and sign-ups are limited the most, as each one hashes a password. Post reads have their own limit, so a
+ * scraper cannot use up the limit of everything else.
+ */
+@Configuration
+public class RateLimitConfig {
+
+    @Bean
+    public RateLimitFilter rateLimitFilter(
+            MeterRegistry meterRegistry,
+            @Value("${rate_limit.maximum_clients}") long maximumClients,
+            @Value("${rate_limit.auth.capacity}") long authCapacity,
+            @Value("${rate_limit.auth.period}") Duration authPeriod,
+            @Value("${rate_limit.posts.capacity}") long postsCapacity,
+            @Value("${rate_limit.posts.period}") Duration postsPeriod,
+            @Value("${rate_limit.default.capacity}") long defaultCapacity,
+            @Value("${rate_limit.default.period}") Duration defaultPeriod
+    ) {
+        List<RateLimitPolicy> policies = List.of(
+                new RateLimitPolicy("auth", "POST", "/api/v1/auth/", authCapacity, authPeriod),
+                new RateLimitPolicy("posts", "GET", "/api/v1/posts", postsCapacity, postsPeriod),
+                new RateLimitPolicy("default", null, "/api/", defaultCapacity, defaultPeriod)
+        );
+        return new RateLimitFilter(policies, maximumClients, meterRegistry);
+    }
+}
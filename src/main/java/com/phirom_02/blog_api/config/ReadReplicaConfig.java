@@ -0,0 +1,95 @@
+package com.phirom_02.blog_api.config;
+
+import com.phirom_02.blog_api.datasource.ReadWriteRoutingDataSource;
+import com.phirom_02.blog_api.datasource.ReplicaDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+
+/**
+ * Sends the read-only transactions to a read replica and everything else to the primary, when
+ * {@code read_replica.enabled} is set.
+ * <p>
+ * The primary pool is configured with {@code spring.datasource}, the replica pool with {@code read_replica}.
+ * Connections are only fetched from a pool on the first statement of a transaction, once it is known to be
+ * read-only, and are handed back at the end of each transaction, so the transactions of a request can go to
+ * different pools. See {@link ReadWriteRoutingDataSource} for the routing and {@link ReplicaDataSource} for the
+ * fallback to the primary.
+ */
+@Configuration
+@ConditionalOnProperty(name = "read_replica.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaDataSource replicaDataSource(
+            HikariDataSource primaryDataSource,
+            MeterRegistry meterRegistry,
+            @Value("${read_replica.url}") String url,
+            @Value("${read_replica.username}") String username,
+            @Value("${read_replica.password}") String password,
+            @Value("${read_replica.maximum_pool_size}") int maximumPoolSize,
+            @Value("${read_replica.connection_timeout}") Duration connectionTimeout,
+            @Value("${read_replica.maximum_lag}") Duration maximumLag
+    ) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("replica");
+        config.setJdbcUrl(url);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setMaximumPoolSize(maximumPoolSize);
+        config.setConnectionTimeout(connectionTimeout.toMillis());
+        config.setReadOnly(true);
+        // Starts without the replica if it is down
+        config.setInitializationFailTimeout(-1);
+        config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        config.addDataSourceProperty("ApplicationName", "blog-api-replica");
+        return new ReplicaDataSource(new HikariDataSource(config), primaryDataSource, maximumLag, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource)
+        );
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        return dataSource;
+    }
+
+    /**
+     * Hands connections back after every transaction rather than at the end of the request, so a request reading
+     * from the replica can still write to the primary.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer connectionReleaseCustomizer() {
+        return properties -> properties.put(
+                AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION
+        );
+    }
+}
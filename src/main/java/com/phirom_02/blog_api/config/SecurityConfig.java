@@ -1,12 +1,20 @@
 package com.phirom_02.blog_api.config;
 
+import com.phirom_02.blog_api.cache.VerifiedTokenCache;
 import com.phirom_02.blog_api.repository.UserRepository;
 import com.phirom_02.blog_api.security.BlogUserDetailsService;
+import com.phirom_02.blog_api.security.BoundedPasswordEncoder;
 import com.phirom_02.blog_api.security.JwtAuthenticationFilter;
+import com.phirom_02.blog_api.security.ManagementPortRequestMatcher;
+import com.phirom_02.blog_api.security.RateLimitFilter;
 import com.phirom_02.blog_api.service.AuthService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -30,8 +38,8 @@ import java.util.List;
 public class SecurityConfig {
 
     @Bean
-    public JwtAuthenticationFilter jwtAuthenticationFilter(AuthService authService) {
-        return new JwtAuthenticationFilter(authService);
+    public JwtAuthenticationFilter jwtAuthenticationFilter(AuthService authService, VerifiedTokenCache verifiedTokenCache) {
+        return new JwtAuthenticationFilter(authService, verifiedTokenCache);
     }
 
     @Bean
@@ -40,20 +48,33 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtAuthenticationFilter jwtAuthenticationFilter) throws Exception {
+    public SecurityFilterChain securityFilterChain(
+            HttpSecurity http,
+            JwtAuthenticationFilter jwtAuthenticationFilter,
+            RateLimitFilter rateLimitFilter,
+            Environment environment
+    ) throws Exception {
         http.cors(cors -> corsConfigurationSource());
 
         http.authorizeHttpRequests(auth ->
                         auth.requestMatchers(HttpMethod.POST, "/api/v1/auth/**").permitAll()
-                                .requestMatchers(HttpMethod.GET, "/api/v1/posts/drafts").authenticated()
+                                // Streamed responses finish on an async dispatch of a request that was already authorized
+                                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                                .requestMatchers(HttpMethod.GET, "/api/v1/posts/drafts", "/api/v1/posts/export").authenticated()
                                 .requestMatchers(HttpMethod.GET, "/api/v1/posts/**").permitAll()
                                 .requestMatchers(HttpMethod.GET, "/api/v1/categories/**").permitAll()
                                 .requestMatchers(HttpMethod.GET, "/api/v1/tags/**").permitAll()
                                 .requestMatchers(HttpMethod.GET, "/swagger-ui.html", "/swagger-ui/**", "/v3/api-docs/**").permitAll()
+                                .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                                // The other actuator endpoints, such as the metrics, are only open on the management
+                                // port, which is not published
+                                .requestMatchers(new ManagementPortRequestMatcher(environment)).permitAll()
                                 .anyRequest().authenticated())
                 .csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // Limits the rate of each client, identified by the user ID set by the JWT filter
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -73,8 +94,17 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${password_hashing.threads}") int threads,
+            @Value("${password_hashing.queue_capacity}") int queueCapacity
+    ) {
+        return new BoundedPasswordEncoder(
+                PasswordEncoderFactories.createDelegatingPasswordEncoder(),
+                threads,
+                queueCapacity,
+                meterRegistry
+        );
     }
 
     @Bean
@@ -83,9 +113,9 @@ public class SecurityConfig {
     }
 
     @Bean
-    DaoAuthenticationProvider authenticationProvider(UserRepository userRepository) {
+    DaoAuthenticationProvider authenticationProvider(UserRepository userRepository, PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider(userDetailsService(userRepository));
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
         return authProvider;
     }
 }
@@ -23,7 +23,7 @@ import static com.phirom_02.blog_api.swagger.SwaggerTags.AUTH;
 @RequiredArgsConstructor
 @SwaggerTag(
         name = AUTH,
-        description = "Operations for managing authentications including login and sign-up"
+        description = "Operations for managing authentications including login, token refresh and sign-up"
 )
 public class AuthController {
 
@@ -46,15 +46,24 @@ public class AuthController {
                 loginPayload.getPassword()
         );
 
-        // Generate JWT token for the authenticated user
-        String token = authService.generateToken(userDetails);
+        // Generate the access and refresh tokens for the authenticated user
+        return ResponseEntity.ok(toAuthResponse(userDetails));
+    }
 
-        // Create and return an AuthResponse containing the token and expiry time
-        AuthResponse authResponse = AuthResponse.builder()
-                .token(token)
-                .build();
+    /**
+     * Handles the token refresh process. Redeems the provided refresh token, which cannot be used again,
+     * and returns a new access token and a new refresh token, without checking the user's password.
+     *
+     * @param payload the refresh request payload containing the refresh token
+     * @return a {@link ResponseEntity} containing an {@link AuthResponse} with the new tokens
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@RequestBody @Valid RefreshTokenPayload payload) {
+        // Redeem the refresh token and get the user details from its claims
+        UserDetails userDetails = authService.redeemRefreshToken(payload.getRefreshToken());
 
-        return ResponseEntity.ok(authResponse);
+        // Rotate the tokens of the user
+        return ResponseEntity.ok(toAuthResponse(userDetails));
     }
 
     /**
@@ -77,4 +86,17 @@ public class AuthController {
         // Return sign-up response
         return ResponseEntity.ok(signUpResponse);
     }
+
+    /**
+     * Generates an access token and a refresh token for the user.
+     *
+     * @param userDetails the details of the authenticated user
+     * @return an {@link AuthResponse} containing the tokens
+     */
+    private AuthResponse toAuthResponse(UserDetails userDetails) {
+        return AuthResponse.builder()
+                .token(authService.generateToken(userDetails))
+                .refreshToken(authService.generateRefreshToken(userDetails))
+                .build();
+    }
 }
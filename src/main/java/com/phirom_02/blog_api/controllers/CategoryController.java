@@ -39,8 +39,7 @@ public class CategoryController {
      */
     @GetMapping
     public ResponseEntity<List<CategoryResponse>> getCategories() {
-        List<CategoryResponse> categories = categoryService.getAllCategories()
-                .stream().map(categoryMapper::toResponseCategory).toList();
+        List<CategoryResponse> categories = categoryService.getAllCategoryResponses();
         return ResponseEntity.ok(categories);
     }
 
@@ -1,6 +1,7 @@
 package com.phirom_02.blog_api.controllers;
 
 import com.phirom_02.blog_api.domain.dtos.ApiErrorResponse;
+import io.jsonwebtoken.JwtException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -12,6 +13,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Global error handler for the blog API.
@@ -104,6 +106,40 @@ public class ErrorController {
         return new ResponseEntity<>(error, HttpStatus.UNAUTHORIZED);
     }
 
+    /**
+     * Handles work rejected because its bounded queue is full, such as password hashes during a burst of logins.
+     * Logs the exception and returns a 503 Service Unavailable error, so the client retries later.
+     *
+     * @param e the exception that was thrown (RejectedExecutionException)
+     * @return a {@link ResponseEntity} containing an {@link ApiErrorResponse} with HTTP status 503 (Service Unavailable)
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ApiErrorResponse> handleRejectedExecutionException(RejectedExecutionException e) {
+        log.error("RejectedExecutionException occurred", e);
+        ApiErrorResponse error = ApiErrorResponse.builder()
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .message("Server is busy, please retry later")
+                .build();
+        return new ResponseEntity<>(error, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    /**
+     * Handles invalid, expired or already redeemed tokens.
+     * Logs the exception and returns a 401 Unauthorized error with a generic error message.
+     *
+     * @param e the exception that was thrown (JwtException)
+     * @return a {@link ResponseEntity} containing an {@link ApiErrorResponse} with HTTP status 401 (Unauthorized)
+     */
+    @ExceptionHandler(JwtException.class)
+    public ResponseEntity<ApiErrorResponse> handleJwtException(JwtException e) {
+        log.error("JwtException occurred", e);
+        ApiErrorResponse error = ApiErrorResponse.builder()
+                .status(HttpStatus.UNAUTHORIZED.value())
+                .message("Invalid or expired token")
+                .build();
+        return new ResponseEntity<>(error, HttpStatus.UNAUTHORIZED);
+    }
+
     /**
      * Handles entity not found exceptions, typically when a requested entity does not exist.
      * Logs the exception and returns a 404 Not Found error with the exception message.
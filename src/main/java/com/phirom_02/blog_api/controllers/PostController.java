@@ -1,19 +1,36 @@
 package com.phirom_02.blog_api.controllers;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.phirom_02.blog_api.cache.PostListingCache;
+import com.phirom_02.blog_api.domain.PostVersion;
 import com.phirom_02.blog_api.domain.dtos.*;
-import com.phirom_02.blog_api.domain.entities.Post;
 import com.phirom_02.blog_api.domain.entities.User;
 import com.phirom_02.blog_api.mappers.PostMapper;
+import com.phirom_02.blog_api.service.PostImportService;
 import com.phirom_02.blog_api.service.PostService;
 import com.phirom_02.blog_api.service.UserService;
+import com.phirom_02.blog_api.stats.PostViewCounter;
 import com.phirom_02.blog_api.swagger.SwaggerTag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static com.phirom_02.blog_api.swagger.SwaggerTags.POSTS;
@@ -21,6 +38,13 @@ import static com.phirom_02.blog_api.swagger.SwaggerTags.POSTS;
 
 /**
  * REST controller for managing blog posts.
+ * <p>
+ * Single posts and listing pages carry an {@code ETag} built from the {@link PostVersion}s of their posts.
+ * Conditional requests are checked against a version-only query first, and answered with 304 (Not Modified)
+ * without loading or mapping any post when the client's copy is still current.
+ * <p>
+ * When the {@link PostListingCache} is enabled, listing pages are served from it as pre-serialized JSON instead,
+ * and conditional requests are checked against the tag of the cached page.
  */
 @RestController
 @RequestMapping(path = "/api/v1/posts")
@@ -32,57 +56,155 @@ import static com.phirom_02.blog_api.swagger.SwaggerTags.POSTS;
 public class PostController {
 
     private final PostService postService;
+    private final PostImportService postImportService;
     private final UserService userService;
     private final PostMapper postMapper;
+    private final Optional<PostListingCache> postListingCache;
+    private final PostViewCounter postViewCounter;
+    private final ObjectMapper objectMapper;
 
     /**
-     * Retrieves a list of all blog posts. Optionally filters by category or tag.
+     * Retrieves one page of published blog posts, newest first. Optionally filters by category or tag.
+     * Pass the {@code nextCursor} of a page as {@code cursor} to fetch the following page.
      *
      * @param categoryId the UUID of the category to filter by (optional)
      * @param tagId      the UUID of the tag to filter by (optional)
-     * @return a {@link ResponseEntity} containing a list of {@link PostResponse} objects and HTTP status 200 (OK)
+     * @param cursor     the cursor returned with the previous page (optional)
+     * @param limit      the maximum number of posts in the page
+     * @param request    the request, checked for an {@code If-None-Match} header
+     * @return a {@link ResponseEntity} containing a {@link CursorPage} of {@link PostSummary} objects, possibly
+     * already serialized, and HTTP status 200 (OK), or {@code null} once HTTP status 304 (Not Modified) has been set
      */
     @GetMapping
-    public ResponseEntity<List<PostResponse>> getAllPosts(
+    public ResponseEntity<?> getAllPosts(
             @RequestParam(required = false) UUID categoryId,
-            @RequestParam(required = false) UUID tagId
+            @RequestParam(required = false) UUID tagId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            WebRequest request
     ) {
-        List<Post> posts = postService.getAllPosts(categoryId, tagId);
-        List<PostResponse> postResponses = posts.stream()
-                .map(postMapper::toPostResponse)
+        if (postListingCache.isPresent()) {
+            PostListingCache.CachedPage page = postListingCache.get().get(categoryId, tagId, cursor, limit);
+            if (request.checkNotModified(page.eTag())) {
+                return null;
+            }
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .eTag(page.eTag())
+                    .body(page.body());
+        }
+
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && request.checkNotModified(postService.getAllPostsVersion(categoryId, tagId, cursor, limit))) {
+            return null;
+        }
+
+        CursorPage<PostSummary> posts = postService.getAllPosts(categoryId, tagId, cursor, limit);
+        List<PostVersion> versions = posts.getItems().stream()
+                .map(post -> new PostVersion(post.getId(), post.getUpdatedAt()))
                 .toList();
 
-        return ResponseEntity.ok(postResponses);
+        return ResponseEntity.ok()
+                .eTag(PostVersion.tagOf(versions, posts.getNextCursor() != null))
+                .body(posts);
+    }
+
+    /**
+     * Searches published blog posts by title and content, most relevant first. Optionally filters by category or tag.
+     * Pass the {@code nextCursor} of a page as {@code cursor} to fetch the following page.
+     *
+     * @param q          the search query
+     * @param categoryId the UUID of the category to filter by (optional)
+     * @param tagId      the UUID of the tag to filter by (optional)
+     * @param cursor     the cursor returned with the previous page (optional)
+     * @param limit      the maximum number of posts in the page
+     * @return a {@link ResponseEntity} containing a page of {@link PostSummary} objects and HTTP status 200 (OK)
+     */
+    @GetMapping(path = "/search")
+    public ResponseEntity<CursorPage<PostSummary>> searchPosts(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) UUID categoryId,
+            @RequestParam(required = false) UUID tagId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        CursorPage<PostSummary> posts = postService.searchPosts(q, categoryId, tagId, cursor, limit);
+
+        return ResponseEntity.ok(posts);
+    }
+
+    /**
+     * Exports all published blog posts, newest first, as newline-delimited JSON with one {@link PostResponse} per line.
+     * The posts are written to the client as they are read from the database, so the export is never held in memory.
+     *
+     * @return a {@link ResponseEntity} streaming the posts and HTTP status 200 (OK)
+     */
+    @GetMapping(path = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportPosts() {
+        ObjectWriter writer = objectMapper.writerFor(PostResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                // Lines are separated by the newline written after each post, not by Jackson's default space
+                generator.setRootValueSeparator(null);
+                postService.exportPublishedPosts(post -> {
+                    try {
+                        writer.writeValue(generator, post);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     /**
      * Retrieves a list of all drafted blog posts for a specific user.
      *
      * @param userId the UUID of the user whose drafted posts are to be retrieved
-     * @return a {@link ResponseEntity} containing a list of {@link PostResponse} objects and HTTP status 200 (OK)
+     * @return a {@link ResponseEntity} containing a list of {@link PostSummary} objects and HTTP status 200 (OK)
      */
     @GetMapping(path = "/drafts")
-    public ResponseEntity<List<PostResponse>> getAllDraftedPosts(@RequestAttribute UUID userId) {
-        List<Post> draftedPostsposts = postService.getAllDraftedPosts(userId);
-        List<PostResponse> postResponses = draftedPostsposts.stream()
-                .map(postMapper::toPostResponse)
-                .toList();
+    public ResponseEntity<List<PostSummary>> getAllDraftedPosts(@RequestAttribute UUID userId) {
+        List<PostSummary> draftedPosts = postService.getAllDraftedPosts(userId);
 
-        return ResponseEntity.ok(postResponses);
+        return ResponseEntity.ok(draftedPosts);
     }
 
     /**
-     * Retrieves a single blog post by its ID.
+     * Retrieves a single blog post by its ID, and counts a view of it. The view count of the post does not include
+     * this view yet, and is not part of the {@code ETag}, so views alone never invalidate a client's copy.
      *
-     * @param id the UUID of the post to retrieve
-     * @return a {@link ResponseEntity} containing the {@link PostResponse} object and HTTP status 200 (OK)
+     * @param id      the UUID of the post to retrieve
+     * @param request the request, checked for {@code If-None-Match} and {@code If-Modified-Since} headers
+     * @return a {@link ResponseEntity} containing the {@link PostResponse} object and HTTP status 200 (OK),
+     * or {@code null} once HTTP status 304 (Not Modified) has been set
      */
     @GetMapping(path = "/{id}")
-    public ResponseEntity<PostResponse> getPostById(@PathVariable UUID id) {
-        Post post = postService.getPostById(id);
-        PostResponse postResponse = postMapper.toPostResponse(post);
+    public ResponseEntity<PostResponse> getPostById(@PathVariable UUID id, WebRequest request) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null) {
+            PostVersion version = postService.getPostVersion(id);
+            if (request.checkNotModified(version.tag(), version.updatedAt().toEpochMilli())) {
+                postViewCounter.recordView(id);
+                return null;
+            }
+        }
 
-        return ResponseEntity.ok(postResponse);
+        PostResponse postResponse = postService.getPostResponse(id);
+        PostVersion version = new PostVersion(postResponse.getId(), postResponse.getUpdatedAt());
+        postViewCounter.recordView(id);
+
+        return ResponseEntity.ok()
+                .eTag(version.tag())
+                .lastModified(version.updatedAt())
+                .body(postResponse);
     }
 
     /**
@@ -97,14 +219,35 @@ public class PostController {
             @RequestBody @Valid CreatePostPayload payload,
             @RequestAttribute UUID userId
     ) {
-        User user = userService.findUserById(userId);
         CreatePostDto dto = postMapper.toCreatePostDto(payload);
-        Post post = postService.createPost(user, dto);
-        PostResponse postResponse = postMapper.toPostResponse(post);
+        PostResponse postResponse = postService.createPostResponse(userId, dto);
 
         return new ResponseEntity<>(postResponse, HttpStatus.CREATED);
     }
 
+    /**
+     * Imports blog posts in bulk from newline-delimited JSON with one {@link CreatePostPayload} per line.
+     * The records are read as they arrive, and invalid ones are reported without stopping the import.
+     *
+     * @param body   the records to import
+     * @param userId the UUID of the user importing the posts
+     * @return a {@link ResponseEntity} containing the {@link PostImportResult} and HTTP status 200 (OK)
+     * @throws IOException if the records cannot be read
+     */
+    @PostMapping(path = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<PostImportResult> importPosts(
+            InputStream body,
+            @RequestAttribute UUID userId
+    ) throws IOException {
+        // Checks the user exists through the cache, then sets it on the posts without loading it
+        User user = userService.getUserReference(userService.findUserRefById(userId).id());
+        PostImportResult result = postImportService.importPosts(
+                user, new InputStreamReader(body, StandardCharsets.UTF_8)
+        );
+
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * Updates an existing blog post.
      *
@@ -118,8 +261,7 @@ public class PostController {
             @RequestBody @Valid UpdatePostPayload payload
     ) {
         UpdatePostDto dto = postMapper.toUpdatePostDto(payload);
-        Post post = postService.updatePost(id, dto);
-        PostResponse postResponse = postMapper.toPostResponse(post);
+        PostResponse postResponse = postService.updatePostResponse(id, dto);
 
         return ResponseEntity.ok(postResponse);
     }
@@ -39,8 +39,7 @@ public class TagController {
      */
     @GetMapping
     public ResponseEntity<List<TagResponse>> getAllTags() {
-        List<TagResponse> tags = tagService.getAllTags()
-                .stream().map(tagMapper::toResponseTag).toList();
+        List<TagResponse> tags = tagService.getAllTagResponses();
         return ResponseEntity.ok(tags);
     }
 
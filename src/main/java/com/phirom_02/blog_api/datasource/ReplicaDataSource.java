@@ -0,0 +1,120 @@
+package com.phirom_02.blog_api.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Data source of the read-only transactions, handing out connections of the read replica while it is up and close
+ * enough to the primary, and connections of the primary otherwise.
+ * <p>
+ * The replication lag is checked every {@code read_replica.check_interval}. A replica lagging by more than
+ * {@code read_replica.maximum_lag}, or failing to hand out a connection, is skipped until a later check finds it
+ * healthy again. Until the first check, reads go to the primary.
+ */
+@Slf4j
+public class ReplicaDataSource extends AbstractDataSource implements AutoCloseable {
+
+    /**
+     * Seconds since the last transaction replayed by the replica, or 0 if it replayed all the WAL it received,
+     * so an idle primary does not make the replica look late. A primary reports no lag.
+     */
+    static final String LAG_QUERY = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp())
+                   END
+            """;
+
+    private final DataSource replica;
+    private final DataSource primary;
+    private final Duration maximumLag;
+
+    private volatile boolean available;
+    private volatile double lagSeconds = Double.NaN;
+
+    /**
+     * @param replica       the pool of the read replica
+     * @param primary       the pool of the primary, used while the replica is skipped
+     * @param maximumLag    the replication lag beyond which the replica is skipped
+     * @param meterRegistry the registry of the replica status gauges
+     */
+    public ReplicaDataSource(DataSource replica, DataSource primary, Duration maximumLag, MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.primary = primary;
+        this.maximumLag = maximumLag;
+        Gauge.builder("read_replica.available", this, dataSource -> dataSource.available ? 1 : 0)
+                .description("Whether read-only transactions go to the read replica")
+                .register(meterRegistry);
+        Gauge.builder("read_replica.lag", this, dataSource -> dataSource.lagSeconds)
+                .description("Replication lag of the read replica as of the last check")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (available) {
+            try {
+                return replica.getConnection();
+            } catch (SQLException e) {
+                available = false;
+                log.warn("Read replica unavailable, reading from the primary until it recovers", e);
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Credentials are set per pool");
+    }
+
+    /**
+     * Checks whether the replica is up and within the maximum lag, to route the next reads accordingly.
+     */
+    @Scheduled(fixedDelayString = "${read_replica.check_interval}")
+    public void checkReplica() {
+        boolean wasAvailable = available;
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+            resultSet.next();
+            lagSeconds = resultSet.getDouble(1);
+            available = lagSeconds * 1000 <= maximumLag.toMillis();
+        } catch (SQLException e) {
+            lagSeconds = Double.NaN;
+            available = false;
+        }
+
+        if (available && !wasAvailable) {
+            log.info("Read replica available, lagging by {}s", lagSeconds);
+        } else if (!available && wasAvailable) {
+            log.warn("Read replica unavailable or lagging by {}s, reading from the primary", lagSeconds);
+        }
+    }
+
+    /**
+     * Whether read-only transactions currently go to the replica.
+     */
+    public boolean isAvailable() {
+        return available;
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (replica instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
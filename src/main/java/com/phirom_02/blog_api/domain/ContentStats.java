@@ -0,0 +1,111 @@
+package com.phirom_02.blog_api.domain;
+
+/**
+ * Statistics of the content of a post, computed in a single pass over its characters.
+ * <p>
+ * Words are runs of non-whitespace characters, and paragraphs are groups of words separated by at least one blank
+ * line. The excerpt is the content with whitespace collapsed to single spaces, cut at the last word boundary that
+ * fits in {@value #EXCERPT_LENGTH} characters. Scanning allocates nothing but the excerpt, however long the content.
+ *
+ * @param characterCount the number of characters, as Unicode code points
+ * @param wordCount      the number of words
+ * @param paragraphCount the number of paragraphs
+ * @param excerpt        the beginning of the content, as plain text
+ */
+public record ContentStats(int characterCount, int wordCount, int paragraphCount, String excerpt) {
+
+    /**
+     * Maximum length of the excerpt.
+     */
+    public static final int EXCERPT_LENGTH = 280;
+
+    /**
+     * Average reading speed used to estimate the reading time.
+     */
+    public static final int WORDS_PER_MINUTE = 200;
+
+    private static final char ELLIPSIS = '…';
+
+    /**
+     * Returns the estimated reading time, rounded up to the nearest minute.
+     *
+     * @return the reading time in minutes
+     */
+    public int readingTime() {
+        return (wordCount + WORDS_PER_MINUTE - 1) / WORDS_PER_MINUTE;
+    }
+
+    /**
+     * Computes the statistics of a content.
+     *
+     * @param content the content, which may be {@code null}
+     * @return the statistics of the content, all zero with an empty excerpt if there is no content
+     */
+    public static ContentStats of(CharSequence content) {
+        if (content == null) {
+            return new ContentStats(0, 0, 0, "");
+        }
+
+        char[] excerpt = new char[EXCERPT_LENGTH];
+        int excerptLength = 0;
+        boolean truncated = false;
+
+        int characterCount = 0;
+        int wordCount = 0;
+        int paragraphCount = 0;
+        int lineBreaks = 0;
+        boolean inWord = false;
+
+        for (int i = 0, length = content.length(); i < length; i++) {
+            char c = content.charAt(i);
+            // A surrogate pair is a single code point
+            if (!Character.isLowSurrogate(c) || i == 0 || !Character.isHighSurrogate(content.charAt(i - 1))) {
+                characterCount++;
+            }
+
+            if (Character.isWhitespace(c)) {
+                inWord = false;
+                if (c == '\n') {
+                    lineBreaks++;
+                }
+                continue;
+            }
+
+            if (!inWord) {
+                inWord = true;
+                // Two line breaks between words leave a blank line, which starts a new paragraph
+                if (wordCount == 0 || lineBreaks >= 2) {
+                    paragraphCount++;
+                }
+                lineBreaks = 0;
+                if (wordCount++ > 0 && !truncated) {
+                    if (excerptLength < EXCERPT_LENGTH) {
+                        excerpt[excerptLength++] = ' ';
+                    } else {
+                        truncated = true;
+                    }
+                }
+            }
+            if (!truncated) {
+                if (excerptLength < EXCERPT_LENGTH) {
+                    excerpt[excerptLength++] = c;
+                } else {
+                    truncated = true;
+                }
+            }
+        }
+
+        if (truncated) {
+            int end = excerptLength - 1;
+            while (end > 0 && excerpt[end] != ' ') {
+                end--;
+            }
+            if (end == 0) {
+                end = EXCERPT_LENGTH - 1;
+            }
+            excerpt[end] = ELLIPSIS;
+            excerptLength = end + 1;
+        }
+        return new ContentStats(characterCount, wordCount, paragraphCount, new String(excerpt, 0, excerptLength));
+    }
+}
@@ -0,0 +1,92 @@
+package com.phirom_02.blog_api.domain;
+
+import com.phirom_02.blog_api.domain.dtos.PostSummary;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position inside a post listing ordered by {@code (createdAt DESC, id DESC)}.
+ * Clients only ever see the opaque, URL-safe string produced by {@link #encode()}.
+ * <p>
+ * Cursors compare in ascending key order, comparing IDs as unsigned numbers like PostgreSQL does,
+ * so a listing page after a cursor holds posts comparing lower than it.
+ *
+ * @param createdAt the creation time of the last post on the previous page
+ * @param id        the ID of the last post on the previous page
+ */
+public record PostCursor(Instant createdAt, UUID id) implements Comparable<PostCursor> {
+
+    /**
+     * Position before the newest possible post, used to request the first page with the same query.
+     */
+    public static final PostCursor FIRST = new PostCursor(
+            Instant.parse("9999-12-31T23:59:59Z"),
+            new UUID(-1L, -1L)
+    );
+
+    private static final int ENCODED_LENGTH = Long.BYTES + Integer.BYTES + 2 * Long.BYTES;
+
+    /**
+     * Creates the cursor pointing right after the given post.
+     *
+     * @param post the last post of a page
+     * @return the cursor of the next page
+     */
+    public static PostCursor after(PostSummary post) {
+        return new PostCursor(post.getCreatedAt(), post.getId());
+    }
+
+    @Override
+    public int compareTo(PostCursor other) {
+        int result = createdAt.compareTo(other.createdAt);
+        if (result != 0) {
+            return result;
+        }
+        result = Long.compareUnsigned(id.getMostSignificantBits(), other.id.getMostSignificantBits());
+        return result != 0 ? result : Long.compareUnsigned(id.getLeastSignificantBits(), other.id.getLeastSignificantBits());
+    }
+
+    /**
+     * Encodes the cursor into an opaque, URL-safe token.
+     *
+     * @return the encoded cursor
+     */
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_LENGTH)
+                .putLong(createdAt.getEpochSecond())
+                .putInt(createdAt.getNano())
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}. A {@code null} or blank token means the first page.
+     *
+     * @param token the encoded cursor
+     * @return the decoded cursor
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static PostCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return FIRST;
+        }
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(token);
+            if (bytes.length != ENCODED_LENGTH) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            Instant createdAt = Instant.ofEpochSecond(buffer.getLong(), buffer.getInt());
+            UUID id = new UUID(buffer.getLong(), buffer.getLong());
+            return new PostCursor(createdAt, id);
+        } catch (IllegalArgumentException | BufferUnderflowException | DateTimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.phirom_02.blog_api.domain;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position inside search results ordered by {@code (rank DESC, createdAt DESC, id DESC)}.
+ * Clients only ever see the opaque, URL-safe string produced by {@link #encode()}.
+ *
+ * @param rank      the relevance of the last result on the previous page
+ * @param createdAt the creation time of the last result on the previous page
+ * @param id        the ID of the last result on the previous page
+ */
+public record PostSearchCursor(float rank, Instant createdAt, UUID id) {
+
+    /**
+     * Position before the most relevant possible result, used to request the first page with the same query.
+     */
+    public static final PostSearchCursor FIRST = new PostSearchCursor(
+            Float.MAX_VALUE,
+            PostCursor.FIRST.createdAt(),
+            PostCursor.FIRST.id()
+    );
+
+    private static final int ENCODED_LENGTH = Float.BYTES + Long.BYTES + Integer.BYTES + 2 * Long.BYTES;
+
+    /**
+     * Encodes the cursor into an opaque, URL-safe token.
+     *
+     * @return the encoded cursor
+     */
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_LENGTH)
+                .putFloat(rank)
+                .putLong(createdAt.getEpochSecond())
+                .putInt(createdAt.getNano())
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}. A {@code null} or blank token means the first page.
+     *
+     * @param token the encoded cursor
+     * @return the decoded cursor
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static PostSearchCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return FIRST;
+        }
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(token);
+            if (bytes.length != ENCODED_LENGTH) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            float rank = buffer.getFloat();
+            Instant createdAt = Instant.ofEpochSecond(buffer.getLong(), buffer.getInt());
+            UUID id = new UUID(buffer.getLong(), buffer.getLong());
+            return new PostSearchCursor(rank, createdAt, id);
+        } catch (IllegalArgumentException | BufferUnderflowException | DateTimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+}
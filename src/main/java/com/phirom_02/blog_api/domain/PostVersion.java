@@ -0,0 +1,61 @@
+package com.phirom_02.blog_api.domain;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Version of a post, used to tell clients whether a post or a page of posts changed since they last fetched it.
+ * Every change of a post moves its {@code updatedAt} forward.
+ *
+ * @param id        the ID of the post
+ * @param updatedAt the last modification time of the post
+ */
+public record PostVersion(UUID id, Instant updatedAt) {
+
+    private static final int PAGE_TAG_BYTES = 16;
+
+    /**
+     * Returns an opaque tag that changes whenever the post changes.
+     *
+     * @return the tag of this version
+     */
+    public String tag() {
+        return id + "-" + Long.toHexString(ChronoUnit.MICROS.between(Instant.EPOCH, updatedAt));
+    }
+
+    /**
+     * Returns an opaque tag that changes whenever a post of a page changes, or the posts in the page change.
+     *
+     * @param page    the versions of the posts of the page, in page order
+     * @param hasMore whether there is a next page
+     * @return the tag of the page
+     */
+    public static String tagOf(List<PostVersion> page, boolean hasMore) {
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = ByteBuffer.allocate(3 * Long.BYTES);
+        for (PostVersion version : page) {
+            buffer.clear();
+            buffer.putLong(version.id.getMostSignificantBits())
+                    .putLong(version.id.getLeastSignificantBits())
+                    .putLong(ChronoUnit.MICROS.between(Instant.EPOCH, version.updatedAt));
+            digest.update(buffer.array());
+        }
+        digest.update((byte) (hasMore ? 1 : 0));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest.digest(), PAGE_TAG_BYTES));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.phirom_02.blog_api.domain;
+
+import java.util.UUID;
+
+/**
+ * Immutable reference to a tag, cached in place of the entity so lookups by ID never share a managed entity
+ * between transactions.
+ *
+ * @param id   the ID of the tag
+ * @param name the name of the tag
+ */
+public record TagRef(UUID id, String name) {
+}
@@ -6,7 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 /**
- * DTO representing an authentication response, containing the JWT token.
+ * DTO representing an authentication response, containing the JWT access token and the refresh token to renew it.
  */
 @Data
 @AllArgsConstructor
@@ -15,4 +15,6 @@ import lombok.NoArgsConstructor;
 public class AuthResponse {
 
     private String token;
+
+    private String refreshToken;
 }
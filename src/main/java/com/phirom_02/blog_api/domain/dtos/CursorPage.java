@@ -0,0 +1,23 @@
+package com.phirom_02.blog_api.domain.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO representing one page of a cursor-paginated listing.
+ * {@code nextCursor} is {@code null} when there are no more items.
+ *
+ * @param <T> the type of the items in the page
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> items;
+    private String nextCursor;
+}
@@ -0,0 +1,21 @@
+package com.phirom_02.blog_api.domain.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * DTO representing a reference to the category of a blog post.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PostCategory {
+
+    private UUID id;
+    private String name;
+}
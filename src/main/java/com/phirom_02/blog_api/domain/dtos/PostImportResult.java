@@ -0,0 +1,40 @@
+package com.phirom_02.blog_api.domain.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO representing the outcome of a bulk post import.
+ * Records listed in {@code errors} were skipped; every other record was imported.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostImportResult {
+    private int imported;
+
+    @Builder.Default
+    private List<RecordError> errors = new ArrayList<>();
+
+    /**
+     * Why a record of the import was skipped.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RecordError {
+        /**
+         * The 1-based line number of the record in the import.
+         */
+        private long line;
+        private String message;
+        private List<ApiErrorResponse.FieldError> details;
+    }
+}
@@ -23,10 +23,14 @@ public class PostResponse {
     private String title;
     private String content;
     private PostAuthor author;
-    private CategoryResponse category;
-    private Set<TagResponse> tags;
+    private PostCategory category;
+    private Set<PostTag> tags;
     private int readingTime;
+    private int characterCount;
+    private int wordCount;
+    private int paragraphCount;
     private PostStatus status;
+    private long viewCount;
     private Instant createdAt;
     private Instant updatedAt;
 }
@@ -0,0 +1,35 @@
+package com.phirom_02.blog_api.domain.dtos;
+
+import com.phirom_02.blog_api.domain.PostStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * DTO representing a blog post in a listing.
+ * Carries an excerpt instead of the full content, which is only returned by {@link PostResponse}.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PostSummary {
+    private UUID id;
+    private String title;
+    private String excerpt;
+    private PostAuthor author;
+    private PostCategory category;
+    private Set<PostTag> tags;
+    private int readingTime;
+    private int characterCount;
+    private int wordCount;
+    private int paragraphCount;
+    private PostStatus status;
+    private Instant createdAt;
+    private Instant updatedAt;
+}
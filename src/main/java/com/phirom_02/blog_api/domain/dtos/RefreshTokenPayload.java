@@ -0,0 +1,21 @@
+package com.phirom_02.blog_api.domain.dtos;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a token refresh request.
+ * Contains the refresh token to exchange for new tokens.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class RefreshTokenPayload {
+
+    @NotBlank(message = "Refresh token is required")
+    private String refreshToken;
+}
@@ -1,10 +1,13 @@
 package com.phirom_02.blog_api.domain.entities;
 
+import com.phirom_02.blog_api.domain.ContentStats;
 import com.phirom_02.blog_api.domain.PostStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
@@ -13,9 +16,7 @@ import java.util.UUID;
  * Entity representing a blog post.
  */
 @Entity
-@Table(name = "posts", indexes = {
-        @Index(name = "idx_post_status", columnList = "status")
-})
+@Table(name = "posts")
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -23,6 +24,11 @@ import java.util.UUID;
 @Builder
 public class Post {
 
+    /**
+     * Maximum length of {@link #excerpt}, so listings never have to read {@link #content}.
+     */
+    public static final int EXCERPT_LENGTH = ContentStats.EXCERPT_LENGTH;
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
@@ -33,6 +39,9 @@ public class Post {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String content;
 
+    @Column(length = EXCERPT_LENGTH)
+    private String excerpt;
+
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
     private PostStatus status;
@@ -40,6 +49,22 @@ public class Post {
     @Column(nullable = false)
     private Integer readingTime;
 
+    /**
+     * Statistics of {@link #content}, kept up to date along with {@link #excerpt} and {@link #readingTime}
+     * by {@link #setContent(String)}, so listings never have to read the content.
+     */
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private int characterCount;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private int wordCount;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private int paragraphCount;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id", nullable = false)
     private User author;
@@ -62,6 +87,15 @@ public class Post {
     @Column(nullable = false)
     private Instant updatedAt;
 
+    /**
+     * Modification time as last read from or written to the database, so {@link #onUpdate()} can tell whether
+     * {@link #touch()} already moved it forward.
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Instant storedUpdatedAt;
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -75,14 +109,55 @@ public class Post {
         return Objects.hash(id, title, content, status, readingTime, createdAt, updatedAt);
     }
 
+    /**
+     * Sets the content of the post and computes its statistics, excerpt and reading time.
+     *
+     * @param content the content of the post
+     */
+    public void setContent(String content) {
+        this.content = content;
+        ContentStats stats = ContentStats.of(content);
+        this.characterCount = stats.characterCount();
+        this.wordCount = stats.wordCount();
+        this.paragraphCount = stats.paragraphCount();
+        this.excerpt = stats.excerpt();
+        this.readingTime = stats.readingTime();
+    }
+
     @PrePersist
     protected void onCreate() {
-        this.createdAt = Instant.now();
-        this.updatedAt = Instant.now();
+        // PostgreSQL keeps microseconds, so the saved entity must not differ from what is read back.
+        // Seed data sets its own creation time.
+        if (this.createdAt == null) {
+            this.createdAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        }
+        this.updatedAt = this.createdAt;
+        // Posts built without setContent, such as by the builder, have no statistics yet
+        if (this.excerpt == null) {
+            setContent(content);
+        }
+    }
+
+    /**
+     * Moves the modification time of the post forward, so its version changes even when only its tags change, which
+     * leaves its row unchanged. The time is kept when the row is then updated, so the post returned before the
+     * flush carries the time that gets stored.
+     */
+    public void touch() {
+        this.updatedAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
     }
 
     @PreUpdate
     protected void onUpdate() {
-        this.updatedAt = Instant.now();
+        if (Objects.equals(this.updatedAt, this.storedUpdatedAt)) {
+            touch();
+        }
+    }
+
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    protected void onStored() {
+        this.storedUpdatedAt = this.updatedAt;
     }
 }
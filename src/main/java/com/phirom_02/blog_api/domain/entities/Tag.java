@@ -2,6 +2,7 @@ package com.phirom_02.blog_api.domain.entities;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -30,6 +31,14 @@ public class Tag {
     @ManyToMany(mappedBy = "tags")
     private List<Post> posts = new ArrayList<>();
 
+    /**
+     * Number of published posts with this tag, maintained by the post service and repaired by
+     * {@link com.phirom_02.blog_api.jobs.PublishedPostCountReconciler}.
+     */
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long publishedPostCount;
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,11 @@
+package com.phirom_02.blog_api.domain.events;
+
+import java.util.UUID;
+
+/**
+ * Published by the category service when a category is deleted.
+ *
+ * @param categoryId the ID of the deleted category
+ */
+public record CategoryDeletedEvent(UUID categoryId) {
+}
@@ -0,0 +1,93 @@
+package com.phirom_02.blog_api.domain.events;
+
+import com.phirom_02.blog_api.domain.PostStatus;
+import com.phirom_02.blog_api.domain.entities.Post;
+import com.phirom_02.blog_api.domain.entities.Tag;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Published by the post service whenever a post is created, updated or deleted.
+ *
+ * @param postId    the ID of the post that changed
+ * @param createdAt the creation time of the post, which fixes its position in the listings
+ * @param post      the post as it was saved, or {@code null} if it was deleted
+ * @param before    where the post was listed before the change
+ * @param after     where the post is listed after the change
+ */
+public record PostChangedEvent(UUID postId, Instant createdAt, Post post, Placement before, Placement after) {
+
+    /**
+     * Creates the event of a post that was created or updated.
+     *
+     * @param post   the saved post
+     * @param before where the post was listed before it was saved, {@link Placement#NONE} for a new post
+     * @return the event
+     */
+    public static PostChangedEvent saved(Post post, Placement before) {
+        return new PostChangedEvent(post.getId(), post.getCreatedAt(), post, before, Placement.of(post));
+    }
+
+    /**
+     * Creates the event of a post that was deleted.
+     *
+     * @param post the deleted post
+     * @return the event
+     */
+    public static PostChangedEvent deleted(Post post) {
+        return new PostChangedEvent(post.getId(), post.getCreatedAt(), null, Placement.of(post), Placement.NONE);
+    }
+
+    public boolean isDeleted() {
+        return post == null;
+    }
+
+    /**
+     * The published listings a post appears in: none unless it is published, otherwise the unfiltered listing
+     * and the listings filtered by its category and by each of its tags.
+     *
+     * @param published  whether the post is published
+     * @param categoryId the ID of the category of the post, or {@code null}
+     * @param tagIds     the IDs of the tags of the post
+     */
+    public record Placement(boolean published, UUID categoryId, Set<UUID> tagIds) {
+
+        /**
+         * Placement of a post that is not listed anywhere.
+         */
+        public static final Placement NONE = new Placement(false, null, Set.of());
+
+        /**
+         * Returns the current placement of a post.
+         *
+         * @param post the post
+         * @return where the post is listed
+         */
+        public static Placement of(Post post) {
+            if (post.getStatus() != PostStatus.PUBLISHED) {
+                return NONE;
+            }
+            UUID categoryId = post.getCategory() == null ? null : post.getCategory().getId();
+            Set<UUID> tagIds = post.getTags() == null
+                    ? Set.of()
+                    : post.getTags().stream().map(Tag::getId).collect(Collectors.toUnmodifiableSet());
+            return new Placement(true, categoryId, tagIds);
+        }
+
+        /**
+         * Returns whether the post appears in the published listing with the given filters.
+         *
+         * @param categoryId the category filter of the listing (optional)
+         * @param tagId      the tag filter of the listing (optional)
+         * @return whether the listing includes the post
+         */
+        public boolean isListedIn(UUID categoryId, UUID tagId) {
+            return published
+                    && (categoryId == null || categoryId.equals(this.categoryId))
+                    && (tagId == null || tagIds.contains(tagId));
+        }
+    }
+}
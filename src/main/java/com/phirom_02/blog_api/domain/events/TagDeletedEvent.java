@@ -0,0 +1,11 @@
+package com.phirom_02.blog_api.domain.events;
+
+import java.util.UUID;
+
+/**
+ * Published by the tag service when a tag is deleted.
+ *
+ * @param tagId the ID of the deleted tag
+ */
+public record TagDeletedEvent(UUID tagId) {
+}
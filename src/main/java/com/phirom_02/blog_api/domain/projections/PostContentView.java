@@ -0,0 +1,20 @@
+package com.phirom_02.blog_api.domain.projections;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Projection of the searchable fields of a post.
+ */
+public interface PostContentView {
+
+    UUID getId();
+
+    String getTitle();
+
+    String getContent();
+
+    Instant getCreatedAt();
+
+    UUID getCategoryId();
+}
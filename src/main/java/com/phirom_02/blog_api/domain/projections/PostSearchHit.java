@@ -0,0 +1,14 @@
+package com.phirom_02.blog_api.domain.projections;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A post matching a search query, with its relevance.
+ *
+ * @param id        the ID of the post
+ * @param rank      the relevance of the post, higher is better
+ * @param createdAt the creation time of the post
+ */
+public record PostSearchHit(UUID id, float rank, Instant createdAt) {
+}
@@ -0,0 +1,41 @@
+package com.phirom_02.blog_api.domain.projections;
+
+import com.phirom_02.blog_api.domain.PostStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Projection of the columns of a post shown in listings.
+ * Deliberately has no accessor for the content, so listing queries never read it.
+ */
+public interface PostSummaryView {
+
+    UUID getId();
+
+    String getTitle();
+
+    String getExcerpt();
+
+    Integer getReadingTime();
+
+    Integer getCharacterCount();
+
+    Integer getWordCount();
+
+    Integer getParagraphCount();
+
+    PostStatus getStatus();
+
+    Instant getCreatedAt();
+
+    Instant getUpdatedAt();
+
+    UUID getAuthorId();
+
+    String getAuthorName();
+
+    UUID getCategoryId();
+
+    String getCategoryName();
+}
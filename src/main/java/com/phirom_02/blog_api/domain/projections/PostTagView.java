@@ -0,0 +1,15 @@
+package com.phirom_02.blog_api.domain.projections;
+
+import java.util.UUID;
+
+/**
+ * Projection of a tag attached to a post.
+ */
+public interface PostTagView {
+
+    UUID getPostId();
+
+    UUID getId();
+
+    String getName();
+}
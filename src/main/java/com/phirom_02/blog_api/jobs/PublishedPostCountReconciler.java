@@ -0,0 +1,40 @@
+package com.phirom_02.blog_api.jobs;
+
+import com.phirom_02.blog_api.domain.PostStatus;
+import com.phirom_02.blog_api.repository.CategoryRepository;
+import com.phirom_02.blog_api.repository.TagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Periodically repairs the published post counts stored on categories and tags.
+ * The counts are maintained incrementally by the post service; this job recomputes them from the posts table
+ * to fix any drift, e.g. after posts were written directly to the database.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PublishedPostCountReconciler {
+
+    private final CategoryRepository categoryRepository;
+    private final TagRepository tagRepository;
+
+    /**
+     * Recomputes the published post count of every category and tag whose stored count is wrong.
+     */
+    @Scheduled(
+            initialDelayString = "${published_post_count.reconciliation_interval}",
+            fixedDelayString = "${published_post_count.reconciliation_interval}"
+    )
+    @Transactional
+    public void reconcile() {
+        int categories = categoryRepository.reconcilePublishedPostCounts(PostStatus.PUBLISHED);
+        int tags = tagRepository.reconcilePublishedPostCounts(PostStatus.PUBLISHED);
+        if (categories > 0 || tags > 0) {
+            log.warn("Repaired published post counts of {} categories and {} tags", categories, tags);
+        }
+    }
+}
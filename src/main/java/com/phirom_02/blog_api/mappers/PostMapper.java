@@ -1,11 +1,19 @@
 package com.phirom_02.blog_api.mappers;
 
+import com.phirom_02.blog_api.domain.CategoryRef;
+import com.phirom_02.blog_api.domain.UserRef;
 import com.phirom_02.blog_api.domain.dtos.*;
+import com.phirom_02.blog_api.domain.entities.Category;
 import com.phirom_02.blog_api.domain.entities.Post;
+import com.phirom_02.blog_api.domain.entities.Tag;
+import com.phirom_02.blog_api.domain.projections.PostSummaryView;
+import com.phirom_02.blog_api.domain.projections.PostTagView;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.ReportingPolicy;
 
+import java.util.Set;
+
 /**
  * Mapper interface for converting between different representations of a post,
  */
@@ -15,6 +23,7 @@ public interface PostMapper {
     /**
      * Maps a {@link Post} entity to a {@link PostResponse} DTO.
      * Converts a post entity to a response format, including author, category, and tags.
+     * Category and tags are mapped to plain references, so their post collections are never loaded.
      *
      * @param post the post entity to convert
      * @return the corresponding {@link PostResponse} DTO
@@ -24,6 +33,113 @@ public interface PostMapper {
     @Mapping(target = "tags", source = "tags")
     PostResponse toPostResponse(Post post);
 
+    /**
+     * Maps a {@link Post} entity and its already loaded tags to a {@link PostResponse} DTO,
+     * leaving the tag collection of the post untouched.
+     *
+     * @param post the post entity to convert
+     * @param tags the tags of the post
+     * @return the corresponding {@link PostResponse} DTO
+     */
+    @Mapping(target = "author", source = "post.author")
+    @Mapping(target = "category", source = "post.category")
+    @Mapping(target = "tags", source = "tags")
+    PostResponse toPostResponse(Post post, Set<PostTag> tags);
+
+    /**
+     * Maps a {@link Post} entity to a {@link PostResponse} DTO with the given author and category, so the author and
+     * category of the post, which may be references that were never loaded, are not read.
+     *
+     * @param post     the post entity to convert
+     * @param author   the author of the post
+     * @param category the category of the post
+     * @return the corresponding {@link PostResponse} DTO
+     */
+    @Mapping(target = "id", source = "post.id")
+    @Mapping(target = "author", source = "author")
+    @Mapping(target = "category", source = "category")
+    @Mapping(target = "tags", source = "post.tags")
+    PostResponse toPostResponse(Post post, UserRef author, CategoryRef category);
+
+    /**
+     * Maps a {@link Category} entity to a {@link PostCategory} reference.
+     *
+     * @param category the category of a post
+     * @return the corresponding {@link PostCategory} DTO
+     */
+    PostCategory toPostCategory(Category category);
+
+    /**
+     * Maps a {@link Tag} entity to a {@link PostTag} reference.
+     *
+     * @param tag a tag of a post
+     * @return the corresponding {@link PostTag} DTO
+     */
+    PostTag toPostTag(Tag tag);
+
+    /**
+     * Maps a {@link PostSummaryView} projection and its tags to a {@link PostSummary} DTO.
+     *
+     * @param view the projected post
+     * @param tags the tags of the post
+     * @return the corresponding {@link PostSummary} DTO
+     */
+    @Mapping(target = "author", source = "view")
+    @Mapping(target = "category", source = "view")
+    @Mapping(target = "tags", source = "tags")
+    PostSummary toPostSummary(PostSummaryView view, Set<PostTag> tags);
+
+    /**
+     * Maps a {@link PostTagView} projection to a {@link PostTag} reference.
+     *
+     * @param view the projected tag
+     * @return the corresponding {@link PostTag} DTO
+     */
+    PostTag toPostTag(PostTagView view);
+
+    /**
+     * Builds the author reference of a projected post.
+     *
+     * @param view the projected post
+     * @return the corresponding {@link PostAuthor} DTO
+     */
+    default PostAuthor toPostAuthor(PostSummaryView view) {
+        return new PostAuthor(view.getAuthorId(), view.getAuthorName());
+    }
+
+    /**
+     * Builds the category reference of a projected post.
+     *
+     * @param view the projected post
+     * @return the corresponding {@link PostCategory} DTO, or {@code null} if the post has no category
+     */
+    default PostCategory toPostCategory(PostSummaryView view) {
+        if (view.getCategoryId() == null) {
+            return null;
+        }
+        return new PostCategory(view.getCategoryId(), view.getCategoryName());
+    }
+
+    /**
+     * Builds the author reference of a post from the cached reference of its author.
+     *
+     * @param author the author of the post
+     * @return the corresponding {@link PostAuthor} DTO
+     */
+    default PostAuthor toPostAuthor(UserRef author) {
+        return new PostAuthor(author.id(), author.name());
+    }
+
+    /**
+     * Builds the category reference of a post from the cached reference of its category.
+     *
+     * @param category the category of the post
+     * @return the corresponding {@link PostCategory} DTO
+     */
+    default PostCategory toPostCategory(CategoryRef category) {
+        return new PostCategory(category.id(), category.name());
+    }
+
     /**
      * Maps a {@link CreatePostPayload} to a {@link CreatePostDto}.
      * Converts the raw post creation data from the client into a DTO suitable for further processing.
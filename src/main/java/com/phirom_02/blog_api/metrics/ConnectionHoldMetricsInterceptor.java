@@ -0,0 +1,39 @@
+package com.phirom_02.blog_api.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records how long each request holds database connections, per controller method. A hold time close to the latency
+ * of the request means the connection is kept while the response is assembled or written.
+ */
+@RequiredArgsConstructor
+public class ConnectionHoldMetricsInterceptor implements HandlerInterceptor {
+
+    private final ConnectionHoldTimer connectionHoldTimer;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        connectionHoldTimer.start();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        long heldNanos = connectionHoldTimer.stop();
+        if (heldNanos >= 0) {
+            Timer.builder("http.server.requests.connection.hold")
+                    .description("Time a request holds database connections")
+                    .tag("handler", Handlers.nameOf(handler))
+                    .register(meterRegistry)
+                    .record(heldNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.phirom_02.blog_api.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Adds up how long Hibernate holds JDBC connections on the current thread between {@link #start()} and
+ * {@link #stop()}, from their acquisition to their release. Connections held on other threads, such as those of a
+ * streamed response, are not counted.
+ * <p>
+ * Registered with {@code hibernate.session.events.auto}, so Hibernate creates one instance per session.
+ */
+public class ConnectionHoldTimer implements SessionEventListener {
+
+    private static final ThreadLocal<long[]> HELD_NANOS = new ThreadLocal<>();
+
+    private long acquiredAt;
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        acquiredAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcConnectionReleaseStart() {
+        long[] heldNanos = HELD_NANOS.get();
+        if (heldNanos != null && acquiredAt != 0) {
+            heldNanos[0] += System.nanoTime() - acquiredAt;
+        }
+        acquiredAt = 0;
+    }
+
+    /**
+     * Starts timing the connections held on the current thread.
+     */
+    public void start() {
+        HELD_NANOS.set(new long[1]);
+    }
+
+    /**
+     * Stops timing the connections held on the current thread.
+     *
+     * @return the nanoseconds connections were held since {@link #start()}, or {@code -1} if timing was not started
+     */
+    public long stop() {
+        long[] heldNanos = HELD_NANOS.get();
+        HELD_NANOS.remove();
+        return heldNanos == null ? -1 : heldNanos[0];
+    }
+}
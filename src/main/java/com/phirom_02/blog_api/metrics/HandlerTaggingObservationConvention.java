@@ -0,0 +1,19 @@
+package com.phirom_02.blog_api.metrics;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+
+/**
+ * Tags the {@code http.server.requests} metrics with the controller method handling the request, so their latency
+ * histograms are split per controller method.
+ */
+public class HandlerTaggingObservationConvention extends DefaultServerRequestObservationConvention {
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        return super.getLowCardinalityKeyValues(context)
+                .and(KeyValue.of("handler", Handlers.nameOf(context.getCarrier())));
+    }
+}
@@ -0,0 +1,31 @@
+package com.phirom_02.blog_api.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Names the controller method handling a request, to tag its metrics.
+ */
+final class Handlers {
+
+    static final String NONE = "none";
+
+    private Handlers() {
+    }
+
+    /**
+     * Returns the name of the controller method handling a request, such as {@code PostController.getAllPosts},
+     * or {@code none} if no controller method matched it.
+     */
+    static String nameOf(Object handler) {
+        if (handler instanceof HandlerMethod method) {
+            return method.getBeanType().getSimpleName() + "." + method.getMethod().getName();
+        }
+        return NONE;
+    }
+
+    static String nameOf(HttpServletRequest request) {
+        return request == null ? NONE : nameOf(request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE));
+    }
+}
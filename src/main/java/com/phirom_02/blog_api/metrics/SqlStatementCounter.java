@@ -0,0 +1,39 @@
+package com.phirom_02.blog_api.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread between {@link #start()} and {@link #stop()}.
+ * Statements prepared on other threads, such as those of a streamed response, are not counted.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    /**
+     * Starts counting the statements of the current thread.
+     */
+    public void start() {
+        COUNT.set(new int[1]);
+    }
+
+    /**
+     * Stops counting the statements of the current thread.
+     *
+     * @return the number of statements since {@link #start()}, or {@code -1} if counting was not started
+     */
+    public int stop() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count == null ? -1 : count[0];
+    }
+}
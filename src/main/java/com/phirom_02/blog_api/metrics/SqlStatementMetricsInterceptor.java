@@ -0,0 +1,37 @@
+package com.phirom_02.blog_api.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Records the number of SQL statements run by each request, per controller method, so a request suddenly running
+ * more queries shows up before its latency does.
+ */
+@RequiredArgsConstructor
+public class SqlStatementMetricsInterceptor implements HandlerInterceptor {
+
+    private final SqlStatementCounter sqlStatementCounter;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        sqlStatementCounter.start();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        int statements = sqlStatementCounter.stop();
+        if (statements >= 0) {
+            DistributionSummary.builder("http.server.requests.sql.statements")
+                    .description("Number of SQL statements run by a request")
+                    .tag("handler", Handlers.nameOf(handler))
+                    .register(meterRegistry)
+                    .record(statements);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.phirom_02.blog_api.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * JSON message converter timing the serialization of every response body, with a {@code json.serialization} timer
+ * per body type. The time includes writing the JSON to the response buffer.
+ */
+public class TimedJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    /**
+     * Name of the timers of JSON serializations, tagged with the serialized type.
+     */
+    public static final String SERIALIZATION_TIMER = "json.serialization";
+
+    private final MeterRegistry meterRegistry;
+
+    public TimedJsonHttpMessageConverter(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        super(objectMapper);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException, HttpMessageNotWritableException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            sample.stop(serializationTimer(meterRegistry, type != null ? ResolvableType.forType(type) : ResolvableType.forInstance(object)));
+        }
+    }
+
+    /**
+     * Returns the timer of the serializations of a type, tagged with its simple name, such as
+     * {@code CursorPage<PostSummary>}.
+     */
+    public static Timer serializationTimer(MeterRegistry meterRegistry, ResolvableType type) {
+        return Timer.builder(SERIALIZATION_TIMER)
+                .description("Time spent serializing a value to JSON")
+                .tag("type", nameOf(type))
+                .register(meterRegistry);
+    }
+
+    private static String nameOf(ResolvableType type) {
+        String name = type.toClass().getSimpleName();
+        if (!type.hasGenerics()) {
+            return name;
+        }
+        return Arrays.stream(type.getGenerics())
+                .map(TimedJsonHttpMessageConverter::nameOf)
+                .collect(Collectors.joining(",", name + "<", ">"));
+    }
+}
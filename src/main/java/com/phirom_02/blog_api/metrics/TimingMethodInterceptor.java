@@ -0,0 +1,41 @@
+package com.phirom_02.blog_api.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Times every call to the methods of a proxied bean, with a timer per method.
+ */
+public class TimingMethodInterceptor implements MethodInterceptor {
+
+    private final String name;
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, Timer> timers = new ConcurrentHashMap<>();
+
+    /**
+     * @param name          the name of the timers, tagged with the method
+     * @param meterRegistry the registry of the timers
+     */
+    public TimingMethodInterceptor(String name, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return invocation.proceed();
+        } finally {
+            sample.stop(timers.computeIfAbsent(invocation.getMethod(), method -> Timer.builder(name)
+                    .tag("method", method.getName())
+                    .register(meterRegistry)));
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package com.phirom_02.blog_api.repository;
 
+import com.phirom_02.blog_api.domain.PostStatus;
 import com.phirom_02.blog_api.domain.entities.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
 import java.util.UUID;
 
 /**
@@ -15,13 +17,40 @@ import java.util.UUID;
 public interface CategoryRepository extends JpaRepository<Category, UUID> {
 
     /**
-     * Fetches all categories along with their associated posts.
-     * This query uses a LEFT JOIN FETCH to eagerly load the related posts for each category.
+     * Adds the given delta to the published post count of a category.
      *
-     * @return a list of categories with their associated posts
+     * @param id    the ID of the category
+     * @param delta the number of published posts added (positive) or removed (negative)
+     * @return the number of updated categories
      */
-    @Query("SELECT c FROM Category c LEFT JOIN FETCH c.posts")
-    List<Category> findAllWithPostCount();
+    @Modifying
+    @Query("UPDATE Category c SET c.publishedPostCount = c.publishedPostCount + :delta WHERE c.id = :id")
+    int incrementPublishedPostCount(@Param("id") UUID id, @Param("delta") long delta);
+
+    /**
+     * Recomputes the published post count of every category whose stored count has drifted.
+     * <p>
+     * The counts are read from the snapshot the statement starts with, so a post committed after it is not counted.
+     * A category whose stored count was adjusted since, by the post service, is skipped rather than set to the
+     * outdated count: its row is checked again once locked, and must still hold the count read from the snapshot.
+     * It is repaired by the next run if it still drifts.
+     *
+     * @param status the status of the counted posts
+     * @return the number of repaired categories
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE categories c
+            SET published_post_count = counted.actual
+            FROM (SELECT c2.id,
+                         c2.published_post_count AS stored,
+                         (SELECT COUNT(*) FROM posts p WHERE p.category_id = c2.id AND p.status = :#{#status.name()}) AS actual
+                  FROM categories c2) counted
+            WHERE c.id = counted.id
+              AND counted.stored <> counted.actual
+              AND c.published_post_count = counted.stored
+            """, nativeQuery = true)
+    int reconcilePublishedPostCounts(@Param("status") PostStatus status);
 
     /**
      * Find a category by name
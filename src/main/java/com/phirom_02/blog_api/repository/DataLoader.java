@@ -1,29 +1,73 @@
 package com.phirom_02.blog_api.repository;
 
-import lombok.RequiredArgsConstructor;
+import com.phirom_02.blog_api.jobs.PublishedPostCountReconciler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+/**
+ * Loads the seed data on startup, unless posts were already loaded. Posts come from the JSON files in
+ * {@code /data}, or from the {@link SyntheticDataGenerator} when {@code seed_data.source} is {@code synthetic}.
+ */
 @Component
-@RequiredArgsConstructor
 @Profile("!integration")
+@ConditionalOnProperty(name = "seed_data.enabled", havingValue = "true")
 public class DataLoader implements CommandLineRunner {
 
+    private static final Logger log = LoggerFactory.getLogger(DataLoader.class);
+
     private final PostDataLoader postDataLoader;
     private final UserDataLoader userDataLoader;
     private final TagDataLoader tagDataLoader;
     private final CategoryDataLoader categoryDataLoader;
+    private final SyntheticDataGenerator syntheticDataGenerator;
+    private final PostRepository postRepository;
+    private final PublishedPostCountReconciler publishedPostCountReconciler;
+    private final String source;
+
+    public DataLoader(
+            PostDataLoader postDataLoader,
+            UserDataLoader userDataLoader,
+            TagDataLoader tagDataLoader,
+            CategoryDataLoader categoryDataLoader,
+            SyntheticDataGenerator syntheticDataGenerator,
+            PostRepository postRepository,
+            PublishedPostCountReconciler publishedPostCountReconciler,
+            @Value("${seed_data.source}") String source
+    ) {
+        this.postDataLoader = postDataLoader;
+        this.userDataLoader = userDataLoader;
+        this.tagDataLoader = tagDataLoader;
+        this.categoryDataLoader = categoryDataLoader;
+        this.syntheticDataGenerator = syntheticDataGenerator;
+        this.postRepository = postRepository;
+        this.publishedPostCountReconciler = publishedPostCountReconciler;
+        this.source = source;
+    }
 
     @Override
     public void run(String... args) {
-        System.out.println("⏳ Loading seed data...");
+        if (postRepository.count() > 0) {
+            log.info("Seed data already loaded");
+            return;
+        }
+        log.info("Loading seed data");
 
         tagDataLoader.load();
         categoryDataLoader.load();
-        userDataLoader.load();
-        postDataLoader.load();
+        if ("synthetic".equals(source)) {
+            syntheticDataGenerator.generate();
+        } else {
+            userDataLoader.load();
+            postDataLoader.load();
+        }
+        // Seed posts bypass the post service, so count them in one pass afterwards
+        publishedPostCountReconciler.reconcile();
 
-        System.out.println("✅ Data loaded successfully.");
+        log.info("Seed data loaded");
     }
 }
@@ -1,72 +1,132 @@
 package com.phirom_02.blog_api.repository;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.phirom_02.blog_api.domain.PostStatus;
 import com.phirom_02.blog_api.domain.entities.Category;
 import com.phirom_02.blog_api.domain.entities.Post;
 import com.phirom_02.blog_api.domain.entities.Tag;
 import com.phirom_02.blog_api.domain.entities.User;
-import lombok.RequiredArgsConstructor;
-import org.springframework.asm.TypeReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
 import java.io.InputStream;
-import java.util.*;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
 
+/**
+ * Loads the seed posts from {@code /data/posts.json}, giving each a random author, category and two random tags.
+ * <p>
+ * The file is read with a streaming parser one post at a time, and the posts are written in batches of
+ * {@code seed_data.batch_size} by the {@link SeedBatchWriter}, so neither the file nor the posts are ever
+ * held in memory as a whole.
+ */
 @Component
-@RequiredArgsConstructor
 public class PostDataLoader {
 
+    private static final Logger log = LoggerFactory.getLogger(PostDataLoader.class);
+
+    private static final String POSTS_JSON = "/data/posts.json";
+
     private final ObjectMapper objectMapper;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
     private final TagRepository tagRepository;
+    private final SeedBatchWriter seedBatchWriter;
+    private final int batchSize;
 
-    public void load() {
-        Random random = new Random();
-        String postsJson = "/data/posts.json";
-        List<Post> posts;
+    public PostDataLoader(
+            ObjectMapper objectMapper,
+            PostRepository postRepository,
+            UserRepository userRepository,
+            CategoryRepository categoryRepository,
+            TagRepository tagRepository,
+            SeedBatchWriter seedBatchWriter,
+            @Value("${seed_data.batch_size}") int batchSize
+    ) {
+        this.objectMapper = objectMapper;
+        this.postRepository = postRepository;
+        this.userRepository = userRepository;
+        this.categoryRepository = categoryRepository;
+        this.tagRepository = tagRepository;
+        this.seedBatchWriter = seedBatchWriter;
+        this.batchSize = batchSize;
+    }
 
-        try (InputStream inputStream = TypeReference.class.getResourceAsStream(postsJson)) {
-            PostList postList = objectMapper.readValue(inputStream, PostList.class);
-            posts = postList.posts.stream().map(dto -> {
-                Post post = new Post();
-                post.setTitle(dto.title);
-                post.setContent(dto.content);
-                return post;
-            }).toList();
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to load posts from " + postsJson, e);
+    public void load() {
+        if (postRepository.count() > 0) {
+            return;
         }
+        log.info("Loading post data from {}", POSTS_JSON);
 
-
+        Random random = new Random();
         List<User> users = userRepository.findAll();
         List<Category> categories = categoryRepository.findAll();
         List<Tag> tags = tagRepository.findAll();
 
-        posts.forEach(post -> {
-            User author = users.get(random.nextInt(users.size()));
-            Category category = categories.get(random.nextInt(categories.size()));
-            Set<Tag> randomTags = new HashSet<>();
-            Collections.shuffle(tags);
-            randomTags.addAll(tags.subList(0, 2)); // pick 2 random tags
+        try (InputStream inputStream = PostDataLoader.class.getResourceAsStream(POSTS_JSON);
+             JsonParser parser = objectMapper.createParser(inputStream)) {
+            moveToPosts(parser);
+            List<Post> batch = new ArrayList<>(batchSize);
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                PostSeedDto dto = parser.readValueAs(PostSeedDto.class);
 
-            post.setAuthor(author);
-            post.setCategory(category);
-            post.setTags(randomTags);
+                Post post = new Post();
+                post.setTitle(dto.title());
+                post.setContent(dto.content());
+                post.setAuthor(users.get(random.nextInt(users.size())));
+                post.setCategory(categories.get(random.nextInt(categories.size())));
+                post.setTags(twoRandomTags(tags, random));
+                post.setStatus(PostStatus.PUBLISHED);
+                batch.add(post);
 
-            // Optional: Add reading time and status
-            post.setStatus(PostStatus.PUBLISHED);
-            post.setReadingTime(3 + random.nextInt(8)); // 3–10 mins
-        });
+                if (batch.size() == batchSize) {
+                    seedBatchWriter.persistAll(batch);
+                    batch.clear();
+                }
+            }
+            seedBatchWriter.persistAll(batch);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load posts from " + POSTS_JSON, e);
+        }
+    }
 
-        postRepository.saveAll(posts);
+    /**
+     * Advances the parser to the start of the {@code posts} array.
+     */
+    private static void moveToPosts(JsonParser parser) throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null) {
+            if (token == JsonToken.FIELD_NAME && "posts".equals(parser.currentName())) {
+                if (parser.nextToken() == JsonToken.START_ARRAY) {
+                    return;
+                }
+                break;
+            }
+        }
+        throw new IOException("No array of posts in " + POSTS_JSON);
     }
 
-    private record PostSeedDto(String title, String content) {
+    /**
+     * Picks two distinct tags without reordering the list.
+     */
+    private static Set<Tag> twoRandomTags(List<Tag> tags, Random random) {
+        int first = random.nextInt(tags.size());
+        int second = random.nextInt(tags.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        return new HashSet<>(List.of(tags.get(first), tags.get(second)));
     }
 
-    private record PostList(List<PostSeedDto> posts) {
+    private record PostSeedDto(String title, String content) {
     }
 }
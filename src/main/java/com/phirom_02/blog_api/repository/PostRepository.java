@@ -1,29 +1,340 @@
 package com.phirom_02.blog_api.repository;
 
 import com.phirom_02.blog_api.domain.PostStatus;
-import com.phirom_02.blog_api.domain.entities.Category;
+import com.phirom_02.blog_api.domain.PostVersion;
 import com.phirom_02.blog_api.domain.entities.Post;
-import com.phirom_02.blog_api.domain.entities.Tag;
-import com.phirom_02.blog_api.domain.entities.User;
+import com.phirom_02.blog_api.domain.projections.PostContentView;
+import com.phirom_02.blog_api.domain.projections.PostSummaryView;
+import com.phirom_02.blog_api.domain.projections.PostTagView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for managing {@link Post} entities.
+ * <p>
+ * Listings are keyset-paginated: every page query returns the posts ordered by {@code (createdAt DESC, id DESC)}
+ * that come strictly after the given {@code (createdAt, id)} position, so the cost of a page does not depend on
+ * how deep into the listing it is. The position is compared as a row value, {@code (p.createdAt, p.id) <
+ * (:createdAt, :id)}, which PostgreSQL uses as the start of the index scan, whereas the equivalent {@code OR} of
+ * both columns would be checked against every newer row of the index.
+ * <p>
+ * Rows are read as {@link PostSummaryView} projections, which select the excerpt but never the content.
+ * The tags of a page are fetched afterwards with a single {@link #findTagsByPostIdIn(Collection)} query.
+ * <p>
+ * Every page query has a {@link PostVersion} counterpart selecting only the ID and modification time of the posts,
+ * which is enough to tell whether a client's copy of the page is still current.
+ * <p>
+ * The export reads all posts of a status through {@link #streamAllByStatus(PostStatus)}, which pulls the rows from
+ * the database {@value #EXPORT_FETCH_SIZE} at a time instead of loading the whole result.
  */
 @Repository
-public interface PostRepository extends JpaRepository<Post, UUID> {
+public interface PostRepository extends JpaRepository<Post, UUID>, PostSearchRepository {
 
-    List<Post> findAllByStatusAndCategoryAndTagsContaining(PostStatus status, Category category, Tag tag);
+    String SUMMARY_SELECT = """
+            SELECT p.id AS id, p.title AS title, p.excerpt AS excerpt, p.readingTime AS readingTime,
+                   p.characterCount AS characterCount, p.wordCount AS wordCount, p.paragraphCount AS paragraphCount,
+                   p.status AS status, p.createdAt AS createdAt, p.updatedAt AS updatedAt,
+                   a.id AS authorId, a.name AS authorName, c.id AS categoryId, c.name AS categoryName
+            FROM Post p JOIN p.author a LEFT JOIN p.category c
+            """;
 
-    List<Post> findAllByStatusAndCategory(PostStatus status, Category category);
+    /**
+     * Number of rows the JDBC driver fetches at a time when streaming the export.
+     */
+    int EXPORT_FETCH_SIZE = 500;
 
-    List<Post> findAllByStatusAndTagsContaining(PostStatus status, Tag tag);
+    /**
+     * Fetches a post together with its author, category and tags in a single query.
+     *
+     * @param id the ID of the post
+     * @return the post, if it exists
+     */
+    @EntityGraph(attributePaths = {"author", "category", "tags"})
+    Optional<Post> findWithDetailsById(UUID id);
 
-    List<Post> findAllByStatus(PostStatus status);
+    /**
+     * Fetches a page of posts with the given status, category and tag.
+     *
+     * @param status     the status of the posts
+     * @param categoryId the ID of the category of the posts
+     * @param tagId      the ID of a tag of the posts
+     * @param createdAt  the creation time of the last post of the previous page
+     * @param id         the ID of the last post of the previous page
+     * @param limit      the maximum number of posts to return
+     * @return the summaries of the posts after the given position
+     */
+    @Query(SUMMARY_SELECT + """
+            JOIN p.tags t
+            WHERE p.status = :status
+              AND c.id = :categoryId
+              AND t.id = :tagId
+              AND (p.createdAt, p.id) < (:createdAt, :id)
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<PostSummaryView> findPageByStatusAndCategoryAndTag(
+            @Param("status") PostStatus status,
+            @Param("categoryId") UUID categoryId,
+            @Param("tagId") UUID tagId,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            Limit limit
+    );
 
-    List<Post> findAllByAuthorAndStatus(User author, PostStatus status);
+    /**
+     * Fetches a page of posts with the given status and category.
+     *
+     * @param status     the status of the posts
+     * @param categoryId the ID of the category of the posts
+     * @param createdAt  the creation time of the last post of the previous page
+     * @param id         the ID of the last post of the previous page
+     * @param limit      the maximum number of posts to return
+     * @return the summaries of the posts after the given position
+     */
+    @Query(SUMMARY_SELECT + """
+            WHERE p.status = :status
+              AND c.id = :categoryId
+              AND (p.createdAt, p.id) < (:createdAt, :id)
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<PostSummaryView> findPageByStatusAndCategory(
+            @Param("status") PostStatus status,
+            @Param("categoryId") UUID categoryId,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            Limit limit
+    );
+
+    /**
+     * Fetches a page of posts with the given status and tag.
+     *
+     * @param status    the status of the posts
+     * @param tagId     the ID of a tag of the posts
+     * @param createdAt the creation time of the last post of the previous page
+     * @param id        the ID of the last post of the previous page
+     * @param limit     the maximum number of posts to return
+     * @return the summaries of the posts after the given position
+     */
+    @Query(SUMMARY_SELECT + """
+            JOIN p.tags t
+            WHERE p.status = :status
+              AND t.id = :tagId
+              AND (p.createdAt, p.id) < (:createdAt, :id)
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<PostSummaryView> findPageByStatusAndTag(
+            @Param("status") PostStatus status,
+            @Param("tagId") UUID tagId,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            Limit limit
+    );
+
+    /**
+     * Fetches a page of posts with the given status.
+     *
+     * @param status    the status of the posts
+     * @param createdAt the creation time of the last post of the previous page
+     * @param id        the ID of the last post of the previous page
+     * @param limit     the maximum number of posts to return
+     * @return the summaries of the posts after the given position
+     */
+    @Query(SUMMARY_SELECT + """
+            WHERE p.status = :status
+              AND (p.createdAt, p.id) < (:createdAt, :id)
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<PostSummaryView> findPageByStatus(
+            @Param("status") PostStatus status,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            Limit limit
+    );
+
+    /**
+     * Fetches the version of a post.
+     *
+     * @param id the ID of the post
+     * @return the version of the post, if it exists
+     */
+    @Query("SELECT new com.phirom_02.blog_api.domain.PostVersion(p.id, p.updatedAt) FROM Post p WHERE p.id = :id")
+    Optional<PostVersion> findVersionById(@Param("id") UUID id);
+
+    /**
+     * Fetches the versions of a page of posts with the given status, category and tag.
+     *
+     * @see #findPageByStatusAndCategoryAndTag(PostStatus, UUID, UUID, Instant, UUID, Limit)
+     */
+    @Query("""
+            SELECT new com.phirom_02.blog_api.domain.PostVersion(p.id, p.updatedAt)
+            FROM Post p JOIN p.tags t
+            WHERE p.status = :status
+              AND p.category.id = :categoryId
+              AND t.id = :tagId
+              AND (p.createdAt, p.id) < (:createdAt, :id)
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<PostVersion> findPageVersionsByStatusAndCategoryAndTag(
+            @Param("status") PostStatus status,
+            @Param("categoryId") UUID categoryId,
+            @Param("tagId") UUID tagId,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            Limit limit
+    );
+
+    /**
+     * Fetches the versions of a page of posts with the given status and category.
+     *
+     * @see #findPageByStatusAndCategory(PostStatus, UUID, Instant, UUID, Limit)
+     */
+    @Query("""
+            SELECT new com.phirom_02.blog_api.domain.PostVersion(p.id, p.updatedAt)
+            FROM Post p
+            WHERE p.status = :status
+              AND p.category.id = :categoryId
+              AND (p.createdAt, p.id) < (:createdAt, :id)
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<PostVersion> findPageVersionsByStatusAndCategory(
+            @Param("status") PostStatus status,
+            @Param("categoryId") UUID categoryId,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            Limit limit
+    );
+
+    /**
+     * Fetches the versions of a page of posts with the given status and tag.
+     *
+     * @see #findPageByStatusAndTag(PostStatus, UUID, Instant, UUID, Limit)
+     */
+    @Query("""
+            SELECT new com.phirom_02.blog_api.domain.PostVersion(p.id, p.updatedAt)
+            FROM Post p JOIN p.tags t
+            WHERE p.status = :status
+              AND t.id = :tagId
+              AND (p.createdAt, p.id) < (:createdAt, :id)
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<PostVersion> findPageVersionsByStatusAndTag(
+            @Param("status") PostStatus status,
+            @Param("tagId") UUID tagId,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            Limit limit
+    );
+
+    /**
+     * Fetches the versions of a page of posts with the given status.
+     *
+     * @see #findPageByStatus(PostStatus, Instant, UUID, Limit)
+     */
+    @Query("""
+            SELECT new com.phirom_02.blog_api.domain.PostVersion(p.id, p.updatedAt)
+            FROM Post p
+            WHERE p.status = :status
+              AND (p.createdAt, p.id) < (:createdAt, :id)
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<PostVersion> findPageVersionsByStatus(
+            @Param("status") PostStatus status,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            Limit limit
+    );
+
+    /**
+     * Fetches the posts of an author with the given status, newest first.
+     *
+     * @param authorId the ID of the author of the posts
+     * @param status   the status of the posts
+     * @return the matching posts
+     */
+    @Query(SUMMARY_SELECT + """
+            WHERE a.id = :authorId
+              AND p.status = :status
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<PostSummaryView> findAllByAuthorAndStatus(
+            @Param("authorId") UUID authorId,
+            @Param("status") PostStatus status
+    );
+
+    /**
+     * Fetches the posts with the given IDs, in no particular order.
+     *
+     * @param ids the IDs of the posts
+     * @return the summaries of the posts that exist
+     */
+    @Query(SUMMARY_SELECT + """
+            WHERE p.id IN :ids
+            """)
+    List<PostSummaryView> findSummariesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Fetches the searchable fields of a chunk of posts with the given status, ordered by ID.
+     *
+     * @param status the status of the posts
+     * @param id     the ID of the last post of the previous chunk
+     * @param limit  the maximum number of posts to return
+     * @return the posts with an ID greater than the given one
+     */
+    @Query("""
+            SELECT p.id AS id, p.title AS title, p.content AS content, p.createdAt AS createdAt, c.id AS categoryId
+            FROM Post p LEFT JOIN p.category c
+            WHERE p.status = :status
+              AND p.id > :id
+            ORDER BY p.id
+            """)
+    List<PostContentView> findContentChunkByStatus(
+            @Param("status") PostStatus status,
+            @Param("id") UUID id,
+            Limit limit
+    );
+
+    /**
+     * Fetches the tags of the given posts.
+     *
+     * @param postIds the IDs of the posts
+     * @return one entry per (post, tag) pair
+     */
+    @Query("""
+            SELECT p.id AS postId, t.id AS id, t.name AS name
+            FROM Post p JOIN p.tags t
+            WHERE p.id IN :postIds
+            """)
+    List<PostTagView> findTagsByPostIdIn(@Param("postIds") Collection<UUID> postIds);
+
+    /**
+     * Streams all posts with the given status, newest first, together with their author and category.
+     * Must be consumed inside a transaction, so the driver can keep its cursor open, and closed afterwards.
+     * The posts are read-only: changes to them are never flushed.
+     *
+     * @param status the status of the posts
+     * @return the posts, read from the database {@value #EXPORT_FETCH_SIZE} at a time
+     */
+    @Query("""
+            SELECT p FROM Post p JOIN FETCH p.author LEFT JOIN FETCH p.category
+            WHERE p.status = :status
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Post> streamAllByStatus(@Param("status") PostStatus status);
 }
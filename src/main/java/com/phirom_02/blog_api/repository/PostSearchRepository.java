@@ -0,0 +1,26 @@
+package com.phirom_02.blog_api.repository;
+
+import com.phirom_02.blog_api.domain.PostSearchCursor;
+import com.phirom_02.blog_api.domain.projections.PostSearchHit;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Full-text search over published posts.
+ */
+public interface PostSearchRepository {
+
+    /**
+     * Fetches a page of published posts matching a search query, most relevant first.
+     * Posts with the same relevance are ordered newest first.
+     *
+     * @param query      the search query, in web search syntax
+     * @param categoryId the ID of the category of the posts (optional)
+     * @param tagId      the ID of a tag of the posts (optional)
+     * @param after      the position of the last result of the previous page
+     * @param limit      the maximum number of results to return
+     * @return the matching posts after the given position
+     */
+    List<PostSearchHit> search(String query, UUID categoryId, UUID tagId, PostSearchCursor after, int limit);
+}
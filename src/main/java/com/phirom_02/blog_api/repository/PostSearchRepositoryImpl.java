@@ -0,0 +1,101 @@
+package com.phirom_02.blog_api.repository;
+
+import com.phirom_02.blog_api.domain.PostSearchCursor;
+import com.phirom_02.blog_api.domain.PostStatus;
+import com.phirom_02.blog_api.domain.projections.PostSearchHit;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NativeQuery;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Implementation of {@link PostSearchRepository}.
+ * <p>
+ * On PostgreSQL, posts are matched against the generated {@code posts.search_vector} column (GIN-indexed, see
+ * {@code V1__baseline.sql}) with {@code websearch_to_tsquery} and ranked with {@code ts_rank}.
+ * On other databases, such as H2, a case-insensitive substring match is used instead and title matches rank higher.
+ */
+class PostSearchRepositoryImpl implements PostSearchRepository {
+
+    private static final String TEXT_SEARCH_CONFIG = "english";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Boolean fullTextSearch;
+
+    @Override
+    public List<PostSearchHit> search(String query, UUID categoryId, UUID tagId, PostSearchCursor after, int limit) {
+        boolean postgres = supportsFullTextSearch();
+        String rank = postgres
+                ? "ts_rank(p.search_vector, websearch_to_tsquery('" + TEXT_SEARCH_CONFIG + "', :query))"
+                : "CAST(CASE WHEN LOWER(p.title) LIKE :query ESCAPE '\\' THEN 2 ELSE 1 END AS REAL)";
+        String match = postgres
+                ? "p.search_vector @@ websearch_to_tsquery('" + TEXT_SEARCH_CONFIG + "', :query)"
+                : "(LOWER(p.title) LIKE :query ESCAPE '\\' OR LOWER(p.content) LIKE :query ESCAPE '\\')";
+
+        StringBuilder sql = new StringBuilder()
+                .append("SELECT r.id, r.rank, r.created_at FROM (")
+                .append(" SELECT p.id, p.created_at, ").append(rank).append(" AS rank")
+                .append(" FROM posts p");
+        if (tagId != null) {
+            sql.append(" JOIN post_tags pt ON pt.post_id = p.id AND pt.tag_id = :tagId");
+        }
+        sql.append(" WHERE p.status = :status AND ").append(match);
+        if (categoryId != null) {
+            sql.append(" AND p.category_id = :categoryId");
+        }
+        sql.append(") r")
+                .append(" WHERE r.rank < :rank")
+                .append(" OR (r.rank = :rank AND (r.created_at < :createdAt")
+                .append(" OR (r.created_at = :createdAt AND r.id < :id)))")
+                .append(" ORDER BY r.rank DESC, r.created_at DESC, r.id DESC");
+
+        @SuppressWarnings("unchecked")
+        NativeQuery<Object[]> nativeQuery = entityManager.createNativeQuery(sql.toString())
+                .unwrap(NativeQuery.class)
+                .addScalar("id", UUID.class)
+                .addScalar("rank", Float.class)
+                .addScalar("created_at", Instant.class);
+        nativeQuery.setParameter("query", postgres ? query : likePattern(query));
+        nativeQuery.setParameter("status", PostStatus.PUBLISHED.name());
+        nativeQuery.setParameter("rank", after.rank());
+        nativeQuery.setParameter("createdAt", after.createdAt());
+        nativeQuery.setParameter("id", after.id());
+        if (tagId != null) {
+            nativeQuery.setParameter("tagId", tagId);
+        }
+        if (categoryId != null) {
+            nativeQuery.setParameter("categoryId", categoryId);
+        }
+        nativeQuery.setMaxResults(limit);
+
+        return nativeQuery.getResultList().stream()
+                .map(row -> new PostSearchHit((UUID) row[0], (Float) row[1], (Instant) row[2]))
+                .toList();
+    }
+
+    private boolean supportsFullTextSearch() {
+        if (fullTextSearch == null) {
+            fullTextSearch = entityManager.getEntityManagerFactory()
+                    .unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices()
+                    .getDialect() instanceof PostgreSQLDialect;
+        }
+        return fullTextSearch;
+    }
+
+    private static String likePattern(String query) {
+        String escaped = query.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
@@ -0,0 +1,92 @@
+package com.phirom_02.blog_api.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Repository of the view counts of posts, stored in {@code post_stats} next to the posts rather than on them,
+ * so adding views never rewrites a post.
+ * <p>
+ * Views are added in bulk with an upsert, which JPA cannot express, so this repository runs SQL directly.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostStatsRepository {
+
+    private static final String ADD_VIEWS = """
+            INSERT INTO post_stats (post_id, view_count)
+            SELECT v.post_id, v.views
+            FROM unnest(?::uuid[], ?::bigint[]) AS v(post_id, views)
+            JOIN posts p ON p.id = v.post_id
+            ORDER BY v.post_id
+            ON CONFLICT (post_id) DO UPDATE SET view_count = post_stats.view_count + EXCLUDED.view_count
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Adds views to the stored counts of posts with a single statement, so either all of them are added or none.
+     * Posts that no longer exist are skipped. Rows are locked in the order of their post IDs, so concurrent calls
+     * cannot deadlock.
+     *
+     * @param views the number of views to add, keyed by post ID
+     * @return the number of posts whose count was added to
+     */
+    public int addViews(Map<UUID, Long> views) {
+        UUID[] postIds = views.keySet().toArray(UUID[]::new);
+        Long[] counts = new Long[postIds.length];
+        for (int i = 0; i < postIds.length; i++) {
+            counts[i] = views.get(postIds[i]);
+        }
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(ADD_VIEWS);
+            statement.setArray(1, connection.createArrayOf("uuid", postIds));
+            statement.setArray(2, connection.createArrayOf("int8", counts));
+            return statement;
+        });
+    }
+
+    /**
+     * Reads the stored view count of a post.
+     *
+     * @param postId the ID of the post
+     * @return the stored number of views of the post, 0 if it has none
+     */
+    public long findViewCount(UUID postId) {
+        List<Long> counts = jdbcTemplate.queryForList(
+                "SELECT view_count FROM post_stats WHERE post_id = ?", Long.class, postId
+        );
+        return counts.isEmpty() ? 0 : counts.getFirst();
+    }
+
+    /**
+     * Reads the stored view counts of posts with a single query.
+     *
+     * @param postIds the IDs of the posts
+     * @return the stored number of views of each post that has any
+     */
+    public Map<UUID, Long> findViewCounts(Collection<UUID> postIds) {
+        Map<UUID, Long> counts = new HashMap<>();
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(
+                            "SELECT post_id, view_count FROM post_stats WHERE post_id = ANY (?)"
+                    );
+                    statement.setArray(1, connection.createArrayOf("uuid", postIds.toArray()));
+                    return statement;
+                },
+                resultSet -> {
+                    counts.put(resultSet.getObject("post_id", UUID.class), resultSet.getLong("view_count"));
+                }
+        );
+        return counts;
+    }
+}
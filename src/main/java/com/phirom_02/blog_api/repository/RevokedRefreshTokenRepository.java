@@ -0,0 +1,50 @@
+package com.phirom_02.blog_api.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Repository of the IDs of the redeemed refresh tokens, stored in {@code revoked_refresh_tokens}.
+ * <p>
+ * A token is revoked with an insert that does nothing when the ID is already there, which JPA cannot express, so this
+ * repository runs SQL directly.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RevokedRefreshTokenRepository {
+
+    private static final String INSERT = """
+            INSERT INTO revoked_refresh_tokens (id, expires_at)
+            VALUES (?, ?)
+            ON CONFLICT (id) DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Stores the ID of a refresh token with a single statement, so of two concurrent calls for the same ID, on any
+     * instance, only one stores it.
+     *
+     * @param id        the ID of the token
+     * @param expiresAt the expiration time of the token
+     * @return {@code true} if the ID was stored, {@code false} if it already was
+     */
+    public boolean insert(UUID id, Instant expiresAt) {
+        return jdbcTemplate.update(INSERT, id, Timestamp.from(expiresAt)) == 1;
+    }
+
+    /**
+     * Deletes the IDs of the tokens that expired.
+     *
+     * @param now the current time
+     * @return the number of IDs deleted
+     */
+    public int deleteExpired(Instant now) {
+        return jdbcTemplate.update("DELETE FROM revoked_refresh_tokens WHERE expires_at < ?", Timestamp.from(now));
+    }
+}
@@ -0,0 +1,33 @@
+package com.phirom_02.blog_api.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+/**
+ * Writes seed entities one batch per transaction. Every batch is flushed, which sends its inserts in JDBC batches,
+ * and then cleared from the persistence context, so seeding any number of entities uses the same amount of memory.
+ * <p>
+ * Entities of a batch may refer to entities written by earlier batches, which are detached by then.
+ */
+@Component
+@RequiredArgsConstructor
+public class SeedBatchWriter {
+
+    private final EntityManager entityManager;
+
+    /**
+     * Inserts new entities in a single transaction.
+     *
+     * @param entities the entities to insert
+     */
+    @Transactional
+    public void persistAll(Collection<?> entities) {
+        entities.forEach(entityManager::persist);
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
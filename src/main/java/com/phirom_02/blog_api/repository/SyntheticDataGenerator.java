@@ -0,0 +1,234 @@
+package com.phirom_02.blog_api.repository;
+
+import com.phirom_02.blog_api.domain.PostStatus;
+import com.phirom_02.blog_api.domain.entities.Category;
+import com.phirom_02.blog_api.domain.entities.Post;
+import com.phirom_02.blog_api.domain.entities.Tag;
+import com.phirom_02.blog_api.domain.entities.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Generates a synthetic dataset of users and posts, to load test the API at volumes the seed files cannot reach.
+ * <p>
+ * The dataset is determined by {@code seed_data.synthetic.random_seed}: generating it again with the same settings
+ * gives the same users and posts, apart from their IDs. Posts are spread over the categories and tags already
+ * loaded, whose popularity, like that of the authors, follows a Zipf distribution so a few of them hold most posts.
+ * Posts are created over the {@value #SPAN_DAYS} days before {@link #END}, and one in ten is a draft.
+ * <p>
+ * Users and posts are written in batches of {@code seed_data.batch_size} by the {@link SeedBatchWriter}.
+ */
+@Component
+public class SyntheticDataGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    /**
+     * Password of every synthetic user, so any of them can log in during a load test.
+     */
+    public static final String PASSWORD = "password";
+
+    private static final Instant END = Instant.parse("2025-01-01T00:00:00Z");
+    private static final long SPAN_DAYS = 3 * 365;
+    private static final double DRAFT_RATIO = 0.1;
+    private static final int MAX_TAGS = 4;
+    private static final int PROGRESS_INTERVAL = 100_000;
+
+    private static final String[] WORDS = {
+            "api", "application", "architecture", "backend", "benchmark", "build", "cache", "class", "client",
+            "cloud", "code", "compile", "concurrency", "configuration", "container", "data", "database", "debug",
+            "deploy", "design", "developer", "domain", "entity", "error", "event", "feature", "framework",
+            "function", "index", "interface", "java", "latency", "library", "log", "memory", "method", "metric",
+            "migration", "model", "module", "network", "object", "pattern", "performance", "pipeline", "query",
+            "queue", "release", "request", "response", "schema", "security", "server", "service", "spring",
+            "stream", "system", "test", "thread", "throughput", "token", "transaction", "type", "user", "value",
+            "the", "a", "and", "of", "to", "in", "with", "for", "on", "is", "we", "how", "when", "why", "your"
+    };
+
+    private final UserRepository userRepository;
+    private final CategoryRepository categoryRepository;
+    private final TagRepository tagRepository;
+    private final SeedBatchWriter seedBatchWriter;
+    private final PasswordEncoder passwordEncoder;
+    private final int batchSize;
+    private final long randomSeed;
+    private final int userCount;
+    private final int postCount;
+
+    public SyntheticDataGenerator(
+            UserRepository userRepository,
+            CategoryRepository categoryRepository,
+            TagRepository tagRepository,
+            SeedBatchWriter seedBatchWriter,
+            PasswordEncoder passwordEncoder,
+            @Value("${seed_data.batch_size}") int batchSize,
+            @Value("${seed_data.synthetic.random_seed}") long randomSeed,
+            @Value("${seed_data.synthetic.users}") int userCount,
+            @Value("${seed_data.synthetic.posts}") int postCount
+    ) {
+        this.userRepository = userRepository;
+        this.categoryRepository = categoryRepository;
+        this.tagRepository = tagRepository;
+        this.seedBatchWriter = seedBatchWriter;
+        this.passwordEncoder = passwordEncoder;
+        this.batchSize = batchSize;
+        this.randomSeed = randomSeed;
+        this.userCount = userCount;
+        this.postCount = postCount;
+    }
+
+    /**
+     * Generates the users and their posts. Categories and tags must be loaded beforehand.
+     *
+     * @throws IllegalStateException if no user or a negative number of posts is configured, if there are no
+     *                               categories or tags, or if the users already exist
+     */
+    public void generate() {
+        if (userCount < 1 || postCount < 0) {
+            throw new IllegalStateException("seed_data.synthetic.users must be positive and seed_data.synthetic.posts"
+                    + " must not be negative, got " + userCount + " users and " + postCount + " posts");
+        }
+        // Sorted so the same categories and tags get the same popularity on every run
+        List<Category> categories = categoryRepository.findAll(Sort.by("name"));
+        List<Tag> tags = tagRepository.findAll(Sort.by("name"));
+        if (categories.isEmpty() || tags.isEmpty()) {
+            throw new IllegalStateException("Categories and tags must be loaded before generating posts");
+        }
+        if (userRepository.findByEmail(emailOf(0)).isPresent()) {
+            throw new IllegalStateException("Synthetic users already exist");
+        }
+        log.info("Generating {} users and {} posts from seed {}", userCount, postCount, randomSeed);
+
+        Random random = new Random(randomSeed);
+        List<User> users = generateUsers();
+        ZipfSampler authorSampler = new ZipfSampler(users.size());
+        ZipfSampler categorySampler = new ZipfSampler(categories.size());
+        ZipfSampler tagSampler = new ZipfSampler(tags.size());
+        int maxTags = Math.min(MAX_TAGS, tags.size());
+        long spanMicros = Duration.ofDays(SPAN_DAYS).toNanos() / 1000;
+
+        List<Post> batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < postCount; i++) {
+            Set<Tag> postTags = new HashSet<>();
+            int tagCount = 1 + random.nextInt(maxTags);
+            while (postTags.size() < tagCount) {
+                postTags.add(tags.get(tagSampler.sample(random)));
+            }
+
+            Post post = new Post();
+            post.setTitle(title(random));
+            post.setContent(content(random, contentLength(random)));
+            post.setAuthor(users.get(authorSampler.sample(random)));
+            post.setCategory(categories.get(categorySampler.sample(random)));
+            post.setTags(postTags);
+            post.setStatus(random.nextDouble() < DRAFT_RATIO ? PostStatus.DRAFT : PostStatus.PUBLISHED);
+            post.setCreatedAt(END.minus(random.nextLong(spanMicros), ChronoUnit.MICROS));
+            batch.add(post);
+
+            if (batch.size() == batchSize) {
+                seedBatchWriter.persistAll(batch);
+                batch.clear();
+            }
+            if ((i + 1) % PROGRESS_INTERVAL == 0) {
+                log.info("Generated {} of {} posts", i + 1, postCount);
+            }
+        }
+        seedBatchWriter.persistAll(batch);
+    }
+
+    private List<User> generateUsers() {
+        // Hashing is deliberately slow, so all users share a single hash
+        String password = passwordEncoder.encode(PASSWORD);
+        List<User> users = new ArrayList<>(userCount);
+        List<User> batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < userCount; i++) {
+            User user = new User();
+            user.setEmail(emailOf(i));
+            user.setName("Synthetic User " + i);
+            user.setPassword(password);
+            users.add(user);
+            batch.add(user);
+
+            if (batch.size() == batchSize) {
+                seedBatchWriter.persistAll(batch);
+                batch.clear();
+            }
+        }
+        seedBatchWriter.persistAll(batch);
+        return users;
+    }
+
+    private static String emailOf(int index) {
+        return "synthetic-user-" + index + "@example.com";
+    }
+
+    private static String title(Random random) {
+        StringBuilder title = new StringBuilder();
+        int wordCount = 3 + random.nextInt(6);
+        for (int i = 0; i < wordCount; i++) {
+            String word = WORDS[random.nextInt(WORDS.length)];
+            if (i == 0) {
+                title.append(Character.toUpperCase(word.charAt(0))).append(word, 1, word.length());
+            } else {
+                title.append(' ').append(word);
+            }
+        }
+        return title.toString();
+    }
+
+    /**
+     * Returns a number of words for a post, log-normally distributed around 400 so most posts take a few minutes
+     * to read and some are much longer.
+     */
+    private static int contentLength(Random random) {
+        return (int) Math.min(5000, 50 + Math.exp(random.nextGaussian() * 0.6) * 350);
+    }
+
+    private static String content(Random random, int wordCount) {
+        StringBuilder content = new StringBuilder(wordCount * 8);
+        for (int i = 0; i < wordCount; i++) {
+            content.append(WORDS[random.nextInt(WORDS.length)]);
+            // Paragraphs of 60 words
+            content.append(i % 60 == 59 ? "\n\n" : i % 12 == 11 ? ". " : " ");
+        }
+        return content.toString().strip();
+    }
+
+    /**
+     * Samples ranks from {@code 0} to {@code n - 1}, rank {@code k} being drawn with a probability proportional
+     * to {@code 1 / (k + 1)}.
+     */
+    private static final class ZipfSampler {
+
+        private final double[] cumulativeWeights;
+
+        private ZipfSampler(int n) {
+            cumulativeWeights = new double[n];
+            double total = 0;
+            for (int k = 0; k < n; k++) {
+                total += 1.0 / (k + 1);
+                cumulativeWeights[k] = total;
+            }
+        }
+
+        private int sample(Random random) {
+            double target = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+            int index = Arrays.binarySearch(cumulativeWeights, target);
+            return Math.min(index >= 0 ? index : -index - 1, cumulativeWeights.length - 1);
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package com.phirom_02.blog_api.repository;
 
+import com.phirom_02.blog_api.domain.PostStatus;
 import com.phirom_02.blog_api.domain.entities.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -15,14 +19,42 @@ import java.util.UUID;
 @Repository
 public interface TagRepository extends JpaRepository<Tag, UUID> {
 
+    /**
+     * Adds the given delta to the published post count of the given tags.
+     *
+     * @param ids   the IDs of the tags
+     * @param delta the number of published posts added (positive) or removed (negative)
+     * @return the number of updated tags
+     */
+    @Modifying
+    @Query("UPDATE Tag t SET t.publishedPostCount = t.publishedPostCount + :delta WHERE t.id IN :ids")
+    int incrementPublishedPostCount(@Param("ids") Collection<UUID> ids, @Param("delta") long delta);
 
     /**
-     * Finds all tags and fetches the associated posts with each tag.
+     * Recomputes the published post count of every tag whose stored count has drifted.
+     * <p>
+     * As for categories, see {@link CategoryRepository#reconcilePublishedPostCounts(PostStatus)}, a tag whose stored
+     * count was adjusted since the statement started is skipped rather than set to an outdated count.
      *
-     * @return a list of tags with their associated posts
+     * @param status the status of the counted posts
+     * @return the number of repaired tags
      */
-    @Query("SELECT c from Tag c LEFT JOIN FETCH c.posts")
-    List<Tag> findAllWithPostCount();
+    @Modifying
+    @Query(value = """
+            UPDATE tags t
+            SET published_post_count = counted.actual
+            FROM (SELECT t2.id,
+                         t2.published_post_count AS stored,
+                         (SELECT COUNT(*)
+                          FROM post_tags pt
+                          JOIN posts p ON p.id = pt.post_id
+                          WHERE pt.tag_id = t2.id AND p.status = :#{#status.name()}) AS actual
+                  FROM tags t2) counted
+            WHERE t.id = counted.id
+              AND counted.stored <> counted.actual
+              AND t.published_post_count = counted.stored
+            """, nativeQuery = true)
+    int reconcilePublishedPostCounts(@Param("status") PostStatus status);
 
     /**
      * Finds tags by their names.
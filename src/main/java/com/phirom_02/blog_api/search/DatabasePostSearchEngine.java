@@ -0,0 +1,27 @@
+package com.phirom_02.blog_api.search;
+
+import com.phirom_02.blog_api.domain.PostSearchCursor;
+import com.phirom_02.blog_api.domain.projections.PostSearchHit;
+import com.phirom_02.blog_api.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Search engine delegating to the full-text search of the database.
+ */
+@Component
+@ConditionalOnProperty(name = "post_search.engine", havingValue = "database", matchIfMissing = true)
+@RequiredArgsConstructor
+public class DatabasePostSearchEngine implements PostSearchEngine {
+
+    private final PostRepository postRepository;
+
+    @Override
+    public List<PostSearchHit> search(String query, UUID categoryId, UUID tagId, PostSearchCursor after, int limit) {
+        return postRepository.search(query, categoryId, tagId, after, limit);
+    }
+}
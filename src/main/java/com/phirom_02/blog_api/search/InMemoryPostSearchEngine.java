@@ -0,0 +1,247 @@
+package com.phirom_02.blog_api.search;
+
+import com.phirom_02.blog_api.domain.PostSearchCursor;
+import com.phirom_02.blog_api.domain.PostStatus;
+import com.phirom_02.blog_api.domain.entities.Post;
+import com.phirom_02.blog_api.domain.entities.Tag;
+import com.phirom_02.blog_api.domain.events.PostChangedEvent;
+import com.phirom_02.blog_api.domain.projections.PostContentView;
+import com.phirom_02.blog_api.domain.projections.PostSearchHit;
+import com.phirom_02.blog_api.domain.projections.PostTagView;
+import com.phirom_02.blog_api.repository.PostRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Search engine answering queries from an {@link InvertedIndex} of the published posts held in memory.
+ * <p>
+ * The index is built in the background once the application is ready: posts are read from the database in chunks,
+ * and each chunk is tokenized on the common pool while the next one is being read, then added to the new index and
+ * dropped, so a rebuild holds at most two chunks besides the indexes. Until the first build completes,
+ * queries fall back to the database. Afterwards the index follows the post service through {@link PostChangedEvent}s,
+ * applied once their transaction has committed.
+ * <p>
+ * Publishes the size and estimated memory footprint of the index, and a latency histogram of the queries.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "post_search.engine", havingValue = "memory")
+public class InMemoryPostSearchEngine implements PostSearchEngine {
+
+    private final PostRepository postRepository;
+    private final int chunkSize;
+    private final Timer queryTimer;
+
+    /**
+     * Locks are used rather than monitors, so a virtual thread blocked on them, or reading the database while holding
+     * {@link #rebuildLock}, does not pin its carrier thread.
+     */
+    private final Lock rebuildLock = new ReentrantLock();
+    private final Lock changeLock = new ReentrantLock();
+    private volatile InvertedIndex index;
+    /**
+     * Changes received while the index is being rebuilt, replayed on the new index. Guarded by {@link #changeLock}.
+     */
+    private List<PostChangedEvent> pendingChanges;
+
+    public InMemoryPostSearchEngine(
+            PostRepository postRepository,
+            MeterRegistry meterRegistry,
+            @Value("${post_search.index_chunk_size}") int chunkSize
+    ) {
+        this.postRepository = postRepository;
+        this.chunkSize = chunkSize;
+        this.queryTimer = Timer.builder("post.search.query")
+                .description("Latency of the queries answered by the in-memory search index")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("post.search.index.posts", this, engine -> engine.indexStat(InvertedIndex::size))
+                .description("Number of posts in the in-memory search index")
+                .register(meterRegistry);
+        Gauge.builder("post.search.index.terms", this, engine -> engine.indexStat(InvertedIndex::termCount))
+                .description("Number of distinct terms in the in-memory search index")
+                .register(meterRegistry);
+        Gauge.builder("post.search.index.memory", this, engine -> engine.indexStat(InvertedIndex::memoryBytes))
+                .description("Estimated heap used by the in-memory search index")
+                .baseUnit(BaseUnits.BYTES)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public List<PostSearchHit> search(String query, UUID categoryId, UUID tagId, PostSearchCursor after, int limit) {
+        InvertedIndex current = index;
+        if (current == null) {
+            return postRepository.search(query, categoryId, tagId, after, limit);
+        }
+        return queryTimer.record(() -> current.search(query, categoryId, tagId, after, limit));
+    }
+
+    /**
+     * Returns whether the index has been built, so queries no longer go to the database.
+     */
+    public boolean isReady() {
+        return index != null;
+    }
+
+    /**
+     * Builds the index in the background once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        Thread.ofPlatform().name("post-search-index").daemon().start(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.error("Failed to build the search index, searching the database instead", e);
+            }
+        });
+    }
+
+    /**
+     * Builds a new index from the published posts in the database and swaps it in.
+     * Changes made while the index is being built are applied to it before the swap. One rebuild runs at a time.
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            rebuildIndex();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void rebuildIndex() {
+        long start = System.nanoTime();
+        changeLock.lock();
+        try {
+            pendingChanges = new ArrayList<>();
+        } finally {
+            changeLock.unlock();
+        }
+        try {
+            InvertedIndex built = new InvertedIndex();
+            // The chunk being tokenized while the next one is read; it is merged before the next one is submitted
+            CompletableFuture<List<IndexedPost>> tokenizing = null;
+            UUID lastId = new UUID(0L, 0L);
+            List<PostContentView> posts;
+            do {
+                posts = postRepository.findContentChunkByStatus(PostStatus.PUBLISHED, lastId, Limit.of(chunkSize));
+                if (posts.isEmpty()) {
+                    break;
+                }
+                Map<UUID, Set<UUID>> tagIds = postRepository.findTagsByPostIdIn(
+                        posts.stream().map(PostContentView::getId).toList()
+                ).stream().collect(Collectors.groupingBy(
+                        PostTagView::getPostId,
+                        Collectors.mapping(PostTagView::getId, Collectors.toSet())
+                ));
+                if (tokenizing != null) {
+                    tokenizing.join().forEach(built::put);
+                }
+                List<PostContentView> chunk = posts;
+                tokenizing = CompletableFuture.supplyAsync(() -> chunk.stream()
+                        .map(post -> IndexedPost.of(
+                                post.getId(),
+                                post.getCreatedAt(),
+                                post.getCategoryId(),
+                                tagIds.getOrDefault(post.getId(), Set.of()),
+                                post.getTitle(),
+                                post.getContent()
+                        ))
+                        .toList()
+                );
+                lastId = posts.getLast().getId();
+            } while (posts.size() == chunkSize);
+            if (tokenizing != null) {
+                tokenizing.join().forEach(built::put);
+            }
+
+            changeLock.lock();
+            try {
+                pendingChanges.forEach(event -> apply(built, event));
+                index = built;
+            } finally {
+                changeLock.unlock();
+            }
+            log.info("Built search index of {} posts and {} terms in {} ms",
+                    built.size(), built.termCount(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } finally {
+            changeLock.lock();
+            try {
+                pendingChanges = null;
+            } finally {
+                changeLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Applies a committed change of a post to the index.
+     *
+     * @param event the change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        changeLock.lock();
+        try {
+            if (pendingChanges != null) {
+                pendingChanges.add(event);
+            }
+            InvertedIndex current = index;
+            if (current != null) {
+                apply(current, event);
+            }
+        } finally {
+            changeLock.unlock();
+        }
+    }
+
+    /**
+     * Indexes the saved version of a post, or removes it if it was deleted or is no longer published.
+     */
+    private static void apply(InvertedIndex index, PostChangedEvent event) {
+        Post post = event.post();
+        if (event.isDeleted() || post.getStatus() != PostStatus.PUBLISHED) {
+            index.remove(event.postId());
+            return;
+        }
+        index.put(IndexedPost.of(
+                post.getId(),
+                post.getCreatedAt(),
+                post.getCategory() == null ? null : post.getCategory().getId(),
+                post.getTags() == null ? Set.of() : post.getTags().stream().map(Tag::getId).collect(Collectors.toSet()),
+                post.getTitle(),
+                post.getContent()
+        ));
+    }
+
+    /**
+     * Reads a statistic of the current index, which is zero until the index is built.
+     */
+    private double indexStat(ToDoubleFunction<InvertedIndex> stat) {
+        InvertedIndex current = index;
+        return current == null ? 0 : stat.applyAsDouble(current);
+    }
+}
@@ -0,0 +1,41 @@
+package com.phirom_02.blog_api.search;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * A published post, tokenized and ready to be added to an {@link InvertedIndex}.
+ *
+ * @param id          the ID of the post
+ * @param createdAt   the creation time of the post
+ * @param categoryId  the ID of the category of the post, or {@code null}
+ * @param tagIds      the IDs of the tags of the post
+ * @param frequencies the number of occurrences of every term of the post, title terms counting more
+ * @param length      the total number of occurrences of the post
+ */
+record IndexedPost(
+        UUID id,
+        Instant createdAt,
+        UUID categoryId,
+        Set<UUID> tagIds,
+        Map<String, Integer> frequencies,
+        int length
+) {
+
+    /**
+     * How much more a term counts when it appears in the title rather than the content.
+     */
+    static final int TITLE_WEIGHT = 3;
+
+    /**
+     * Tokenizes the title and content of a post.
+     */
+    static IndexedPost of(UUID id, Instant createdAt, UUID categoryId, Set<UUID> tagIds, String title, String content) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = Tokenizer.count(title, TITLE_WEIGHT, frequencies) + Tokenizer.count(content, 1, frequencies);
+        return new IndexedPost(id, createdAt, categoryId, Set.copyOf(tagIds), frequencies, length);
+    }
+}
@@ -0,0 +1,326 @@
+package com.phirom_02.blog_api.search;
+
+import com.phirom_02.blog_api.domain.PostSearchCursor;
+import com.phirom_02.blog_api.domain.projections.PostSearchHit;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index of published posts, answering BM25-ranked queries.
+ * <p>
+ * Every post is a document numbered in insertion order, and every term maps to a {@link PostingList} of the
+ * documents containing it. Replacing or removing a post only marks its document as removed; the postings of
+ * removed documents are skipped by queries and dropped once they outnumber the live ones.
+ * <p>
+ * A query walks the posting lists of its terms side by side, in document order, so its cost and its garbage grow
+ * with the length of those lists rather than with the number of documents, and only the best results are kept.
+ * <p>
+ * Queries run concurrently under a read lock; changes take the write lock.
+ */
+final class InvertedIndex {
+
+    /**
+     * Term frequency saturation of BM25.
+     */
+    static final float K1 = 1.2f;
+
+    /**
+     * Document length normalization of BM25.
+     */
+    static final float B = 0.75f;
+
+    /**
+     * Removed documents are only compacted away once there are at least this many of them.
+     */
+    private static final int MIN_REMOVED_TO_COMPACT = 1024;
+
+    /**
+     * Orders results most relevant first, then newest first, then by descending ID in the same order as PostgreSQL.
+     */
+    static final Comparator<PostSearchHit> RESULT_ORDER = Comparator
+            .comparingDouble(PostSearchHit::rank).reversed()
+            .thenComparing(PostSearchHit::createdAt, Comparator.reverseOrder())
+            .thenComparing(PostSearchHit::id, (a, b) -> compareUnsigned(b, a));
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Term> terms = new HashMap<>();
+    private final List<Document> documents = new ArrayList<>();
+    private final Map<UUID, Integer> documentsByPostId = new HashMap<>();
+    private long totalLength;
+
+    /**
+     * Adds a post to the index, replacing any previous version of it.
+     *
+     * @param post the tokenized post
+     */
+    void put(IndexedPost post) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(post.id());
+
+            int document = documents.size();
+            String[] documentTerms = new String[post.frequencies().size()];
+            int i = 0;
+            for (Map.Entry<String, Integer> entry : post.frequencies().entrySet()) {
+                Term term = terms.computeIfAbsent(entry.getKey(), Term::new);
+                term.postings.add(document, entry.getValue());
+                term.documentCount++;
+                // Share the string held by the index rather than keeping the post's own copy
+                documentTerms[i++] = term.text;
+            }
+            documents.add(new Document(
+                    post.id(), post.createdAt(), post.categoryId(), post.tagIds(), post.length(), documentTerms
+            ));
+            documentsByPostId.put(post.id(), document);
+            totalLength += post.length();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a post from the index, if it is there.
+     *
+     * @param postId the ID of the post
+     */
+    void remove(UUID postId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Fetches a page of posts matching any term of a search query, most relevant first.
+     * Posts with the same relevance are ordered newest first.
+     *
+     * @param query      the search query
+     * @param categoryId the ID of the category of the posts (optional)
+     * @param tagId      the ID of a tag of the posts (optional)
+     * @param after      the position of the last result of the previous page
+     * @param limit      the maximum number of results to return
+     * @return the matching posts after the given position
+     */
+    List<PostSearchHit> search(String query, UUID categoryId, UUID tagId, PostSearchCursor after, int limit) {
+        Set<String> queryTerms = Tokenizer.queryTerms(query);
+        PostSearchHit position = new PostSearchHit(after.id(), after.rank(), after.createdAt());
+        // Keeps the worst of the best results on top, so it can be evicted when a better one is found
+        PriorityQueue<PostSearchHit> best = new PriorityQueue<>(limit + 1, RESULT_ORDER.reversed());
+
+        lock.readLock().lock();
+        try {
+            int liveCount = documentsByPostId.size();
+            if (liveCount == 0 || queryTerms.isEmpty()) {
+                return List.of();
+            }
+            float averageLength = Math.max(1f, (float) totalLength / liveCount);
+
+            // Walks the postings of every query term at once, in increasing document order
+            PostingList.Cursor[] cursors = new PostingList.Cursor[queryTerms.size()];
+            float[] idfs = new float[queryTerms.size()];
+            int cursorCount = 0;
+            for (String queryTerm : queryTerms) {
+                Term term = terms.get(queryTerm);
+                if (term == null || term.documentCount == 0) {
+                    continue;
+                }
+                PostingList.Cursor cursor = term.postings.cursor();
+                if (cursor.next()) {
+                    cursors[cursorCount] = cursor;
+                    idfs[cursorCount] = (float) Math.log(
+                            1 + (liveCount - term.documentCount + 0.5) / (term.documentCount + 0.5)
+                    );
+                    cursorCount++;
+                }
+            }
+
+            while (cursorCount > 0) {
+                int document = cursors[0].document();
+                for (int i = 1; i < cursorCount; i++) {
+                    document = Math.min(document, cursors[i].document());
+                }
+                Document doc = documents.get(document);
+                boolean matches = doc != null
+                        && (categoryId == null || categoryId.equals(doc.categoryId))
+                        && (tagId == null || doc.tagIds.contains(tagId));
+
+                float score = 0;
+                int remaining = 0;
+                for (int i = 0; i < cursorCount; i++) {
+                    PostingList.Cursor cursor = cursors[i];
+                    if (cursor.document() == document) {
+                        if (matches) {
+                            int frequency = cursor.frequency();
+                            float norm = K1 * (1 - B + B * doc.length / averageLength);
+                            score += idfs[i] * frequency * (K1 + 1) / (frequency + norm);
+                        }
+                        if (!cursor.next()) {
+                            continue;
+                        }
+                    }
+                    // Keeps the cursors in the order of the query terms, so scores are always summed in that order
+                    cursors[remaining] = cursor;
+                    idfs[remaining] = idfs[i];
+                    remaining++;
+                }
+                cursorCount = remaining;
+                if (!matches) {
+                    continue;
+                }
+
+                PostSearchHit hit = new PostSearchHit(doc.id, score, doc.createdAt);
+                if (RESULT_ORDER.compare(hit, position) <= 0) {
+                    continue;
+                }
+                best.add(hit);
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<PostSearchHit> hits = new ArrayList<>(best);
+        hits.sort(RESULT_ORDER);
+        return hits;
+    }
+
+    /**
+     * Returns the number of posts in the index.
+     */
+    int size() {
+        lock.readLock().lock();
+        try {
+            return documentsByPostId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of distinct terms in the index.
+     */
+    int termCount() {
+        lock.readLock().lock();
+        try {
+            return terms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns an estimate of the number of bytes of heap used by the index.
+     */
+    long memoryBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = 0;
+            for (Term term : terms.values()) {
+                // Map entry, term and its string, plus the postings
+                bytes += 32 + 24 + 40 + term.text.length() + term.postings.memoryBytes();
+            }
+            bytes += 16 + 4L * documents.size();
+            for (Document doc : documents) {
+                if (doc != null) {
+                    // Document, its ID and its term array, plus the entry mapping its ID to its number
+                    bytes += 40 + 32 + 16 + 4L * doc.terms.length + 48 + 32L * doc.tagIds.size();
+                }
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Marks the document of a post as removed. Must hold the write lock.
+     */
+    private void removeDocument(UUID postId) {
+        Integer document = documentsByPostId.remove(postId);
+        if (document == null) {
+            return;
+        }
+        Document doc = documents.set(document, null);
+        for (String documentTerm : doc.terms) {
+            terms.get(documentTerm).documentCount--;
+        }
+        totalLength -= doc.length;
+
+        int removedCount = documents.size() - documentsByPostId.size();
+        if (removedCount >= MIN_REMOVED_TO_COMPACT && removedCount > documentsByPostId.size()) {
+            compact();
+        }
+    }
+
+    /**
+     * Renumbers the live documents and drops the postings of removed ones. Must hold the write lock.
+     */
+    private void compact() {
+        int[] mapping = new int[documents.size()];
+        List<Document> liveDocuments = new ArrayList<>(documentsByPostId.size());
+        for (int document = 0; document < documents.size(); document++) {
+            Document doc = documents.get(document);
+            if (doc == null) {
+                mapping[document] = -1;
+            } else {
+                mapping[document] = liveDocuments.size();
+                documentsByPostId.put(doc.id, liveDocuments.size());
+                liveDocuments.add(doc);
+            }
+        }
+        documents.clear();
+        documents.addAll(liveDocuments);
+
+        Iterator<Term> iterator = terms.values().iterator();
+        while (iterator.hasNext()) {
+            Term term = iterator.next();
+            if (term.documentCount == 0) {
+                iterator.remove();
+            } else {
+                term.postings = term.postings.remap(mapping);
+            }
+        }
+    }
+
+    /**
+     * Compares UUIDs as unsigned 128-bit numbers, like PostgreSQL does.
+     */
+    static int compareUnsigned(UUID a, UUID b) {
+        int result = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return result != 0 ? result : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
+    private static final class Term {
+        private final String text;
+        private PostingList postings = new PostingList();
+        private int documentCount;
+
+        private Term(String text) {
+            this.text = text;
+        }
+    }
+
+    private record Document(
+            UUID id,
+            Instant createdAt,
+            UUID categoryId,
+            Set<UUID> tagIds,
+            int length,
+            String[] terms
+    ) {
+    }
+}
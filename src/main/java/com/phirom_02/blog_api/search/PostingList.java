@@ -0,0 +1,171 @@
+package com.phirom_02.blog_api.search;
+
+import java.util.Arrays;
+
+/**
+ * Append-only list of {@code (document, term frequency)} pairs for one term.
+ * <p>
+ * Documents must be added in increasing order. Each pair is stored as the gap to the previous document
+ * followed by the frequency, both as variable-length integers, so a typical posting takes two or three bytes.
+ * Not thread-safe; {@link InvertedIndex} guards access.
+ */
+final class PostingList {
+
+    /**
+     * Receives the postings of a list, in increasing document order.
+     */
+    @FunctionalInterface
+    interface Visitor {
+        void visit(int document, int frequency);
+    }
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private byte[] bytes = new byte[INITIAL_CAPACITY];
+    private int length;
+    private int size;
+    private int lastDocument = -1;
+
+    /**
+     * Appends a posting.
+     *
+     * @param document  the document, greater than every document already in the list
+     * @param frequency the number of occurrences of the term in the document, at least 1
+     * @throws IllegalArgumentException if the document is out of order
+     */
+    void add(int document, int frequency) {
+        if (document <= lastDocument) {
+            throw new IllegalArgumentException("Postings must be added in increasing document order");
+        }
+        ensureCapacity(2 * 5);
+        writeVarInt(document - lastDocument);
+        writeVarInt(frequency);
+        lastDocument = document;
+        size++;
+    }
+
+    /**
+     * Visits every posting, in increasing document order.
+     *
+     * @param visitor receives the postings
+     */
+    void forEach(Visitor visitor) {
+        Cursor cursor = cursor();
+        while (cursor.next()) {
+            visitor.visit(cursor.document(), cursor.frequency());
+        }
+    }
+
+    /**
+     * Returns a cursor over the postings, positioned before the first one.
+     */
+    Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Reads the postings of the list one at a time, in increasing document order, without allocating.
+     */
+    final class Cursor {
+
+        private int position;
+        private int document = -1;
+        private int frequency;
+
+        /**
+         * Moves to the next posting.
+         *
+         * @return {@code false} if there are no more postings
+         */
+        boolean next() {
+            if (position >= length) {
+                return false;
+            }
+            document += readVarInt();
+            frequency = readVarInt();
+            return true;
+        }
+
+        /**
+         * Returns the document of the current posting.
+         */
+        int document() {
+            return document;
+        }
+
+        /**
+         * Returns the term frequency of the current posting.
+         */
+        int frequency() {
+            return frequency;
+        }
+
+        private int readVarInt() {
+            int value = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = bytes[position++];
+                value |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+        }
+    }
+
+    /**
+     * Builds a new list holding the postings of the documents that are still mapped, under their new numbers.
+     *
+     * @param mapping the new number of every document, or {@code -1} for removed documents;
+     *                must preserve the order of the documents it keeps
+     * @return the compacted list
+     */
+    PostingList remap(int[] mapping) {
+        PostingList compacted = new PostingList();
+        forEach((document, frequency) -> {
+            int mapped = mapping[document];
+            if (mapped >= 0) {
+                compacted.add(mapped, frequency);
+            }
+        });
+        compacted.trim();
+        return compacted;
+    }
+
+    /**
+     * Returns the number of postings in the list.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the approximate number of bytes of heap used by the list.
+     */
+    long memoryBytes() {
+        // Object header and fields, plus the array header and contents
+        return 32 + 16 + bytes.length;
+    }
+
+    /**
+     * Releases the unused capacity of the list.
+     */
+    void trim() {
+        if (bytes.length > length) {
+            bytes = Arrays.copyOf(bytes, Math.max(length, 1));
+        }
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + extra));
+        }
+    }
+
+    private void writeVarInt(int value) {
+        while ((value & ~0x7F) != 0) {
+            bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[length++] = (byte) value;
+    }
+}
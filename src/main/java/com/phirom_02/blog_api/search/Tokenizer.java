@@ -0,0 +1,84 @@
+package com.phirom_02.blog_api.search;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Splits text into lower-case terms for the in-memory search index.
+ * A term is a run of letters and digits; very short terms, very long terms and common English stop words are dropped.
+ */
+final class Tokenizer {
+
+    static final int MIN_TERM_LENGTH = 2;
+    static final int MAX_TERM_LENGTH = 64;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "an", "and", "are", "as", "at", "be", "but", "by", "for", "if", "in", "into", "is", "it",
+            "no", "not", "of", "on", "or", "such", "that", "the", "their", "then", "there", "these",
+            "they", "this", "to", "was", "will", "with"
+    );
+
+    private Tokenizer() {
+    }
+
+    /**
+     * Passes every term of the given text to the consumer, in order of appearance.
+     *
+     * @param text     the text to tokenize, may be {@code null}
+     * @param consumer receives the terms
+     */
+    static void tokenize(String text, Consumer<String> consumer) {
+        if (text == null) {
+            return;
+        }
+        int length = text.length();
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean termChar = i < length && Character.isLetterOrDigit(text.charAt(i));
+            if (termChar && start < 0) {
+                start = i;
+            } else if (!termChar && start >= 0) {
+                int termLength = i - start;
+                if (termLength >= MIN_TERM_LENGTH && termLength <= MAX_TERM_LENGTH) {
+                    String term = text.substring(start, i).toLowerCase(Locale.ROOT);
+                    if (!STOP_WORDS.contains(term)) {
+                        consumer.accept(term);
+                    }
+                }
+                start = -1;
+            }
+        }
+    }
+
+    /**
+     * Counts the occurrences of every term of the given text.
+     *
+     * @param text   the text to tokenize, may be {@code null}
+     * @param weight how much each occurrence counts
+     * @param counts the counts to add to
+     * @return the number of occurrences added, multiplied by the weight
+     */
+    static int count(String text, int weight, Map<String, Integer> counts) {
+        int[] total = {0};
+        tokenize(text, term -> {
+            counts.merge(term, weight, Integer::sum);
+            total[0] += weight;
+        });
+        return total[0];
+    }
+
+    /**
+     * Returns the distinct terms of a search query.
+     *
+     * @param query the search query
+     * @return the terms of the query
+     */
+    static Set<String> queryTerms(String query) {
+        Map<String, Integer> counts = new HashMap<>();
+        count(query, 1, counts);
+        return counts.keySet();
+    }
+}
@@ -2,7 +2,6 @@ package com.phirom_02.blog_api.security;
 
 import com.phirom_02.blog_api.domain.entities.User;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -15,20 +14,33 @@ import java.util.UUID;
  * Custom implementation of {@link UserDetails} for Spring Security.
  * This class wraps a {@link User} entity and provides the necessary details
  * for authentication and authorization within the Spring Security framework.
+ * <p>
+ * The principal of an authenticated request is rebuilt from the claims of its token, so its user only holds
+ * the ID and email of the user.
  */
 @Getter
-@RequiredArgsConstructor
 public class BlogUserDetails implements UserDetails {
     private final User user;
+    private final Collection<? extends GrantedAuthority> authorities;
 
     /**
-     * Returns the authorities granted to the user. In this case, a simple role "ROLE_USER".
+     * Creates the details of a user granted the role "ROLE_USER".
      *
-     * @return a list of granted authorities for the user
+     * @param user the user
      */
-    @Override
-    public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(new SimpleGrantedAuthority("ROLE_USER"));
+    public BlogUserDetails(User user) {
+        this(user, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+
+    /**
+     * Creates the details of a user with the given authorities.
+     *
+     * @param user        the user
+     * @param authorities the authorities granted to the user
+     */
+    public BlogUserDetails(User user, Collection<? extends GrantedAuthority> authorities) {
+        this.user = user;
+        this.authorities = authorities;
     }
 
     /**
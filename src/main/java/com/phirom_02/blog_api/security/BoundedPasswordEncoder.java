@@ -0,0 +1,98 @@
+package com.phirom_02.blog_api.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Password encoder hashing on a fixed pool of threads, so a burst of logins or sign-ups uses at most
+ * {@code password_hashing.threads} cores and leaves the others to the requests serving reads.
+ * <p>
+ * Callers wait for their hash without holding a monitor, so a virtual thread unmounts while it waits. At most
+ * {@code password_hashing.queue_capacity} hashes wait for a thread; beyond that they are rejected with a
+ * {@link RejectedExecutionException} instead of queueing without bound.
+ * <p>
+ * Publishes the number of waiting hashes and a latency histogram of the hashes.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Timer hashTimer;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("password-hashing-", 0).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.hashTimer = Timer.builder("password.hashing")
+                .description("Time spent hashing passwords, excluding the wait for a hashing thread")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.queue", executor, pool -> pool.getQueue().size())
+                .description("Number of password hashes waiting for a hashing thread")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Number of password hashes in progress")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return hash(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return hash(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    /**
+     * Runs a hash on the pool and waits for its result.
+     *
+     * @throws RejectedExecutionException if too many hashes are already waiting
+     */
+    private <T> T hash(Supplier<T> hashing) {
+        Future<T> result = executor.submit(() -> hashTimer.record(hashing));
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing a password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.phirom_02.blog_api.security;
 
+import com.phirom_02.blog_api.cache.VerifiedTokenCache;
 import com.phirom_02.blog_api.service.AuthService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -19,11 +20,13 @@ import java.io.IOException;
  * validates the token using {@link AuthService}, and sets the authentication
  * in the {@link SecurityContextHolder}.
  * If the token is valid, it extracts the user ID and attaches it to the request.
+ * Validated tokens are kept in a {@link VerifiedTokenCache} until they expire.
  */
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final AuthService authService;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     /**
      * Filters incoming requests to extract and validate the JWT token.
@@ -44,7 +47,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // If the token is not null, validate and set the authentication
             if (token != null) {
                 // Validate the token and get the user details
-                UserDetails userDetails = authService.validateToken(token);
+                UserDetails userDetails = verifiedTokenCache.get(token, authService::validateToken).principal();
 
                 // Create an authentication token with the user details and set it in the security context
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
@@ -0,0 +1,29 @@
+package com.phirom_02.blog_api.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.env.Environment;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+/**
+ * Matches the requests received on the management port, set with {@code management.server.port}, which serves the
+ * actuator endpoints apart from the API and must only be reachable from the internal network.
+ * <p>
+ * The port is read from {@code local.management.port} on each request, as it is only known once the management
+ * server has started, for instance on a random port. Nothing matches when actuator shares the port of the API.
+ */
+public class ManagementPortRequestMatcher implements RequestMatcher {
+
+    private static final String LOCAL_MANAGEMENT_PORT = "local.management.port";
+
+    private final Environment environment;
+
+    public ManagementPortRequestMatcher(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        Integer port = environment.getProperty(LOCAL_MANAGEMENT_PORT, Integer.class);
+        return port != null && port == request.getLocalPort();
+    }
+}
@@ -0,0 +1,122 @@
+package com.phirom_02.blog_api.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filter limiting the rate of the requests of each client with a {@link TokenBucket} per client and route policy.
+ * Runs after the {@link JwtAuthenticationFilter}, so authenticated clients are identified by their user ID, and the
+ * others by their IP address.
+ * <p>
+ * The first policy matching a request applies, requests matching no policy are not limited. At most
+ * {@code maximumClients} buckets are kept per policy, and the buckets that are full again are evicted every
+ * {@code rate_limit.eviction_interval}, as a new bucket would be the same. Evicting them in the background rather than
+ * expiring them on access keeps the lookup of a bucket free of any bookkeeping but the size bound.
+ * <p>
+ * Rejected requests get a 429 with a {@code Retry-After} header, and are counted per policy.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String REJECTED_BODY = "{\"status\":429,\"message\":\"Too many requests\"}";
+
+    private final List<Limiter> limiters;
+    private final Ticker ticker;
+
+    public RateLimitFilter(List<RateLimitPolicy> policies, long maximumClients, MeterRegistry meterRegistry) {
+        this(policies, maximumClients, meterRegistry, Ticker.systemTicker());
+    }
+
+    RateLimitFilter(List<RateLimitPolicy> policies, long maximumClients, MeterRegistry meterRegistry, Ticker ticker) {
+        this.ticker = ticker;
+        this.limiters = policies.stream()
+                .map(policy -> new Limiter(
+                        policy,
+                        Caffeine.newBuilder()
+                                .maximumSize(maximumClients)
+                                .build(),
+                        Counter.builder("rate_limit.rejected")
+                                .description("Number of requests rejected by the rate limit")
+                                .tag("policy", policy.name())
+                                .register(meterRegistry)
+                ))
+                .toList();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        long wait = tryAcquire(request);
+        if (wait > 0) {
+            // Round the wait up, so the client does not retry before a token is available
+            long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + TimeUnit.SECONDS.toNanos(1) - 1));
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write(REJECTED_BODY);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Takes a token from the bucket of the client of a request.
+     *
+     * @param request the request
+     * @return {@code 0} if the request is allowed, otherwise the nanoseconds to wait until it would be
+     */
+    long tryAcquire(HttpServletRequest request) {
+        for (Limiter limiter : limiters) {
+            if (limiter.policy().matches(request)) {
+                long now = ticker.read();
+                TokenBucket bucket = limiter.buckets().get(client(request), client -> new TokenBucket(limiter.policy(), now));
+                long wait = bucket.tryConsume(now);
+                if (wait > 0) {
+                    limiter.rejected().increment();
+                }
+                return wait;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Evicts the buckets that are full, which no client used for at least the period of their policy.
+     */
+    @Scheduled(
+            initialDelayString = "${rate_limit.eviction_interval}",
+            fixedDelayString = "${rate_limit.eviction_interval}"
+    )
+    public void evictIdleBuckets() {
+        long now = ticker.read();
+        for (Limiter limiter : limiters) {
+            limiter.buckets().asMap().values().removeIf(bucket -> bucket.isFull(now));
+        }
+    }
+
+    /**
+     * Returns the user ID set by the {@link JwtAuthenticationFilter} if the request is authenticated, otherwise its
+     * IP address.
+     */
+    private static Object client(HttpServletRequest request) {
+        Object userId = request.getAttribute("userId");
+        return userId != null ? userId : request.getRemoteAddr();
+    }
+
+    private record Limiter(RateLimitPolicy policy, Cache<Object, TokenBucket> buckets, Counter rejected) {
+    }
+}
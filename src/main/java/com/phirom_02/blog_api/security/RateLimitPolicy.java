@@ -0,0 +1,27 @@
+package com.phirom_02.blog_api.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.time.Duration;
+
+/**
+ * Rate limit of the requests to a route, per client.
+ *
+ * @param name       the name of the policy, tagging its metrics
+ * @param method     the HTTP method of the route, or {@code null} for any method
+ * @param pathPrefix the prefix of the paths of the route
+ * @param capacity   the number of requests a client can burst
+ * @param period     the time to refill the bucket of a client, so a client sustains {@code capacity} requests per period
+ */
+public record RateLimitPolicy(String name, String method, String pathPrefix, long capacity, Duration period) {
+
+    public RateLimitPolicy {
+        if (capacity <= 0 || period.toNanos() < capacity) {
+            throw new IllegalArgumentException("Rate limit policy " + name + " must allow at least one request per period");
+        }
+    }
+
+    boolean matches(HttpServletRequest request) {
+        return (method == null || method.equals(request.getMethod())) && request.getRequestURI().startsWith(pathPrefix);
+    }
+}
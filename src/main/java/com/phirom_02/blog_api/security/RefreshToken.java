@@ -0,0 +1,16 @@
+package com.phirom_02.blog_api.security;
+
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A refresh token whose signature and expiration were checked.
+ *
+ * @param id        the unique ID of the token, revoked once the token is used
+ * @param principal the details of the user of the token, built from its claims
+ * @param expiresAt the expiration time of the token
+ */
+public record RefreshToken(UUID id, UserDetails principal, Instant expiresAt) {
+}
@@ -0,0 +1,48 @@
+package com.phirom_02.blog_api.security;
+
+import com.phirom_02.blog_api.repository.RevokedRefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * IDs of the refresh tokens that were already used, so each refresh token can be redeemed only once.
+ * <p>
+ * The IDs are stored in the database rather than in memory, so a redeemed token stays revoked after a restart and on
+ * every instance of the application. Only the ID of a token is kept, and only until the token expires, after which the
+ * signature check rejects it anyway: expired IDs are deleted every {@code refresh_token.pruning_interval}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RevokedRefreshTokens {
+
+    private final RevokedRefreshTokenRepository revokedRefreshTokenRepository;
+
+    /**
+     * Revokes a refresh token.
+     *
+     * @param id        the ID of the token
+     * @param expiresAt the expiration time of the token
+     * @return {@code true} if the token was revoked, {@code false} if it already was
+     */
+    public boolean revoke(UUID id, Instant expiresAt) {
+        return revokedRefreshTokenRepository.insert(id, expiresAt);
+    }
+
+    /**
+     * Deletes the IDs of the tokens that expired.
+     */
+    @Scheduled(
+            initialDelayString = "${refresh_token.pruning_interval}",
+            fixedDelayString = "${refresh_token.pruning_interval}"
+    )
+    public void prune() {
+        int pruned = revokedRefreshTokenRepository.deleteExpired(Instant.now());
+        log.debug("Pruned {} expired refresh token IDs", pruned);
+    }
+}
@@ -0,0 +1,59 @@
+package com.phirom_02.blog_api.security;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket, implemented as the generic cell rate algorithm: instead of a token count refilled over time,
+ * it keeps the time at which the bucket will be full again, and a request is allowed if that time is not further
+ * away than the capacity of the bucket allows. A request therefore costs a single compare-and-set.
+ */
+class TokenBucket {
+
+    private final long interval;
+    private final long tolerance;
+    /**
+     * Time, in nanoseconds, at which the bucket is full again.
+     */
+    private final AtomicLong fullAt;
+
+    /**
+     * Creates a full bucket.
+     *
+     * @param policy the capacity and refill period of the bucket
+     * @param now    the current time in nanoseconds
+     */
+    TokenBucket(RateLimitPolicy policy, long now) {
+        this.interval = policy.period().toNanos() / policy.capacity();
+        this.tolerance = interval * policy.capacity();
+        this.fullAt = new AtomicLong(now);
+    }
+
+    /**
+     * Takes a token from the bucket.
+     *
+     * @param now the current time in nanoseconds
+     * @return {@code 0} if a token was taken, otherwise the nanoseconds to wait until a token is available
+     */
+    long tryConsume(long now) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + interval;
+            long wait = next - now - tolerance;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Returns whether the bucket is full, so it can be replaced by a new bucket.
+     *
+     * @param now the current time in nanoseconds
+     */
+    boolean isFull(long now) {
+        return fullAt.get() <= now;
+    }
+}
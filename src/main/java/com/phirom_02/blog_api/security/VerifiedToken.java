@@ -0,0 +1,14 @@
+package com.phirom_02.blog_api.security;
+
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Instant;
+
+/**
+ * A JWT token whose signature and expiration were checked.
+ *
+ * @param principal the details of the user of the token, built from its claims
+ * @param expiresAt the expiration time of the token
+ */
+public record VerifiedToken(UserDetails principal, Instant expiresAt) {
+}
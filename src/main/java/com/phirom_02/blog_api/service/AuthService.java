@@ -1,6 +1,7 @@
 package com.phirom_02.blog_api.service;
 
 import com.phirom_02.blog_api.domain.dtos.SignUpDto;
+import com.phirom_02.blog_api.security.VerifiedToken;
 import org.springframework.security.core.userdetails.UserDetails;
 
 /**
@@ -36,12 +37,32 @@ public interface AuthService {
      */
     String generateToken(UserDetails userDetails);
 
+    /**
+     * Generates a refresh token for the given user details.
+     * The refresh token can be redeemed once for new tokens, without authenticating the user again.
+     *
+     * @param userDetails the authenticated user's details
+     * @return a refresh token as a {@link String}
+     */
+    String generateRefreshToken(UserDetails userDetails);
+
+    /**
+     * Redeems a refresh token, revoking it so it cannot be redeemed again.
+     * The user details are built from the claims of the token, without loading the user or checking their password.
+     *
+     * @param refreshToken the refresh token to redeem
+     * @return the details of the user of the token
+     * @throws io.jsonwebtoken.JwtException if the token is invalid or expired, or was already redeemed
+     */
+    UserDetails redeemRefreshToken(String refreshToken);
+
     /**
      * Validates the provided JWT token and retrieves the associated user details.
      * This method verifies the authenticity of the token and returns the user details if the token is valid.
+     * The details are built from the claims of the token, without loading the user.
      *
      * @param token the JWT token to validate
-     * @return the user details associated with the valid token as a {@link UserDetails} object
+     * @return the user details associated with the valid token, along with its expiration
      */
-    UserDetails validateToken(String token);
+    VerifiedToken validateToken(String token);
 }
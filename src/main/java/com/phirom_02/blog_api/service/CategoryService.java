@@ -1,8 +1,11 @@
 package com.phirom_02.blog_api.service;
 
+import com.phirom_02.blog_api.domain.CategoryRef;
+import com.phirom_02.blog_api.domain.dtos.CategoryResponse;
 import com.phirom_02.blog_api.domain.entities.Category;
 
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -18,6 +21,13 @@ public interface CategoryService {
      */
     List<Category> getAllCategories();
 
+    /**
+     * Retrieves all categories from the database, mapped to their responses.
+     *
+     * @return a list of the {@link CategoryResponse} of every category
+     */
+    List<CategoryResponse> getAllCategoryResponses();
+
     /**
      * Retrieves a category by its unique identifier (ID).
      * This method allows fetching a category based on its ID for viewing or processing.
@@ -27,6 +37,33 @@ public interface CategoryService {
      */
     Category getCategoryById(UUID id);
 
+    /**
+     * Retrieves the ID and name of a category, which is enough to check that the category exists.
+     * Unlike {@link #getCategoryById(UUID)}, this method may be answered from a cache.
+     *
+     * @param id the unique identifier of the category to retrieve
+     * @return the {@link CategoryRef} of the category with the given ID
+     */
+    CategoryRef getCategoryRef(UUID id);
+
+    /**
+     * Returns a reference to a category without loading it, to be set on the posts of the category. The category is
+     * not checked to exist, which {@link #getCategoryRef(UUID)} does without querying the database once cached.
+     *
+     * @param id the unique identifier of the category
+     * @return a {@link Category} proxy holding only the ID of the category
+     */
+    Category getCategoryReference(UUID id);
+
+    /**
+     * Retrieves the categories with the given IDs in a single query.
+     * IDs that match no category are ignored.
+     *
+     * @param ids the unique identifiers of the categories to retrieve
+     * @return the {@link Category} entities found
+     */
+    List<Category> getCategoriesByIds(Set<UUID> ids);
+
     /**
      * Creates a new category in the database.
      * This method processes the given category data and persists it to the database.
@@ -36,6 +73,15 @@ public interface CategoryService {
      */
     Category createCategory(Category categoryToCreate);
 
+    /**
+     * Adjusts the number of published posts stored on a category.
+     * This method is called whenever a post is published into or withdrawn from the category.
+     *
+     * @param id    the unique identifier of the category
+     * @param delta the number of published posts added (positive) or removed (negative)
+     */
+    void adjustPublishedPostCount(UUID id, long delta);
+
     /**
      * Deletes an existing category from the database.
      * This method deletes a category based on the provided ID.
@@ -1,8 +1,11 @@
 package com.phirom_02.blog_api.service;
 
+import com.phirom_02.blog_api.security.RefreshToken;
+import com.phirom_02.blog_api.security.VerifiedToken;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Map;
+import java.util.UUID;
 
 /**
  * Service interface responsible for handling operations related to JSON Web Tokens (JWT).
@@ -19,9 +22,29 @@ public interface JwtService {
      */
     String extractSubject(String token);
 
+    /**
+     * Verifies a JWT token and builds the details of its user from the claims of the token alone,
+     * without loading the user.
+     *
+     * @param token the JWT token
+     * @return the details of the user, holding their ID, email and authorities, and the expiration of the token
+     * @throws io.jsonwebtoken.JwtException if the token is invalid or expired, lacks the user ID, or is a refresh token
+     */
+    VerifiedToken verifyToken(String token);
+
+    /**
+     * Verifies a refresh token and builds the details of its user from the claims of the token alone.
+     *
+     * @param token the refresh token
+     * @return the ID of the token, the details of its user and its expiration
+     * @throws io.jsonwebtoken.JwtException if the token is invalid or expired, lacks the user ID, or is not a refresh token
+     */
+    RefreshToken verifyRefreshToken(String token);
+
     /**
      * Builds a new JWT token for the given user with optional additional claims.
      * This method generates a token that includes the user details and any extra claims passed in the parameters.
+     * The ID and authorities of the user are embedded as claims, so the token alone authenticates its requests.
      * The token is created with a specified expiration time.
      *
      * @param userDetails     the user details (usually containing username/email and roles)
@@ -30,4 +53,15 @@ public interface JwtService {
      * @return a newly generated JWT token as a string
      */
     String buildToken(UserDetails userDetails, Map<String, Object> extraClaims, Long tokenExpiration);
+
+    /**
+     * Builds a new refresh token for the given user.
+     * The token carries the same user claims as an access token, but is only accepted by {@link #verifyRefreshToken}.
+     *
+     * @param userDetails     the user details
+     * @param tokenId         the unique ID of the token
+     * @param tokenExpiration the expiration time for the token in milliseconds
+     * @return a newly generated refresh token as a string
+     */
+    String buildRefreshToken(UserDetails userDetails, UUID tokenId, Long tokenExpiration);
 }
@@ -0,0 +1,24 @@
+package com.phirom_02.blog_api.service;
+
+import com.phirom_02.blog_api.domain.dtos.PostImportResult;
+import com.phirom_02.blog_api.domain.entities.User;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Service interface for importing posts in bulk.
+ */
+public interface PostImportService {
+
+    /**
+     * Imports posts from newline-delimited JSON, one {@code CreatePostPayload} per line.
+     * Invalid records are reported in the result without stopping the import.
+     *
+     * @param user    the user the posts are imported for
+     * @param records the records to import
+     * @return the number of imported posts and the errors of the skipped records
+     * @throws IOException if the records cannot be read
+     */
+    PostImportResult importPosts(User user, Reader records) throws IOException;
+}
@@ -1,12 +1,18 @@
 package com.phirom_02.blog_api.service;
 
+import com.phirom_02.blog_api.domain.PostVersion;
 import com.phirom_02.blog_api.domain.dtos.CreatePostDto;
+import com.phirom_02.blog_api.domain.dtos.CursorPage;
+import com.phirom_02.blog_api.domain.dtos.PostResponse;
+import com.phirom_02.blog_api.domain.dtos.PostSummary;
 import com.phirom_02.blog_api.domain.dtos.UpdatePostDto;
 import com.phirom_02.blog_api.domain.entities.Post;
 import com.phirom_02.blog_api.domain.entities.User;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Service interface for handling operations related to blog posts.
@@ -14,23 +20,58 @@ import java.util.UUID;
 public interface PostService {
 
     /**
-     * Fetches a list of posts filtered by category and/or tag.
-     * Retrieves all posts within the specified category and/or with the specified tag.
+     * Fetches one page of posts filtered by category and/or tag, newest first.
+     * Retrieves the posts within the specified category and/or with the specified tag
+     * that come after the given cursor.
      *
      * @param categoryId the ID of the category to filter by (optional)
      * @param tagId      the ID of the tag to filter by (optional)
-     * @return a list of {@link Post} objects matching the filters
+     * @param cursor     the opaque cursor returned with the previous page, or {@code null} for the first page
+     * @param limit      the maximum number of posts in the page
+     * @return a page of {@link PostSummary} objects matching the filters
      */
-    List<Post> getAllPosts(UUID categoryId, UUID tagId);
+    CursorPage<PostSummary> getAllPosts(UUID categoryId, UUID tagId, String cursor, int limit);
+
+    /**
+     * Computes the tag of the page {@link #getAllPosts(UUID, UUID, String, int)} would return,
+     * without loading the posts themselves.
+     *
+     * @param categoryId the ID of the category to filter by (optional)
+     * @param tagId      the ID of the tag to filter by (optional)
+     * @param cursor     the opaque cursor returned with the previous page, or {@code null} for the first page
+     * @param limit      the maximum number of posts in the page
+     * @return the tag of the page, as computed by {@link PostVersion#tagOf(List, boolean)}
+     */
+    String getAllPostsVersion(UUID categoryId, UUID tagId, String cursor, int limit);
+
+    /**
+     * Searches published posts by their title and content, most relevant first.
+     * Honours the same category and tag filters as {@link #getAllPosts(UUID, UUID, String, int)}.
+     *
+     * @param query      the search query
+     * @param categoryId the ID of the category to filter by (optional)
+     * @param tagId      the ID of the tag to filter by (optional)
+     * @param cursor     the opaque cursor returned with the previous page, or {@code null} for the first page
+     * @param limit      the maximum number of posts in the page
+     * @return a page of {@link PostSummary} objects matching the query and the filters
+     */
+    CursorPage<PostSummary> searchPosts(String query, UUID categoryId, UUID tagId, String cursor, int limit);
 
     /**
      * Fetches a list of all draft posts filtered by tag.
      * Retrieves all posts that are in the 'draft' status and match the specified tag.
      *
      * @param tagId the ID of the tag to filter by
-     * @return a list of {@link Post} objects in draft status and matching the tag
+     * @return a list of {@link PostSummary} objects in draft status and matching the tag
+     */
+    List<PostSummary> getAllDraftedPosts(UUID tagId);
+
+    /**
+     * Hands every published post, newest first, to the given consumer without ever holding all of them in memory.
+     *
+     * @param consumer receives the posts one at a time
      */
-    List<Post> getAllDraftedPosts(UUID tagId);
+    void exportPublishedPosts(Consumer<PostResponse> consumer);
 
     /**
      * Retrieves a specific post by its unique identifier.
@@ -40,6 +81,22 @@ public interface PostService {
      */
     Post getPostById(UUID postId);
 
+    /**
+     * Retrieves a specific post by its unique identifier, mapped to its response.
+     *
+     * @param postId the ID of the post to retrieve
+     * @return the {@link PostResponse} of the post with the specified ID
+     */
+    PostResponse getPostResponse(UUID postId);
+
+    /**
+     * Retrieves the version of a post without loading the post itself.
+     *
+     * @param postId the ID of the post
+     * @return the {@link PostVersion} of the post
+     */
+    PostVersion getPostVersion(UUID postId);
+
     /**
      * Creates a new blog post based on the provided data transfer object (DTO) and user information.
      *
@@ -49,6 +106,25 @@ public interface PostService {
      */
     Post createPost(User user, CreatePostDto dto);
 
+    /**
+     * Creates a new blog post by the user with the given ID, and maps it to its response.
+     *
+     * @param userId the ID of the user creating the post
+     * @param dto    the data transfer object containing the post details
+     * @return the {@link PostResponse} of the newly created post
+     */
+    PostResponse createPostResponse(UUID userId, CreatePostDto dto);
+
+    /**
+     * Creates a batch of blog posts by the same user in a single transaction, looking up the categories and tags
+     * of the whole batch once. Posts referring to a category or tag that does not exist are skipped.
+     *
+     * @param user the user creating the posts
+     * @param dtos the data transfer objects containing the details of each post
+     * @return why each skipped post was not created, keyed by its index in {@code dtos}
+     */
+    Map<Integer, String> createPosts(User user, List<CreatePostDto> dtos);
+
     /**
      * Updates an existing post with new data.
      *
@@ -58,6 +134,15 @@ public interface PostService {
      */
     Post updatePost(UUID id, UpdatePostDto dto);
 
+    /**
+     * Updates an existing post with new data, and maps it to its response.
+     *
+     * @param id  the ID of the post to update
+     * @param dto the data transfer object containing the updated post details
+     * @return the {@link PostResponse} of the updated post
+     */
+    PostResponse updatePostResponse(UUID id, UpdatePostDto dto);
+
     /**
      * Deletes a specific post by its unique identifier.
      *
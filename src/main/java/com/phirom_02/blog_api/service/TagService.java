@@ -1,5 +1,7 @@
 package com.phirom_02.blog_api.service;
 
+import com.phirom_02.blog_api.domain.TagRef;
+import com.phirom_02.blog_api.domain.dtos.TagResponse;
 import com.phirom_02.blog_api.domain.entities.Tag;
 
 import java.util.List;
@@ -18,6 +20,13 @@ public interface TagService {
      */
     List<Tag> getAllTags();
 
+    /**
+     * Retrieves all tags in the system, mapped to their responses.
+     *
+     * @return a list of the {@link TagResponse} of every tag.
+     */
+    List<TagResponse> getAllTagResponses();
+
     /**
      * Creates a set of tags based on the provided tag names.
      *
@@ -42,6 +51,23 @@ public interface TagService {
      */
     Tag getTagById(UUID tagId);
 
+    /**
+     * Retrieves the ID and name of a tag, which is enough to check that the tag exists.
+     * Unlike {@link #getTagById(UUID)}, this method may be answered from a cache.
+     *
+     * @param tagId the ID of the tag to retrieve.
+     * @return the {@link TagRef} of the tag matching the provided ID.
+     */
+    TagRef getTagRef(UUID tagId);
+
+    /**
+     * Adjusts the number of published posts stored on the given tags.
+     *
+     * @param ids   the IDs of the tags whose count changes.
+     * @param delta the number of published posts added (positive) or removed (negative).
+     */
+    void adjustPublishedPostCount(Set<UUID> ids, long delta);
+
     /**
      * Deletes a tag by its unique identifier.
      *
@@ -1,5 +1,6 @@
 package com.phirom_02.blog_api.service;
 
+import com.phirom_02.blog_api.domain.UserRef;
 import com.phirom_02.blog_api.domain.dtos.CreateUserDto;
 import com.phirom_02.blog_api.domain.entities.User;
 
@@ -19,6 +20,24 @@ public interface UserService {
      */
     User findUserById(UUID id);
 
+    /**
+     * Retrieves the ID and name of a user, which is enough to check that the user exists.
+     * Unlike {@link #findUserById(UUID)}, this method may be answered from a cache.
+     *
+     * @param id the UUID of the user to find
+     * @return the {@link UserRef} of the user
+     */
+    UserRef findUserRefById(UUID id);
+
+    /**
+     * Returns a reference to a user without loading it, to be set on the entities of the user. The user is not checked
+     * to exist, which {@link #findUserRefById(UUID)} does without querying the database once cached.
+     *
+     * @param id the UUID of the user
+     * @return a {@link User} proxy holding only the ID of the user
+     */
+    User getUserReference(UUID id);
+
     /**
      * Creates a new user based on the provided information.
      *
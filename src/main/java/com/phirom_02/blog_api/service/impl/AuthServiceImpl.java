@@ -5,19 +5,24 @@ import com.phirom_02.blog_api.domain.dtos.SignUpDto;
 import com.phirom_02.blog_api.domain.entities.User;
 import com.phirom_02.blog_api.mappers.AuthMapper;
 import com.phirom_02.blog_api.security.BlogUserDetails;
+import com.phirom_02.blog_api.security.RefreshToken;
+import com.phirom_02.blog_api.security.RevokedRefreshTokens;
+import com.phirom_02.blog_api.security.VerifiedToken;
 import com.phirom_02.blog_api.service.AuthService;
 import com.phirom_02.blog_api.service.JwtService;
 import com.phirom_02.blog_api.service.UserService;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 /**
  * Implementation of the {@link AuthService} interface.
@@ -26,11 +31,11 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class AuthServiceImpl implements AuthService {
 
-    private final UserDetailsService userDetailsService;
     private final UserService userService;
     private final AuthenticationManager authenticationManager;
     private final JwtService jwtService;
     private final AuthMapper authMapper;
+    private final RevokedRefreshTokens revokedRefreshTokens;
 
     @Value("${jwt.secret}")
     private String secretKey;
@@ -63,7 +68,7 @@ public class AuthServiceImpl implements AuthService {
 
     /**
      * Authenticates a user by validating the username and password.
-     * If valid, returns the {@link UserDetails} object of the user.
+     * If valid, returns the {@link UserDetails} object of the user, as loaded by the authentication manager.
      *
      * @param username the username (usually email).
      * @param password the plain-text password to authenticate.
@@ -71,8 +76,10 @@ public class AuthServiceImpl implements AuthService {
      */
     @Override
     public UserDetails authenticate(String username, String password) {
-        authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(username, password));
-        return userDetailsService.loadUserByUsername(username);
+        Authentication authentication = authenticationManager.authenticate(
+                new UsernamePasswordAuthenticationToken(username, password)
+        );
+        return (UserDetails) authentication.getPrincipal();
     }
 
     /**
@@ -88,14 +95,41 @@ public class AuthServiceImpl implements AuthService {
     }
 
     /**
-     * Validates the provided JWT token and retrieves the user details associated with it.
+     * Generates a refresh token with a new unique ID for the authenticated user.
      *
-     * @param token the JWT token to validate.
+     * @param userDetails the {@link UserDetails} object containing user information.
+     * @return the generated refresh token.
+     */
+    @Override
+    public String generateRefreshToken(UserDetails userDetails) {
+        return jwtService.buildRefreshToken(userDetails, UUID.randomUUID(), refreshTokenExpiration);
+    }
+
+    /**
+     * Verifies the refresh token and revokes it, so a stolen token that was already rotated cannot be redeemed.
+     * No password is hashed and the user is not loaded, the user details come from the claims of the token.
+     *
+     * @param refreshToken the refresh token to redeem.
      * @return the {@link UserDetails} of the user associated with the token.
+     * @throws JwtException if the token is invalid or expired, or was already redeemed.
+     */
+    @Override
+    public UserDetails redeemRefreshToken(String refreshToken) {
+        RefreshToken token = jwtService.verifyRefreshToken(refreshToken);
+        if (!revokedRefreshTokens.revoke(token.id(), token.expiresAt())) {
+            throw new JwtException("Refresh token was already redeemed");
+        }
+        return token.principal();
+    }
+
+    /**
+     * Validates the provided JWT token and builds the user details from its claims, without loading the user.
+     *
+     * @param token the JWT token to validate.
+     * @return the {@link UserDetails} of the user associated with the token, along with its expiration.
      */
     @Override
-    public UserDetails validateToken(String token) {
-        String email = jwtService.extractSubject(token); // Extract user info (email) from token
-        return userDetailsService.loadUserByUsername(email);
+    public VerifiedToken validateToken(String token) {
+        return jwtService.verifyToken(token);
     }
 }
@@ -1,34 +1,61 @@
 package com.phirom_02.blog_api.service.impl;
 
+import com.phirom_02.blog_api.config.CacheConfig;
+import com.phirom_02.blog_api.domain.CategoryRef;
+import com.phirom_02.blog_api.domain.dtos.CategoryResponse;
 import com.phirom_02.blog_api.domain.entities.Category;
+import com.phirom_02.blog_api.domain.events.CategoryDeletedEvent;
+import com.phirom_02.blog_api.mappers.CategoryMapper;
 import com.phirom_02.blog_api.repository.CategoryRepository;
 import com.phirom_02.blog_api.service.CategoryService;
 import jakarta.persistence.EntityNotFoundException;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
  * Implementation of the {@link CategoryService} interface.
+ * The IDs and names of categories looked up by ID are cached in {@link CacheConfig#CATEGORIES}, rather than the
+ * entities, whose lazy posts cannot be loaded outside the transaction that read them.
+ * Deleting a category publishes a {@link CategoryDeletedEvent}, which evicts it from the cache once committed.
  */
 @Service
 @RequiredArgsConstructor
 public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final CategoryMapper categoryMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * Retrieves a list of all categories, including their associated post count.
+     * Retrieves a list of all categories, including their stored published post count.
      *
      * @return a list of all categories.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<Category> getAllCategories() {
-        return categoryRepository.findAllWithPostCount();
+        return categoryRepository.findAll();
+    }
+
+    /**
+     * Retrieves all categories and maps them before the transaction ends.
+     *
+     * @return the responses of all categories.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<CategoryResponse> getAllCategoryResponses() {
+        return categoryRepository.findAll().stream().map(categoryMapper::toResponseCategory).toList();
     }
 
     /**
@@ -39,11 +66,38 @@ public class CategoryServiceImpl implements CategoryService {
      * @throws EntityNotFoundException if the category with the given ID does not exist.
      */
     @Override
+    @Transactional(readOnly = true)
     public Category getCategoryById(UUID id) {
         return categoryRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Category not found with id: " + id));
     }
 
+    /**
+     * Retrieves the ID and name of a category by its ID. Throws an {@link EntityNotFoundException} if not found.
+     *
+     * @param id the ID of the category to retrieve.
+     * @return the reference of the category associated with the provided ID.
+     * @throws EntityNotFoundException if the category with the given ID does not exist.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.CATEGORIES, key = "#id", sync = true)
+    public CategoryRef getCategoryRef(UUID id) {
+        Category category = getCategoryById(id);
+        return new CategoryRef(category.getId(), category.getName());
+    }
+
+    /**
+     * Returns a reference to a category without loading it.
+     *
+     * @param id the ID of the category.
+     * @return a proxy of the category holding only its ID.
+     */
+    @Override
+    public Category getCategoryReference(UUID id) {
+        return categoryRepository.getReferenceById(id);
+    }
+
 
     /**
      * Creates a new category in the system. Checks if a category with the same name already exists.
@@ -54,6 +108,7 @@ public class CategoryServiceImpl implements CategoryService {
      * @throws IllegalArgumentException if the category name already exists in the system.
      */
     @Override
+    @Transactional
     public Category createCategory(Category categorytoCreate) {
         String categoryName = categorytoCreate.getName();
         if (categoryRepository.existsByNameIgnoreCase(categoryName)) {
@@ -63,6 +118,30 @@ public class CategoryServiceImpl implements CategoryService {
         return categoryRepository.save(categorytoCreate);
     }
 
+    /**
+     * Retrieves the categories with the given IDs in a single query.
+     *
+     * @param ids the IDs of the categories.
+     * @return the categories found.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Category> getCategoriesByIds(Set<UUID> ids) {
+        return categoryRepository.findAllById(ids);
+    }
+
+    /**
+     * Adds the given delta to the published post count of a category.
+     *
+     * @param id    the ID of the category.
+     * @param delta the number of published posts added or removed.
+     */
+    @Override
+    @Transactional
+    public void adjustPublishedPostCount(UUID id, long delta) {
+        categoryRepository.incrementPublishedPostCount(id, delta);
+    }
+
     /**
      * Deletes a category by its ID. If the category has associated posts, an {@link IllegalStateException} is thrown.
      *
@@ -79,6 +158,18 @@ public class CategoryServiceImpl implements CategoryService {
                 throw new IllegalStateException("There are posts associated with category: " + id);
             }
             categoryRepository.deleteById(id);
+            eventPublisher.publishEvent(new CategoryDeletedEvent(id));
         }
     }
+
+    /**
+     * Evicts a deleted category from the cache once its deletion has committed. Evicting it any earlier would let a
+     * lookup running before the commit cache it again.
+     *
+     * @param event the deletion of the category.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @CacheEvict(cacheNames = CacheConfig.CATEGORIES, key = "#event.categoryId()")
+    public void onCategoryDeleted(CategoryDeletedEvent event) {
+    }
 }
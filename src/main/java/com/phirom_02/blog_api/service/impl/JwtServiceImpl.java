@@ -1,27 +1,54 @@
 package com.phirom_02.blog_api.service.impl;
 
+import com.phirom_02.blog_api.domain.TokenType;
+import com.phirom_02.blog_api.domain.entities.User;
+import com.phirom_02.blog_api.security.BlogUserDetails;
+import com.phirom_02.blog_api.security.RefreshToken;
+import com.phirom_02.blog_api.security.VerifiedToken;
 import com.phirom_02.blog_api.service.JwtService;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 /**
  * Implementation of the {@link JwtService} interface for handling JWT operations.
+ * <p>
+ * The signing key and the parser are built once from the configured secret, as both are immutable and thread-safe.
  */
 @Service
 public class JwtServiceImpl implements JwtService {
 
-    @Value("${jwt.secret}")
-    String jwtSecret;
+    static final String USER_ID_CLAIM = "uid";
+    static final String AUTHORITIES_CLAIM = "authorities";
+    static final String TOKEN_TYPE_CLAIM = "token_type";
+
+    private final SecretKey signInKey;
+    private final JwtParser jwtParser;
+
+    public JwtServiceImpl(@Value("${jwt.secret}") String jwtSecret) {
+        byte[] keyBytes = Decoders.BASE64.decode(jwtSecret); // Decode the base64-encoded secret key
+        this.signInKey = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signInKey) // Set the signing key for verification
+                .build();
+    }
 
     /**
      * Extracts the subject (username) from the provided JWT token.
@@ -35,9 +62,44 @@ public class JwtServiceImpl implements JwtService {
         return extractClaim(token, Claims::getSubject);
     }
 
+    /**
+     * Builds the details of the user of a JWT token from its subject, user ID and authorities claims.
+     * Refresh tokens are rejected, so they cannot authenticate requests.
+     *
+     * @param token the JWT token.
+     * @return the details of the user of the token, and its expiration.
+     */
+    @Override
+    public VerifiedToken verifyToken(String token) {
+        Claims claims = extractAllClaims(token);
+        if (TokenType.REFRESH_TOKEN.name().equals(claims.get(TOKEN_TYPE_CLAIM, String.class))) {
+            throw new MalformedJwtException("Token is a refresh token");
+        }
+        return new VerifiedToken(extractUserDetails(claims), claims.getExpiration().toInstant());
+    }
+
+    /**
+     * Builds the ID and the details of the user of a refresh token from its claims.
+     *
+     * @param token the refresh token.
+     * @return the ID of the token, the details of its user, and its expiration.
+     */
+    @Override
+    public RefreshToken verifyRefreshToken(String token) {
+        Claims claims = extractAllClaims(token);
+        if (!TokenType.REFRESH_TOKEN.name().equals(claims.get(TOKEN_TYPE_CLAIM, String.class)) || claims.getId() == null) {
+            throw new MalformedJwtException("Token is not a refresh token");
+        }
+        return new RefreshToken(
+                UUID.fromString(claims.getId()),
+                extractUserDetails(claims),
+                claims.getExpiration().toInstant()
+        );
+    }
+
     /**
      * Builds a JWT token with the provided user details and additional claims.
-     * It includes the user’s username, issued date, expiration date, and the specified claims.
+     * It includes the user’s username, ID and authorities, issued date, expiration date, and the specified claims.
      *
      * @param userDetails     the user details (typically username) to be embedded in the token.
      * @param extraClaims     additional claims to include in the token.
@@ -46,24 +108,37 @@ public class JwtServiceImpl implements JwtService {
      */
     @Override
     public String buildToken(UserDetails userDetails, Map<String, Object> extraClaims, Long tokenExpiration) {
-        return Jwts.builder()
+        long now = System.currentTimeMillis();
+        JwtBuilder builder = Jwts.builder()
                 .claims(extraClaims) // Additional claims to add
                 .subject(userDetails.getUsername()) // Subject (usually username)
-                .issuedAt(new Date(System.currentTimeMillis())) // Token issued time
-                .expiration(new Date(System.currentTimeMillis() + tokenExpiration)) // Token expiration time
-                .signWith(getSignInKey()) // Signing the token with the secret key
+                .claim(AUTHORITIES_CLAIM, userDetails.getAuthorities().stream()
+                        .map(GrantedAuthority::getAuthority)
+                        .toList());
+        if (userDetails instanceof BlogUserDetails blogUserDetails && blogUserDetails.getId() != null) {
+            builder.claim(USER_ID_CLAIM, blogUserDetails.getId().toString());
+        }
+        return builder
+                .issuedAt(new Date(now)) // Token issued time
+                .expiration(new Date(now + tokenExpiration)) // Token expiration time
+                .signWith(signInKey) // Signing the token with the secret key
                 .compact(); // Return the compact JWT token
     }
 
     /**
-     * Returns the secret key used to sign the JWT token. The secret key is decoded from the base64 encoded string
-     * configured in the application properties.
+     * Builds a refresh token with the provided user details, typed as a refresh token and identified by its ID.
      *
-     * @return the secret key used for signing the JWT token.
+     * @param userDetails     the user details to be embedded in the token.
+     * @param tokenId         the unique ID of the token.
+     * @param tokenExpiration the expiration time of the token in milliseconds.
+     * @return the generated refresh token.
      */
-    private SecretKey getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(jwtSecret); // Decode the base64-encoded secret key
-        return Keys.hmacShaKeyFor(keyBytes); // Return the secret key for signing
+    @Override
+    public String buildRefreshToken(UserDetails userDetails, UUID tokenId, Long tokenExpiration) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(TOKEN_TYPE_CLAIM, TokenType.REFRESH_TOKEN.name());
+        claims.put(Claims.ID, tokenId.toString());
+        return buildToken(userDetails, claims, tokenExpiration);
     }
 
     /**
@@ -80,6 +155,30 @@ public class JwtServiceImpl implements JwtService {
         return claimsResolver.apply(claims); // Apply the claim resolver function to the claims
     }
 
+    /**
+     * Builds the details of a user from the subject, user ID and authorities claims of a token.
+     *
+     * @param claims the claims of the token.
+     * @return the details of the user.
+     */
+    private BlogUserDetails extractUserDetails(Claims claims) {
+        String userId = claims.get(USER_ID_CLAIM, String.class);
+        if (userId == null) {
+            throw new MalformedJwtException("Token has no user ID");
+        }
+        List<?> authorities = claims.get(AUTHORITIES_CLAIM, List.class);
+
+        User user = User.builder()
+                .id(UUID.fromString(userId))
+                .email(claims.getSubject())
+                .build();
+        return authorities == null
+                ? new BlogUserDetails(user)
+                : new BlogUserDetails(user, authorities.stream()
+                        .map(authority -> new SimpleGrantedAuthority(authority.toString()))
+                        .toList());
+    }
+
     /**
      * Extracts all claims from the provided JWT token.
      *
@@ -87,9 +186,7 @@ public class JwtServiceImpl implements JwtService {
      * @return the claims extracted from the token.
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parser() // Initialize the JWT parser
-                .verifyWith(getSignInKey()) // Set the signing key for verification
-                .build()
+        return jwtParser
                 .parseSignedClaims(token) // Parse the JWT token
                 .getPayload(); // Extract the claims body
     }
@@ -0,0 +1,182 @@
+package com.phirom_02.blog_api.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.phirom_02.blog_api.domain.dtos.ApiErrorResponse;
+import com.phirom_02.blog_api.domain.dtos.CreatePostDto;
+import com.phirom_02.blog_api.domain.dtos.CreatePostPayload;
+import com.phirom_02.blog_api.domain.dtos.PostImportResult;
+import com.phirom_02.blog_api.domain.entities.User;
+import com.phirom_02.blog_api.mappers.PostMapper;
+import com.phirom_02.blog_api.service.PostImportService;
+import com.phirom_02.blog_api.service.PostService;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Implementation of the {@link PostImportService} interface.
+ * <p>
+ * Records are read one line at a time and validated as they arrive. Valid records are collected into batches of
+ * {@code post_import.batch_size} posts, each created in its own transaction by {@link PostService#createPosts}.
+ * Should the database reject a batch, its records are retried one at a time so only the failing ones are skipped.
+ */
+@Slf4j
+@Service
+public class PostImportServiceImpl implements PostImportService {
+
+    private final PostService postService;
+    private final PostMapper postMapper;
+    private final Validator validator;
+    private final ObjectReader payloadReader;
+    private final int batchSize;
+
+    public PostImportServiceImpl(
+            PostService postService,
+            PostMapper postMapper,
+            Validator validator,
+            ObjectMapper objectMapper,
+            @Value("${post_import.batch_size}") int batchSize
+    ) {
+        this.postService = postService;
+        this.postMapper = postMapper;
+        this.validator = validator;
+        this.payloadReader = objectMapper.readerFor(CreatePostPayload.class);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Imports posts from newline-delimited JSON. Blank lines are ignored.
+     *
+     * @param user    the user the posts are imported for
+     * @param records the records to import
+     * @return the number of imported posts and the errors of the skipped records, ordered by line
+     * @throws IOException if the records cannot be read
+     */
+    @Override
+    public PostImportResult importPosts(User user, Reader records) throws IOException {
+        PostImportResult result = new PostImportResult();
+        Batch batch = new Batch(batchSize);
+        BufferedReader reader = new BufferedReader(records);
+
+        String line;
+        long lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            CreatePostPayload payload;
+            try {
+                payload = payloadReader.readValue(line);
+            } catch (JsonProcessingException e) {
+                result.getErrors().add(new PostImportResult.RecordError(
+                        lineNumber, "Malformed record: " + e.getOriginalMessage(), null
+                ));
+                continue;
+            }
+
+            Set<ConstraintViolation<CreatePostPayload>> violations = validator.validate(payload);
+            if (!violations.isEmpty()) {
+                List<ApiErrorResponse.FieldError> details = violations.stream()
+                        .map(violation -> new ApiErrorResponse.FieldError(
+                                violation.getPropertyPath().toString(), violation.getMessage()
+                        ))
+                        .sorted(Comparator.comparing(ApiErrorResponse.FieldError::getField))
+                        .toList();
+                result.getErrors().add(new PostImportResult.RecordError(lineNumber, "Validation failed", details));
+                continue;
+            }
+
+            batch.add(lineNumber, postMapper.toCreatePostDto(payload));
+            if (batch.isFull()) {
+                importBatch(user, batch, result);
+            }
+        }
+        importBatch(user, batch, result);
+
+        result.getErrors().sort(Comparator.comparingLong(PostImportResult.RecordError::getLine));
+        return result;
+    }
+
+    /**
+     * Creates the posts of a batch and empties it.
+     */
+    private void importBatch(User user, Batch batch, PostImportResult result) {
+        if (batch.dtos.isEmpty()) {
+            return;
+        }
+        try {
+            Map<Integer, String> errors = postService.createPosts(user, batch.dtos);
+            errors.forEach((index, message) ->
+                    result.getErrors().add(new PostImportResult.RecordError(batch.lines.get(index), message, null)));
+            result.setImported(result.getImported() + batch.dtos.size() - errors.size());
+        } catch (DataAccessException | PersistenceException e) {
+            log.warn("Database rejected a batch of {} posts, importing them one at a time", batch.dtos.size(), e);
+            for (int i = 0; i < batch.dtos.size(); i++) {
+                importRecord(user, batch.lines.get(i), batch.dtos.get(i), result);
+            }
+        }
+        batch.clear();
+    }
+
+    /**
+     * Creates the post of a single record of a rejected batch.
+     */
+    private void importRecord(User user, long line, CreatePostDto dto, PostImportResult result) {
+        try {
+            String error = postService.createPosts(user, List.of(dto)).get(0);
+            if (error == null) {
+                result.setImported(result.getImported() + 1);
+            } else {
+                result.getErrors().add(new PostImportResult.RecordError(line, error, null));
+            }
+        } catch (DataAccessException | PersistenceException e) {
+            result.getErrors().add(new PostImportResult.RecordError(line, "Could not save post", null));
+        }
+    }
+
+    /**
+     * Valid records waiting to be imported, with the lines they were read from.
+     */
+    private static final class Batch {
+        private final int capacity;
+        private final List<Long> lines;
+        private final List<CreatePostDto> dtos;
+
+        private Batch(int capacity) {
+            this.capacity = capacity;
+            this.lines = new ArrayList<>(capacity);
+            this.dtos = new ArrayList<>(capacity);
+        }
+
+        private void add(long line, CreatePostDto dto) {
+            lines.add(line);
+            dtos.add(dto);
+        }
+
+        private boolean isFull() {
+            return dtos.size() == capacity;
+        }
+
+        private void clear() {
+            lines.clear();
+            dtos.clear();
+        }
+    }
+}
@@ -1,29 +1,58 @@
 package com.phirom_02.blog_api.service.impl;
 
+import com.phirom_02.blog_api.domain.CategoryRef;
+import com.phirom_02.blog_api.domain.PostCursor;
+import com.phirom_02.blog_api.domain.PostSearchCursor;
 import com.phirom_02.blog_api.domain.PostStatus;
+import com.phirom_02.blog_api.domain.PostVersion;
+import com.phirom_02.blog_api.domain.UserRef;
 import com.phirom_02.blog_api.domain.dtos.CreatePostDto;
+import com.phirom_02.blog_api.domain.dtos.CursorPage;
+import com.phirom_02.blog_api.domain.dtos.PostResponse;
+import com.phirom_02.blog_api.domain.dtos.PostSummary;
+import com.phirom_02.blog_api.domain.dtos.PostTag;
 import com.phirom_02.blog_api.domain.dtos.UpdatePostDto;
 import com.phirom_02.blog_api.domain.entities.Category;
 import com.phirom_02.blog_api.domain.entities.Post;
 import com.phirom_02.blog_api.domain.entities.Tag;
 import com.phirom_02.blog_api.domain.entities.User;
+import com.phirom_02.blog_api.domain.events.PostChangedEvent;
+import com.phirom_02.blog_api.domain.events.PostChangedEvent.Placement;
+import com.phirom_02.blog_api.domain.projections.PostSearchHit;
+import com.phirom_02.blog_api.domain.projections.PostSummaryView;
+import com.phirom_02.blog_api.domain.projections.PostTagView;
+import com.phirom_02.blog_api.mappers.PostMapper;
 import com.phirom_02.blog_api.repository.PostRepository;
+import com.phirom_02.blog_api.search.PostSearchEngine;
 import com.phirom_02.blog_api.service.CategoryService;
 import com.phirom_02.blog_api.service.PostService;
 import com.phirom_02.blog_api.service.TagService;
 import com.phirom_02.blog_api.service.UserService;
+import com.phirom_02.blog_api.stats.PostViewCounter;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementation of the {@link PostService} interface for managing blog posts.
+ * Every write publishes a {@link PostChangedEvent}.
  */
 @Service
 @RequiredArgsConstructor
@@ -33,77 +62,298 @@ public class PostServiceImpl implements PostService {
     private final UserService userService;
     private final CategoryService categoryService;
     private final TagService tagService;
+    private final PostMapper postMapper;
+    private final PostSearchEngine postSearchEngine;
+    private final PostViewCounter postViewCounter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
 
-    private static final int WORDS_PER_MINUTE = 200;
+    static final int MAX_PAGE_SIZE = 100;
 
     /**
-     * Fetches all published posts, optionally filtered by category and/or tag.
-     * If neither filter is provided, returns all published posts.
+     * Fetches one page of published posts, newest first, optionally filtered by category and/or tag.
+     * If neither filter is provided, pages through all published posts.
+     * <p>
+     * One extra post is fetched to know whether a next page exists without running a count query.
      *
      * @param categoryId the UUID of the category to filter by (optional)
      * @param tagId      the UUID of the tag to filter by (optional)
-     * @return a list of {@link Post} entities matching the specified filters
+     * @param cursor     the cursor returned with the previous page, or {@code null} for the first page
+     * @param limit      the maximum number of posts in the page, between 1 and {@value #MAX_PAGE_SIZE}
+     * @return a page of {@link PostSummary} objects matching the specified filters
+     * @throws IllegalArgumentException if the cursor is malformed or the limit is out of range
      */
-    public List<Post> getAllPosts(UUID categoryId, UUID tagId) {
-        // If both category and tag are provided, filter by both
-        if (categoryId != null && tagId != null) {
-            Category category = categoryService.getCategoryById(categoryId);
-            Tag tag = tagService.getTagById(tagId);
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<PostSummary> getAllPosts(UUID categoryId, UUID tagId, String cursor, int limit) {
+        validateLimit(limit);
+        PostCursor position = PostCursor.decode(cursor);
+        Limit pageLimit = Limit.of(limit + 1);
+        List<PostSummaryView> posts;
 
-            return postRepository.findAllByStatusAndCategoryAndTagsContaining(
-                    PostStatus.PUBLISHED,
-                    category,
-                    tag
+        if (categoryId != null && tagId != null) {
+            // If both category and tag are provided, filter by both
+            categoryService.getCategoryRef(categoryId);
+            tagService.getTagRef(tagId);
+            posts = postRepository.findPageByStatusAndCategoryAndTag(
+                    PostStatus.PUBLISHED, categoryId, tagId, position.createdAt(), position.id(), pageLimit
+            );
+        } else if (categoryId != null) {
+            // If only category is provided, filter by category
+            categoryService.getCategoryRef(categoryId);
+            posts = postRepository.findPageByStatusAndCategory(
+                    PostStatus.PUBLISHED, categoryId, position.createdAt(), position.id(), pageLimit
+            );
+        } else if (tagId != null) {
+            // If only tag is provided, filter by tag
+            tagService.getTagRef(tagId);
+            posts = postRepository.findPageByStatusAndTag(
+                    PostStatus.PUBLISHED, tagId, position.createdAt(), position.id(), pageLimit
+            );
+        } else {
+            // If neither category nor tag is provided, page through all published posts
+            posts = postRepository.findPageByStatus(
+                    PostStatus.PUBLISHED, position.createdAt(), position.id(), pageLimit
             );
         }
 
-        // If only category is provided, filter by category
-        if (categoryId != null) {
-            Category category = categoryService.getCategoryById(categoryId);
+        if (posts.size() <= limit) {
+            return new CursorPage<>(toPostSummaries(posts), null);
+        }
+        List<PostSummary> page = toPostSummaries(posts.subList(0, limit));
+        return new CursorPage<>(page, PostCursor.after(page.getLast()).encode());
+    }
+
+    /**
+     * Computes the tag of a page of published posts from the IDs and modification times of its posts,
+     * running the same keyset query as {@link #getAllPosts(UUID, UUID, String, int)} without the joins and tags.
+     *
+     * @param categoryId the UUID of the category to filter by (optional)
+     * @param tagId      the UUID of the tag to filter by (optional)
+     * @param cursor     the cursor returned with the previous page, or {@code null} for the first page
+     * @param limit      the maximum number of posts in the page, between 1 and {@value #MAX_PAGE_SIZE}
+     * @return the tag of the page
+     * @throws IllegalArgumentException if the cursor is malformed or the limit is out of range
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public String getAllPostsVersion(UUID categoryId, UUID tagId, String cursor, int limit) {
+        validateLimit(limit);
+        PostCursor position = PostCursor.decode(cursor);
+        Limit pageLimit = Limit.of(limit + 1);
+        List<PostVersion> versions;
 
-            return postRepository.findAllByStatusAndCategory(
-                    PostStatus.PUBLISHED,
-                    category
+        if (categoryId != null && tagId != null) {
+            categoryService.getCategoryRef(categoryId);
+            tagService.getTagRef(tagId);
+            versions = postRepository.findPageVersionsByStatusAndCategoryAndTag(
+                    PostStatus.PUBLISHED, categoryId, tagId, position.createdAt(), position.id(), pageLimit
+            );
+        } else if (categoryId != null) {
+            categoryService.getCategoryRef(categoryId);
+            versions = postRepository.findPageVersionsByStatusAndCategory(
+                    PostStatus.PUBLISHED, categoryId, position.createdAt(), position.id(), pageLimit
+            );
+        } else if (tagId != null) {
+            tagService.getTagRef(tagId);
+            versions = postRepository.findPageVersionsByStatusAndTag(
+                    PostStatus.PUBLISHED, tagId, position.createdAt(), position.id(), pageLimit
+            );
+        } else {
+            versions = postRepository.findPageVersionsByStatus(
+                    PostStatus.PUBLISHED, position.createdAt(), position.id(), pageLimit
             );
         }
 
-        // If only tag is provided, filter by tag
+        boolean hasMore = versions.size() > limit;
+        return PostVersion.tagOf(hasMore ? versions.subList(0, limit) : versions, hasMore);
+    }
+
+    /**
+     * Searches published posts by title and content, most relevant first, optionally filtered by category and/or tag.
+     * Relevance ties are broken by recency, so pages are stable while posts are being added.
+     *
+     * @param query      the search query (required)
+     * @param categoryId the UUID of the category to filter by (optional)
+     * @param tagId      the UUID of the tag to filter by (optional)
+     * @param cursor     the cursor returned with the previous page, or {@code null} for the first page
+     * @param limit      the maximum number of posts in the page, between 1 and {@value #MAX_PAGE_SIZE}
+     * @return a page of {@link PostSummary} objects matching the query and the filters
+     * @throws IllegalArgumentException if the query is blank, the cursor is malformed or the limit is out of range
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<PostSummary> searchPosts(String query, UUID categoryId, UUID tagId, String cursor, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be blank");
+        }
+        validateLimit(limit);
+        PostSearchCursor position = PostSearchCursor.decode(cursor);
+        if (categoryId != null) {
+            categoryService.getCategoryRef(categoryId);
+        }
         if (tagId != null) {
-            Tag tag = tagService.getTagById(tagId);
-            return postRepository.findAllByStatusAndTagsContaining(
-                    PostStatus.PUBLISHED,
-                    tag
-            );
+            tagService.getTagRef(tagId);
         }
 
-        // If neither category nor tag is provided, return all published posts
-        return postRepository.findAllByStatus(PostStatus.PUBLISHED);
+        List<PostSearchHit> hits = postSearchEngine.search(query.strip(), categoryId, tagId, position, limit + 1);
+        List<PostSearchHit> pageHits = hits.size() > limit ? hits.subList(0, limit) : hits;
+
+        // Load the summaries of the page and put them back in relevance order
+        Map<UUID, PostSummaryView> postsById = postRepository.findSummariesByIdIn(
+                pageHits.stream().map(PostSearchHit::id).toList()
+        ).stream().collect(Collectors.toMap(PostSummaryView::getId, Function.identity()));
+        List<PostSummaryView> posts = pageHits.stream()
+                .map(hit -> postsById.get(hit.id()))
+                .filter(Objects::nonNull)
+                .toList();
+
+        String nextCursor = null;
+        if (hits.size() > limit) {
+            PostSearchHit last = pageHits.getLast();
+            nextCursor = new PostSearchCursor(last.rank(), last.createdAt(), last.id()).encode();
+        }
+        return new CursorPage<>(toPostSummaries(posts), nextCursor);
     }
 
     /**
      * Fetches all drafted posts authored by a user.
      *
      * @param userId the UUID of the user whose drafted posts should be fetched
-     * @return a list of drafted {@link Post} entities authored by the user
+     * @return a list of drafted {@link PostSummary} objects authored by the user
      */
     @Override
-    public List<Post> getAllDraftedPosts(UUID userId) {
-        // Find the user by their ID
-        User author = userService.findUserById(userId);
+    @Transactional(readOnly = true)
+    public List<PostSummary> getAllDraftedPosts(UUID userId) {
+        // Check that the user exists
+        UserRef author = userService.findUserRefById(userId);
         // Fetch and return the drafted posts by the user
-        return postRepository.findAllByAuthorAndStatus(author, PostStatus.DRAFT);
+        return toPostSummaries(postRepository.findAllByAuthorAndStatus(author.id(), PostStatus.DRAFT));
     }
 
     /**
-     * Fetches a post by its ID.
+     * Streams the published posts in chunks of {@link PostRepository#EXPORT_FETCH_SIZE}. The tags of each chunk are
+     * loaded with a single query, and the persistence context is cleared after every chunk, so memory use does not
+     * depend on the number of posts.
+     *
+     * @param consumer receives the posts one at a time
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportPublishedPosts(Consumer<PostResponse> consumer) {
+        try (Stream<Post> posts = postRepository.streamAllByStatus(PostStatus.PUBLISHED)) {
+            List<Post> chunk = new ArrayList<>(PostRepository.EXPORT_FETCH_SIZE);
+            posts.forEach(post -> {
+                chunk.add(post);
+                if (chunk.size() == PostRepository.EXPORT_FETCH_SIZE) {
+                    exportChunk(chunk, consumer);
+                }
+            });
+            exportChunk(chunk, consumer);
+        }
+    }
+
+    /**
+     * Hands a chunk of exported posts to the consumer with their tags and view counts, then detaches and forgets them.
+     */
+    private void exportChunk(List<Post> chunk, Consumer<PostResponse> consumer) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<UUID> postIds = chunk.stream().map(Post::getId).toList();
+        Map<UUID, Set<PostTag>> tagsByPostId = findTagsByPostId(postIds);
+        Map<UUID, Long> viewCounts = postViewCounter.getViewCounts(postIds);
+
+        for (Post post : chunk) {
+            PostResponse response = postMapper.toPostResponse(post, tagsByPostId.getOrDefault(post.getId(), Set.of()));
+            response.setViewCount(viewCounts.getOrDefault(post.getId(), 0L));
+            consumer.accept(response);
+        }
+        chunk.clear();
+        entityManager.clear();
+    }
+
+    /**
+     * Ensures a requested page size is between 1 and {@value #MAX_PAGE_SIZE}.
+     */
+    private void validateLimit(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    /**
+     * Attaches the tags to the projected posts, loading the tags of all posts with a single query.
+     *
+     * @param posts the projected posts
+     * @return the {@link PostSummary} objects, in the same order as the given posts
+     */
+    private List<PostSummary> toPostSummaries(List<PostSummaryView> posts) {
+        if (posts.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, Set<PostTag>> tagsByPostId = findTagsByPostId(posts.stream().map(PostSummaryView::getId).toList());
+
+        return posts.stream()
+                .map(post -> postMapper.toPostSummary(post, tagsByPostId.getOrDefault(post.getId(), Set.of())))
+                .toList();
+    }
+
+    /**
+     * Loads the tags of the given posts with a single query.
+     *
+     * @param postIds the IDs of the posts
+     * @return the tags of each post that has any
+     */
+    private Map<UUID, Set<PostTag>> findTagsByPostId(List<UUID> postIds) {
+        return postRepository.findTagsByPostIdIn(postIds).stream()
+                .collect(Collectors.groupingBy(
+                        PostTagView::getPostId,
+                        Collectors.mapping(postMapper::toPostTag, Collectors.toSet())
+                ));
+    }
+
+    /**
+     * Fetches a post by its ID, together with its author, category and tags.
      *
      * @param postId the UUID of the post to fetch
      * @return the {@link Post} entity with the specified ID
      * @throws EntityNotFoundException if the post with the given ID does not exist
      */
     @Override
+    @Transactional(readOnly = true)
     public Post getPostById(UUID postId) {
-        return postRepository.findById(postId)
+        return postRepository.findWithDetailsById(postId)
+                .orElseThrow(() -> new EntityNotFoundException("Post not found with id: " + postId));
+    }
+
+    /**
+     * Fetches a post by its ID, together with its author, category, tags and view count, and maps it before the
+     * transaction ends.
+     *
+     * @param postId the UUID of the post to fetch
+     * @return the {@link PostResponse} of the post with the specified ID
+     * @throws EntityNotFoundException if the post with the given ID does not exist
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PostResponse getPostResponse(UUID postId) {
+        PostResponse response = postMapper.toPostResponse(getPostById(postId));
+        response.setViewCount(postViewCounter.getViewCount(postId));
+        return response;
+    }
+
+    /**
+     * Fetches the version of a post with a query that reads neither its content nor its associations.
+     *
+     * @param postId the UUID of the post
+     * @return the {@link PostVersion} of the post
+     * @throws EntityNotFoundException if the post with the given ID does not exist
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PostVersion getPostVersion(UUID postId) {
+        return postRepository.findVersionById(postId)
                 .orElseThrow(() -> new EntityNotFoundException("Post not found with id: " + postId));
     }
 
@@ -116,26 +366,116 @@ public class PostServiceImpl implements PostService {
      * @throws IllegalArgumentException if the post title already exists
      */
     @Override
+    @Transactional
     public Post createPost(User user, CreatePostDto createPostDto) {
-        // Create a new Post object and set its properties based on the DTO
-        Post post = new Post();
-        post.setTitle(createPostDto.getTitle());
-        post.setContent(createPostDto.getContent());
-        post.setStatus(createPostDto.getStatus());
-        post.setAuthor(user); // Set the author of the post
-        post.setReadingTime(calculateReadingTime(createPostDto.getContent())); // Calculate reading time based on content
-
-        // Set the category of the post
-        Category category = categoryService.getCategoryById(createPostDto.getCategoryId());
-        post.setCategory(category);
+        // Set the category of the post, checked to exist through the cache rather than loaded
+        CategoryRef category = categoryService.getCategoryRef(createPostDto.getCategoryId());
 
         // Set the tags for the post based on tag IDs provided in the DTO
         Set<UUID> tagIds = createPostDto.getTagIds();
         List<Tag> tags = tagService.getTagsByIds(tagIds);
-        post.setTags(new HashSet<>(tags));
 
-        // Save the post to the repository
-        return postRepository.save(post);
+        // Save the post to the repository and count it if it is published
+        Post savedPost = postRepository.save(newPost(
+                user, createPostDto, categoryService.getCategoryReference(category.id()), new HashSet<>(tags)
+        ));
+        adjustPublishedPostCounts(Placement.NONE, Placement.of(savedPost));
+        eventPublisher.publishEvent(PostChangedEvent.saved(savedPost, Placement.NONE));
+        return savedPost;
+    }
+
+    /**
+     * Creates a new post by the user with the given ID, and maps it before the transaction ends. The user and the
+     * category are checked to exist through their caches and set as references, so neither is loaded.
+     *
+     * @param userId        the UUID of the user who is creating the post
+     * @param createPostDto the data transfer object containing the post details
+     * @return the {@link PostResponse} of the created post
+     * @throws EntityNotFoundException if the user, the category or a tag does not exist
+     */
+    @Override
+    @Transactional
+    public PostResponse createPostResponse(UUID userId, CreatePostDto createPostDto) {
+        UserRef author = userService.findUserRefById(userId);
+        Post post = createPost(userService.getUserReference(author.id()), createPostDto);
+        return postMapper.toPostResponse(post, author, categoryService.getCategoryRef(createPostDto.getCategoryId()));
+    }
+
+    /**
+     * Creates a batch of posts. The categories and tags of the batch are loaded with one query each, the posts and
+     * their tags are inserted in JDBC batches when the batch is flushed, and the published post counts are adjusted
+     * once per category and per distinct change of the tags. The persistence context is cleared afterwards,
+     * so importing many batches in one request does not accumulate posts in memory.
+     *
+     * @param user the user who is creating the posts
+     * @param dtos the data transfer objects containing the post details
+     * @return why each skipped post was not created, keyed by its index in {@code dtos}
+     */
+    @Override
+    @Transactional
+    public Map<Integer, String> createPosts(User user, List<CreatePostDto> dtos) {
+        Set<UUID> categoryIds = dtos.stream().map(CreatePostDto::getCategoryId).collect(Collectors.toSet());
+        Map<UUID, Category> categories = categoryService.getCategoriesByIds(categoryIds).stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity()));
+        Set<UUID> tagIds = dtos.stream().flatMap(dto -> dto.getTagIds().stream()).collect(Collectors.toSet());
+        Map<UUID, Tag> tags = tagIds.isEmpty() ? Map.of() : tagService.getTagsByIds(tagIds).stream()
+                .collect(Collectors.toMap(Tag::getId, Function.identity()));
+
+        Map<Integer, String> errors = new HashMap<>();
+        List<Post> posts = new ArrayList<>(dtos.size());
+        for (int i = 0; i < dtos.size(); i++) {
+            CreatePostDto dto = dtos.get(i);
+            Category category = categories.get(dto.getCategoryId());
+            if (category == null) {
+                errors.put(i, "Category not found with id: " + dto.getCategoryId());
+                continue;
+            }
+            List<UUID> missingTagIds = dto.getTagIds().stream().filter(id -> !tags.containsKey(id)).toList();
+            if (!missingTagIds.isEmpty()) {
+                errors.put(i, "Tags not found with ids: " + missingTagIds);
+                continue;
+            }
+            Set<Tag> postTags = dto.getTagIds().stream().map(tags::get).collect(Collectors.toSet());
+            posts.add(newPost(user, dto, category, postTags));
+        }
+
+        List<Post> savedPosts = postRepository.saveAll(posts);
+        entityManager.flush();
+
+        Map<UUID, Long> categoryDeltas = new HashMap<>();
+        Map<UUID, Long> tagDeltas = new HashMap<>();
+        for (Post post : savedPosts) {
+            Placement placement = Placement.of(post);
+            if (placement.published()) {
+                categoryDeltas.merge(placement.categoryId(), 1L, Long::sum);
+                placement.tagIds().forEach(id -> tagDeltas.merge(id, 1L, Long::sum));
+            }
+        }
+        categoryDeltas.forEach(categoryService::adjustPublishedPostCount);
+        tagDeltas.entrySet().stream()
+                .collect(Collectors.groupingBy(
+                        Map.Entry::getValue,
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toSet())
+                ))
+                .forEach((delta, ids) -> tagService.adjustPublishedPostCount(ids, delta));
+
+        savedPosts.forEach(post -> eventPublisher.publishEvent(PostChangedEvent.saved(post, Placement.NONE)));
+        entityManager.clear();
+        return errors;
+    }
+
+    /**
+     * Builds a new, unsaved post from the details of a DTO and its already loaded category and tags.
+     */
+    private Post newPost(User user, CreatePostDto dto, Category category, Set<Tag> tags) {
+        Post post = new Post();
+        post.setTitle(dto.getTitle());
+        post.setContent(dto.getContent());
+        post.setStatus(dto.getStatus());
+        post.setAuthor(user); // Set the author of the post
+        post.setCategory(category);
+        post.setTags(tags);
+        return post;
     }
 
     /**
@@ -147,15 +487,18 @@ public class PostServiceImpl implements PostService {
      * @throws EntityNotFoundException if the post with the given ID does not exist
      */
     @Override
+    @Transactional
     public Post updatePost(UUID id, UpdatePostDto dto) {
         Post existingPost = getPostById(id);
+        Placement previousPlacement = Placement.of(existingPost);
 
         // Update post properties
         existingPost.setId(dto.getId());
         existingPost.setTitle(dto.getTitle());
         existingPost.setContent(dto.getContent());
         existingPost.setStatus(PostStatus.PUBLISHED);
-        existingPost.setReadingTime(calculateReadingTime(dto.getContent()));
+        // Move the version forward even when only the tags change, which leaves the row of the post unchanged
+        existingPost.touch();
 
         // Update the category of the post if it has changed
         UUID newPostCategoryId = dto.getCategoryId();
@@ -171,12 +514,31 @@ public class PostServiceImpl implements PostService {
                 .collect(Collectors.toSet());
         Set<UUID> newPostTagIds = dto.getTagIds();
         if (!existingTagIds.equals(newPostTagIds)) {
-            List<Tag> newTags = tagService.getTagsByIds(existingTagIds);
+            List<Tag> newTags = tagService.getTagsByIds(newPostTagIds);
             existingPost.setTags(new HashSet<>(newTags));
         }
 
-        // Save and return the updated post
-        return postRepository.save(existingPost);
+        // Save the updated post and move its counts if its category, tags or status changed
+        Post savedPost = postRepository.save(existingPost);
+        adjustPublishedPostCounts(previousPlacement, Placement.of(savedPost));
+        eventPublisher.publishEvent(PostChangedEvent.saved(savedPost, previousPlacement));
+        return savedPost;
+    }
+
+    /**
+     * Updates an existing post, and maps it before the transaction ends.
+     *
+     * @param id  the UUID of the post to update
+     * @param dto the data transfer object containing the updated post details
+     * @return the {@link PostResponse} of the updated post
+     * @throws EntityNotFoundException if the post with the given ID does not exist
+     */
+    @Override
+    @Transactional
+    public PostResponse updatePostResponse(UUID id, UpdatePostDto dto) {
+        PostResponse response = postMapper.toPostResponse(updatePost(id, dto));
+        response.setViewCount(postViewCounter.getViewCount(id));
+        return response;
     }
 
     /**
@@ -186,28 +548,46 @@ public class PostServiceImpl implements PostService {
      * @throws EntityNotFoundException if the post with the given ID does not exist
      */
     @Override
+    @Transactional
     public void deletePost(UUID id) {
         // Ensure the post exists before attempting to delete it
-        getPostById(id);
-        // Delete the post from the repository
-        postRepository.deleteById(id);
+        Post post = getPostById(id);
+        // Delete the post from the repository and uncount it if it was published
+        postRepository.delete(post);
+        adjustPublishedPostCounts(Placement.of(post), Placement.NONE);
+        eventPublisher.publishEvent(PostChangedEvent.deleted(post));
     }
 
     /**
-     * Calculates the reading time for a given content based on an average reading speed of 200 words per minute.
+     * Moves the published post counts of categories and tags from what a post counted towards
+     * before a change to what it counts towards after it. Categories and tags on both sides are left untouched.
      *
-     * @param content the content of the post
-     * @return the estimated reading time in minutes
+     * @param previous where the post was listed before the change
+     * @param current  where the post is listed after the change
      */
-    private int calculateReadingTime(String content) {
-        // If content is empty, return 0 reading time
-        if (content == null || content.isEmpty()) {
-            return 0;
+    private void adjustPublishedPostCounts(Placement previous, Placement current) {
+        UUID previousCategoryId = previous.categoryId();
+        UUID currentCategoryId = current.categoryId();
+        Set<UUID> previousTagIds = previous.tagIds();
+        Set<UUID> currentTagIds = current.tagIds();
+        if (!Objects.equals(previousCategoryId, currentCategoryId)) {
+            if (previousCategoryId != null) {
+                categoryService.adjustPublishedPostCount(previousCategoryId, -1);
+            }
+            if (currentCategoryId != null) {
+                categoryService.adjustPublishedPostCount(currentCategoryId, 1);
+            }
         }
 
-        // Split the content into words and calculate the word count
-        int wordCount = content.trim().split("\\s+").length;
-        // Calculate and return the reading time (rounded up to the nearest minute)
-        return (int) Math.ceil((double) wordCount / WORDS_PER_MINUTE);
+        Set<UUID> removedTagIds = new HashSet<>(previousTagIds);
+        removedTagIds.removeAll(currentTagIds);
+        Set<UUID> addedTagIds = new HashSet<>(currentTagIds);
+        addedTagIds.removeAll(previousTagIds);
+        if (!removedTagIds.isEmpty()) {
+            tagService.adjustPublishedPostCount(removedTagIds, -1);
+        }
+        if (!addedTagIds.isEmpty()) {
+            tagService.adjustPublishedPostCount(addedTagIds, 1);
+        }
     }
 }
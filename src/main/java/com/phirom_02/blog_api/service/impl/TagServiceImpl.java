@@ -1,12 +1,21 @@
 package com.phirom_02.blog_api.service.impl;
 
+import com.phirom_02.blog_api.config.CacheConfig;
+import com.phirom_02.blog_api.domain.TagRef;
+import com.phirom_02.blog_api.domain.dtos.TagResponse;
 import com.phirom_02.blog_api.domain.entities.Tag;
+import com.phirom_02.blog_api.domain.events.TagDeletedEvent;
+import com.phirom_02.blog_api.mappers.TagMapper;
 import com.phirom_02.blog_api.repository.TagRepository;
 import com.phirom_02.blog_api.service.TagService;
 import jakarta.persistence.EntityNotFoundException;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -16,22 +25,38 @@ import java.util.stream.Collectors;
 
 /**
  * Service implementation for tag-related business logic.
+ * The IDs and names of tags looked up by ID are cached in {@link CacheConfig#TAGS}, rather than the entities,
+ * whose lazy posts cannot be loaded outside the transaction that read them.
+ * Deleting a tag publishes a {@link TagDeletedEvent}, which evicts it from the cache once committed.
  */
 @Service
 @RequiredArgsConstructor
 public class TagServiceImpl implements TagService {
 
     private final TagRepository tagRepository;
+    private final TagMapper tagMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * Retrieves all tags from the repository including their associated posts
-     * for calculating post counts.
+     * Retrieves all tags from the repository, including their stored published post count.
      *
      * @return a list of all tags
      */
     @Override
+    @Transactional(readOnly = true)
     public List<Tag> getAllTags() {
-        return tagRepository.findAllWithPostCount();
+        return tagRepository.findAll();
+    }
+
+    /**
+     * Retrieves all tags and maps them before the transaction ends.
+     *
+     * @return the responses of all tags
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<TagResponse> getAllTagResponses() {
+        return tagRepository.findAll().stream().map(tagMapper::toResponseTag).toList();
     }
 
     /**
@@ -42,6 +67,7 @@ public class TagServiceImpl implements TagService {
      * @return a list of newly created tags
      */
     @Override
+    @Transactional
     public List<Tag> createTags(Set<String> tagNames) {
         // Fetch existing tags from the database
         List<Tag> existingTags = tagRepository.findAllByNameIn(tagNames);
@@ -76,6 +102,7 @@ public class TagServiceImpl implements TagService {
      * @return the list of corresponding tag entities
      */
     @Override
+    @Transactional(readOnly = true)
     public List<Tag> getTagsByIds(Set<UUID> ids) {
         return tagRepository.findAllByIdIn(ids);
     }
@@ -88,11 +115,42 @@ public class TagServiceImpl implements TagService {
      * @throws EntityNotFoundException if no tag is found
      */
     @Override
+    @Transactional(readOnly = true)
     public Tag getTagById(UUID id) {
         return tagRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Tag not found with id: " + id));
     }
 
+    /**
+     * Retrieves the ID and name of a tag by its ID.
+     *
+     * @param id the tag's UUID
+     * @return the reference of the found tag
+     * @throws EntityNotFoundException if no tag is found
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.TAGS, key = "#id", sync = true)
+    public TagRef getTagRef(UUID id) {
+        Tag tag = getTagById(id);
+        return new TagRef(tag.getId(), tag.getName());
+    }
+
+    /**
+     * Adds the given delta to the published post count of the given tags.
+     *
+     * @param ids   the tags' UUIDs
+     * @param delta the number of published posts added or removed
+     */
+    @Override
+    @Transactional
+    public void adjustPublishedPostCount(Set<UUID> ids, long delta) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        tagRepository.incrementPublishedPostCount(ids, delta);
+    }
+
     /**
      * Deletes a tag by its ID only if no posts are associated with it.
      *
@@ -108,5 +166,17 @@ public class TagServiceImpl implements TagService {
             }
         });
         tagRepository.deleteById(id);
+        eventPublisher.publishEvent(new TagDeletedEvent(id));
+    }
+
+    /**
+     * Evicts a deleted tag from the cache once its deletion has committed. Evicting it any earlier would let a lookup
+     * running before the commit cache it again.
+     *
+     * @param event the deletion of the tag
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @CacheEvict(cacheNames = CacheConfig.TAGS, key = "#event.tagId()")
+    public void onTagDeleted(TagDeletedEvent event) {
     }
 }
@@ -1,18 +1,23 @@
 package com.phirom_02.blog_api.service.impl;
 
+import com.phirom_02.blog_api.config.CacheConfig;
+import com.phirom_02.blog_api.domain.UserRef;
 import com.phirom_02.blog_api.domain.dtos.CreateUserDto;
 import com.phirom_02.blog_api.domain.entities.User;
 import com.phirom_02.blog_api.repository.UserRepository;
 import com.phirom_02.blog_api.service.UserService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.UUID;
 
 /**
- * Implementation of {@link UserService} responsible for managing user-related operations,
+ * Implementation of {@link UserService} responsible for managing user-related operations.
+ * The IDs and names of users looked up by ID are cached in {@link CacheConfig#USERS}. The users themselves are not,
+ * so their password hashes are never kept beyond the request that loaded them.
  */
 @Service
 @RequiredArgsConstructor
@@ -34,6 +39,31 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new EntityNotFoundException("No user found with id: " + id));
     }
 
+    /**
+     * Finds the ID and name of a user by their unique identifier.
+     *
+     * @param id the UUID of the user to retrieve
+     * @return the {@link UserRef} of the user
+     * @throws EntityNotFoundException if the user with the given ID is not found
+     */
+    @Override
+    @Cacheable(cacheNames = CacheConfig.USERS, key = "#id", sync = true)
+    public UserRef findUserRefById(UUID id) {
+        User user = findUserById(id);
+        return new UserRef(user.getId(), user.getName());
+    }
+
+    /**
+     * Returns a reference to a user without loading it.
+     *
+     * @param id the UUID of the user
+     * @return a {@link User} proxy holding only the ID of the user
+     */
+    @Override
+    public User getUserReference(UUID id) {
+        return userRepository.getReferenceById(id);
+    }
+
     /**
      * Creates and persists a new user in the database.
      *
@@ -0,0 +1,185 @@
+package com.phirom_02.blog_api.stats;
+
+import com.phirom_02.blog_api.repository.PostStatsRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Counts the views of posts in memory and writes them behind to {@code post_stats}, so viewing a post never waits
+ * on a write, and the views of a popular post are added to its row once per flush rather than once per view.
+ * <p>
+ * Like the cells of a {@link java.util.concurrent.atomic.LongAdder}, views are spread over several stripes, picked at
+ * random for each view, so concurrent views of the same post rarely wait on each other. Every
+ * {@code post_views.flush_interval}, each stripe is swapped for an empty one, and the views of all stripes are merged
+ * and added to the stored counts in upserts of up to {@code post_views.batch_size} posts. Views that could not be
+ * written are kept for the next flush. The views left are flushed on shutdown, after the web server has finished
+ * the requests in progress.
+ * <p>
+ * Counts include the views not flushed yet, but miss the views being written while a flush is in progress.
+ */
+@Slf4j
+@Component
+public class PostViewCounter {
+
+    private static final int STRIPES_PER_PROCESSOR = 4;
+
+    private final PostStatsRepository postStatsRepository;
+    private final int batchSize;
+    private final Stripe[] stripes;
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    @Autowired
+    public PostViewCounter(
+            PostStatsRepository postStatsRepository,
+            @Value("${post_views.batch_size}") int batchSize
+    ) {
+        this(postStatsRepository, batchSize, Runtime.getRuntime().availableProcessors() * STRIPES_PER_PROCESSOR);
+    }
+
+    PostViewCounter(PostStatsRepository postStatsRepository, int batchSize, int stripeCount) {
+        this.postStatsRepository = postStatsRepository;
+        this.batchSize = batchSize;
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * Counts a view of a post.
+     *
+     * @param postId the ID of the viewed post
+     */
+    public void recordView(UUID postId) {
+        stripes[ThreadLocalRandom.current().nextInt(stripes.length)].add(postId, 1);
+    }
+
+    /**
+     * Returns the number of views of a post, including the views not flushed yet.
+     *
+     * @param postId the ID of the post
+     * @return the number of views of the post
+     */
+    public long getViewCount(UUID postId) {
+        return postStatsRepository.findViewCount(postId) + pendingViews(postId);
+    }
+
+    /**
+     * Returns the number of views of several posts, reading their stored counts with a single query.
+     *
+     * @param postIds the IDs of the posts
+     * @return the number of views of each post that has any
+     */
+    public Map<UUID, Long> getViewCounts(Collection<UUID> postIds) {
+        Map<UUID, Long> viewCounts = new HashMap<>(postStatsRepository.findViewCounts(postIds));
+        for (UUID postId : postIds) {
+            long pending = pendingViews(postId);
+            if (pending > 0) {
+                viewCounts.merge(postId, pending, Long::sum);
+            }
+        }
+        return viewCounts;
+    }
+
+    /**
+     * Adds the views counted since the last flush to the stored counts.
+     */
+    @Scheduled(
+            initialDelayString = "${post_views.flush_interval}",
+            fixedDelayString = "${post_views.flush_interval}"
+    )
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<UUID, Long> views = new HashMap<>();
+            for (Stripe stripe : stripes) {
+                stripe.drain().forEach((postId, count) -> views.merge(postId, count[0], Long::sum));
+            }
+
+            Map<UUID, Long> batch = new LinkedHashMap<>();
+            for (Map.Entry<UUID, Long> entry : views.entrySet()) {
+                batch.put(entry.getKey(), entry.getValue());
+                if (batch.size() == batchSize) {
+                    write(batch);
+                    batch = new LinkedHashMap<>();
+                }
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Flushes the views left before the application stops.
+     */
+    @PreDestroy
+    public void close() {
+        flush();
+        long unwritten = 0;
+        for (Stripe stripe : stripes) {
+            unwritten += stripe.drain().values().stream().mapToLong(count -> count[0]).sum();
+        }
+        if (unwritten > 0) {
+            log.error("Lost {} post views that could not be written on shutdown", unwritten);
+        }
+    }
+
+    /**
+     * Writes a batch of views, putting them back to be retried on the next flush if they cannot be written.
+     */
+    private void write(Map<UUID, Long> views) {
+        try {
+            postStatsRepository.addViews(views);
+        } catch (DataAccessException e) {
+            log.warn("Could not write the views of {} posts, retrying on the next flush", views.size(), e);
+            views.forEach((postId, count) -> stripes[0].add(postId, count));
+        }
+    }
+
+    private long pendingViews(UUID postId) {
+        long views = 0;
+        for (Stripe stripe : stripes) {
+            views += stripe.get(postId);
+        }
+        return views;
+    }
+
+    /**
+     * Views counted on one stripe since the last flush. Its lock is only held to update a map in memory.
+     */
+    private static final class Stripe {
+
+        private Map<UUID, long[]> views = new HashMap<>();
+
+        synchronized void add(UUID postId, long count) {
+            views.computeIfAbsent(postId, id -> new long[1])[0] += count;
+        }
+
+        synchronized long get(UUID postId) {
+            long[] count = views.get(postId);
+            return count == null ? 0 : count[0];
+        }
+
+        synchronized Map<UUID, long[]> drain() {
+            Map<UUID, long[]> drained = views;
+            views = new HashMap<>();
+            return drained;
+        }
+    }
+}
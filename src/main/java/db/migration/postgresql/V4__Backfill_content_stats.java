@@ -0,0 +1,70 @@
+package db.migration.postgresql;
+
+import com.phirom_02.blog_api.domain.ContentStats;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+
+/**
+ * Computes the excerpt, reading time and content statistics of the posts saved before {@code Post.setContent}
+ * computed them, which still have no excerpt or no character count.
+ * <p>
+ * The statistics are computed by {@link ContentStats}, as for new posts, so this is a Java migration rather than SQL.
+ * Posts are read and updated {@value #BATCH_SIZE} at a time in the order of their IDs, so the contents of all posts
+ * are never held at once. Their modification time is left untouched, so the backfill does not change their ETags.
+ */
+public class V4__Backfill_content_stats extends BaseJavaMigration {
+
+    static final int BATCH_SIZE = 500;
+
+    private static final String SELECT_MISSING = """
+            SELECT id, content FROM posts
+            WHERE id > ?
+              AND (excerpt IS NULL OR (character_count = 0 AND content <> ''))
+            ORDER BY id
+            LIMIT ?
+            """;
+
+    private static final String UPDATE = """
+            UPDATE posts
+            SET excerpt = ?, reading_time = ?, character_count = ?, word_count = ?, paragraph_count = ?
+            WHERE id = ?
+            """;
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        try (PreparedStatement select = connection.prepareStatement(SELECT_MISSING);
+             PreparedStatement update = connection.prepareStatement(UPDATE)) {
+            UUID lastId = new UUID(0L, 0L);
+            int count;
+            do {
+                select.setObject(1, lastId);
+                select.setInt(2, BATCH_SIZE);
+                count = 0;
+                try (ResultSet posts = select.executeQuery()) {
+                    while (posts.next()) {
+                        lastId = posts.getObject("id", UUID.class);
+                        ContentStats stats = ContentStats.of(posts.getString("content"));
+                        update.setString(1, stats.excerpt());
+                        update.setInt(2, stats.readingTime());
+                        update.setInt(3, stats.characterCount());
+                        update.setInt(4, stats.wordCount());
+                        update.setInt(5, stats.paragraphCount());
+                        update.setObject(6, lastId);
+                        update.addBatch();
+                        count++;
+                    }
+                }
+                if (count > 0) {
+                    update.executeBatch();
+                }
+            } while (count == BATCH_SIZE);
+        }
+    }
+}
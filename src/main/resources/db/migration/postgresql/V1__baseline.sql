@@ -0,0 +1,67 @@
+-- Schema as Hibernate created it before the migrations existed, so databases it created can be baselined at this
+-- version (spring.flyway.baseline-on-migrate) and only run the later migrations.
+
+CREATE TABLE users (
+    created_at timestamp(6) with time zone NOT NULL,
+    updated_at timestamp(6) with time zone NOT NULL,
+    id         uuid                        NOT NULL,
+    email      varchar(255)                NOT NULL UNIQUE,
+    name       varchar(255)                NOT NULL,
+    password   varchar(255)                NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE categories (
+    published_post_count bigint DEFAULT 0 NOT NULL,
+    id                   uuid             NOT NULL,
+    name                 varchar(255)     NOT NULL UNIQUE,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE tags (
+    published_post_count bigint DEFAULT 0 NOT NULL,
+    id                   uuid             NOT NULL,
+    name                 varchar(255)     NOT NULL UNIQUE,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE posts (
+    character_count integer DEFAULT 0            NOT NULL,
+    paragraph_count integer DEFAULT 0            NOT NULL,
+    reading_time    integer                      NOT NULL,
+    word_count      integer DEFAULT 0            NOT NULL,
+    created_at      timestamp(6) with time zone NOT NULL,
+    updated_at      timestamp(6) with time zone NOT NULL,
+    author_id       uuid                         NOT NULL,
+    category_id     uuid,
+    id              uuid                         NOT NULL,
+    excerpt         varchar(280),
+    content         text                         NOT NULL,
+    status          varchar(255)                 NOT NULL CHECK (status IN ('DRAFT', 'PUBLISHED')),
+    title           varchar(255)                 NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE post_tags (
+    post_id uuid NOT NULL,
+    tag_id  uuid NOT NULL,
+    PRIMARY KEY (post_id, tag_id)
+);
+
+CREATE INDEX idx_post_status ON posts (status);
+CREATE INDEX idx_post_status_created_at_id ON posts (status, created_at, id);
+CREATE INDEX idx_post_category_status_created_at_id ON posts (category_id, status, created_at, id);
+
+ALTER TABLE post_tags ADD CONSTRAINT FKm6cfovkyqvu5rlm6ahdx3eavj FOREIGN KEY (tag_id) REFERENCES tags;
+ALTER TABLE post_tags ADD CONSTRAINT FKkifam22p4s1nm3bkmp1igcn5w FOREIGN KEY (post_id) REFERENCES posts;
+ALTER TABLE posts ADD CONSTRAINT FK6xvn0811tkyo3nfjk2xvqx6ns FOREIGN KEY (author_id) REFERENCES users;
+ALTER TABLE posts ADD CONSTRAINT FKijnwr3brs8vaosl80jg9rp7uc FOREIGN KEY (category_id) REFERENCES categories;
+
+-- Full-text search over posts, see PostSearchRepositoryImpl
+ALTER TABLE posts ADD COLUMN search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(content, '')), 'B')
+    ) STORED;
+
+CREATE INDEX idx_post_search_vector ON posts USING GIN (search_vector);
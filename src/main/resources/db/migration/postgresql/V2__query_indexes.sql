@@ -0,0 +1,15 @@
+-- Indexes of the repository queries, checked by RepositoryQueryPlanIntTest.
+-- Listings of a status use idx_post_status_created_at_id, and listings of a category, as well as the published post
+-- counts of a category, use idx_post_category_status_created_at_id.
+
+-- Every query filtering on the status alone is served by idx_post_status_created_at_id
+DROP INDEX IF EXISTS idx_post_status;
+
+-- Listings and published post counts of a tag, and deletions of a tag: the primary key starts with post_id
+CREATE INDEX IF NOT EXISTS idx_post_tags_tag_id_post_id ON post_tags (tag_id, post_id);
+
+-- Drafts of an author, newest first
+CREATE INDEX IF NOT EXISTS idx_post_author_status_created_at_id ON posts (author_id, status, created_at, id);
+
+-- Case-insensitive lookups of categories by name: Hibernate compares upper(name) for CategoryRepository.existsByNameIgnoreCase
+CREATE INDEX IF NOT EXISTS idx_category_upper_name ON categories (upper(name));
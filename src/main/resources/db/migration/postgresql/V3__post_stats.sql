@@ -0,0 +1,7 @@
+-- View counts of the posts, written behind by PostViewCounter. Counts of a deleted post go with it.
+CREATE TABLE post_stats (
+    post_id    uuid             NOT NULL,
+    view_count bigint DEFAULT 0 NOT NULL,
+    PRIMARY KEY (post_id),
+    CONSTRAINT fk_post_stats_post FOREIGN KEY (post_id) REFERENCES posts ON DELETE CASCADE
+);
@@ -0,0 +1,8 @@
+-- IDs of the refresh tokens already redeemed, see RevokedRefreshTokens. Rows are deleted once the token expired.
+CREATE TABLE revoked_refresh_tokens (
+    id         uuid                     NOT NULL,
+    expires_at timestamp(6) with time zone NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_revoked_refresh_tokens_expires_at ON revoked_refresh_tokens (expires_at);
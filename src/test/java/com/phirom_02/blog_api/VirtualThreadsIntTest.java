@@ -0,0 +1,67 @@
+package com.phirom_02.blog_api;
+
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.threads.virtual.enabled=true", "post_listing_cache.enabled=true"}
+)
+class VirtualThreadsIntTest extends IntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:latest");
+
+    @Autowired
+    ServletWebServerApplicationContext context;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    Executor applicationTaskExecutor;
+
+    @Autowired
+    TestRestTemplate restTemplate;
+
+    @Test
+    void tomcat_shouldServeRequestsOnVirtualThreads() {
+        // Arrange
+        TomcatWebServer webServer = (TomcatWebServer) context.getWebServer();
+
+        // Act
+        ResponseEntity<String> response = restTemplate.getForEntity("/api/v1/posts", String.class);
+
+        // Assert
+        assertThat(webServer.getTomcat().getConnector().getProtocolHandler().getExecutor())
+                .isInstanceOf(VirtualThreadExecutor.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void applicationTaskExecutor_shouldRunTasksOnVirtualThreads() {
+        // Act
+        boolean virtual = CompletableFuture.supplyAsync(() -> Thread.currentThread().isVirtual(), applicationTaskExecutor)
+                .join();
+
+        // Assert
+        assertThat(virtual).isTrue();
+    }
+}
@@ -0,0 +1,84 @@
+package com.phirom_02.blog_api.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.phirom_02.blog_api.IntegrationTest;
+import com.phirom_02.blog_api.domain.PostStatus;
+import com.phirom_02.blog_api.domain.dtos.CursorPage;
+import com.phirom_02.blog_api.domain.dtos.PostSummary;
+import com.phirom_02.blog_api.domain.entities.Category;
+import com.phirom_02.blog_api.domain.entities.Tag;
+import com.phirom_02.blog_api.domain.entities.User;
+import com.phirom_02.blog_api.service.PostService;
+import com.phirom_02.blog_api.util.TestDataHelper;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.Rollback;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(properties = "post_listing_cache.enabled=true")
+@Testcontainers
+@Import(TestDataHelper.class)
+@Transactional
+class PostListingCacheIntTest extends IntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16:9");
+
+    @Autowired
+    private TestDataHelper testDataHelper;
+
+    @Autowired
+    private PostListingCache postListingCache;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Category category;
+
+    @BeforeEach
+    @Rollback
+    void setUp() {
+        User user = testDataHelper.createUser("John Smith", "john.smith@example.com");
+        category = testDataHelper.createCategory("category-1");
+        Tag tag = testDataHelper.createTag("tag-1");
+
+        for (int i = 0; i < 3; i++) {
+            testDataHelper.createPost("Post " + i, "Content " + i, PostStatus.PUBLISHED, user, category, Set.of(tag));
+        }
+        testDataHelper.createPost("Draft", "Not published yet", PostStatus.DRAFT, user, category, Set.of());
+    }
+
+    @Test
+    public void get_shouldHoldTheSerializedPageAndItsVersionTag() throws Exception {
+        // Act
+        PostListingCache.CachedPage page = postListingCache.get(category.getId(), null, null, 2);
+
+        // Assert
+        CursorPage<PostSummary> expected = postService.getAllPosts(category.getId(), null, null, 2);
+        assertThat(objectMapper.readTree(page.body())).isEqualTo(objectMapper.valueToTree(expected));
+        assertThat(page.eTag()).isEqualTo(postService.getAllPostsVersion(category.getId(), null, null, 2));
+        assertThat(page.stale()).isFalse();
+    }
+
+    @Test
+    public void get_shouldRejectMalformedCursor() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> postListingCache.get(null, null, "not-a-cursor", 2));
+    }
+}
@@ -0,0 +1,134 @@
+package com.phirom_02.blog_api.cache;
+
+import com.phirom_02.blog_api.IntegrationTest;
+import com.phirom_02.blog_api.datasource.ReplicaDataSource;
+import com.phirom_02.blog_api.domain.PostStatus;
+import com.phirom_02.blog_api.domain.dtos.UpdatePostDto;
+import com.phirom_02.blog_api.domain.entities.Category;
+import com.phirom_02.blog_api.domain.entities.Post;
+import com.phirom_02.blog_api.domain.entities.User;
+import com.phirom_02.blog_api.service.PostService;
+import com.phirom_02.blog_api.util.TestDataHelper;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Uses a database of its own as the replica, migrated but never written to, so it stands for a replica lagging
+ * behind every write of the test.
+ */
+@Testcontainers
+@SpringBootTest(properties = {"read_replica.enabled=true", "post_listing_cache.enabled=true"})
+@Import(TestDataHelper.class)
+class PostListingCacheReplicaIntTest extends IntegrationTest {
+
+    private static final String REPLICA_DATABASE = "blog_api_lagging_replica";
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16.9");
+
+    @DynamicPropertySource
+    static void replicaProperties(DynamicPropertyRegistry registry) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP DATABASE IF EXISTS " + REPLICA_DATABASE);
+            statement.execute("CREATE DATABASE " + REPLICA_DATABASE);
+        }
+        String replicaUrl = postgres.getJdbcUrl().replaceFirst("/[^/?]+(\\?|$)", "/" + REPLICA_DATABASE + "$1");
+        Flyway.configure()
+                .dataSource(replicaUrl, postgres.getUsername(), postgres.getPassword())
+                .locations("classpath:db/migration/postgresql")
+                .load()
+                .migrate();
+
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("read_replica.url", () -> replicaUrl);
+        registry.add("read_replica.username", postgres::getUsername);
+        registry.add("read_replica.password", postgres::getPassword);
+    }
+
+    @Autowired
+    TestDataHelper testDataHelper;
+
+    @Autowired
+    ReplicaDataSource replicaDataSource;
+
+    @Autowired
+    PostListingCache postListingCache;
+
+    @Autowired
+    PostService postService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    User user;
+    Category category;
+    Post post;
+
+    @BeforeEach
+    void setUp() {
+        replicaDataSource.checkReplica();
+        user = testDataHelper.createUser("John Smith", "john.smith@example.com");
+        category = testDataHelper.createCategory("replica");
+        post = testDataHelper.createPost("Original title", "Content", PostStatus.PUBLISHED, user, category, Set.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM posts WHERE id = ?", post.getId());
+        jdbcTemplate.update("DELETE FROM categories WHERE id = ?", category.getId());
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", user.getId());
+    }
+
+    @Test
+    void get_shouldReloadAnUpdatedPageFromThePrimary() throws InterruptedException {
+        // Arrange
+        postListingCache.get(category.getId(), null, null, 10);
+        UpdatePostDto dto = UpdatePostDto.builder()
+                .id(post.getId())
+                .title("Updated title")
+                .content("Content")
+                .categoryId(category.getId())
+                .tagIds(Set.of())
+                .build();
+
+        // Act
+        // Marks the page stale once committed
+        postService.updatePost(post.getId(), dto);
+        PostListingCache.CachedPage page = postListingCache.get(category.getId(), null, null, 10);
+        for (int i = 0; i < 50 && page.stale(); i++) {
+            Thread.sleep(100);
+            page = postListingCache.get(category.getId(), null, null, 10);
+        }
+
+        // Assert
+        assertThat(postService.getAllPosts(category.getId(), null, null, 10).getItems()).isEmpty();
+        assertThat(page.stale()).isFalse();
+        assertThat(new String(page.body(), StandardCharsets.UTF_8))
+                .contains("Updated title")
+                .doesNotContain("Original title");
+    }
+}
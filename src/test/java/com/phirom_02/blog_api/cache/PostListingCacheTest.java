@@ -0,0 +1,212 @@
+package com.phirom_02.blog_api.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.phirom_02.blog_api.domain.PostCursor;
+import com.phirom_02.blog_api.domain.PostStatus;
+import com.phirom_02.blog_api.domain.dtos.CursorPage;
+import com.phirom_02.blog_api.domain.dtos.PostSummary;
+import com.phirom_02.blog_api.domain.entities.Category;
+import com.phirom_02.blog_api.domain.entities.Post;
+import com.phirom_02.blog_api.domain.entities.Tag;
+import com.phirom_02.blog_api.domain.events.CategoryDeletedEvent;
+import com.phirom_02.blog_api.domain.events.PostChangedEvent;
+import com.phirom_02.blog_api.domain.events.PostChangedEvent.Placement;
+import com.phirom_02.blog_api.service.PostService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostListingCacheTest {
+
+    @Mock
+    PostService postService;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    ObjectMapper objectMapper;
+    PostListingCache postListingCache;
+
+    UUID categoryId;
+    CursorPage<PostSummary> firstPage;
+    Post newestPost;
+    Post middlePost;
+    Post oldestPost;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        postListingCache = new PostListingCache(
+                postService, transactionManager, objectMapper, new SimpleMeterRegistry(), ForkJoinPool.commonPool(),
+                100, Duration.ofMinutes(10)
+        );
+
+        categoryId = UUID.randomUUID();
+        Instant now = Instant.parse("2025-01-01T12:00:00Z");
+        newestPost = publishedPost(now);
+        middlePost = publishedPost(now.minusSeconds(60));
+        oldestPost = publishedPost(now.minusSeconds(120));
+
+        // The first page of two posts, followed by a page holding the oldest post
+        List<PostSummary> items = List.of(summaryOf(newestPost), summaryOf(middlePost));
+        firstPage = new CursorPage<>(items, PostCursor.after(items.getLast()).encode());
+        lenient().when(postService.getAllPosts(isNull(), isNull(), isNull(), eq(2))).thenReturn(firstPage);
+        lenient().when(postService.getAllPosts(eq(categoryId), isNull(), isNull(), eq(2))).thenReturn(firstPage);
+    }
+
+    @Test
+    void get_shouldLoadPageOnceAndServeItFromTheCache() throws Exception {
+        // Act
+        PostListingCache.CachedPage first = postListingCache.get(null, null, null, 2);
+        PostListingCache.CachedPage second = postListingCache.get(null, null, "", 2);
+
+        // Assert | Verify
+        assertThat(second).isSameAs(first);
+        assertThat(first.stale()).isFalse();
+        assertThat(objectMapper.readTree(first.body()).get("items")).hasSize(2);
+        verify(postService, times(1)).getAllPosts(null, null, null, 2);
+    }
+
+    @Test
+    void onPostChanged_shouldServeStalePageWhileReloadingItOnce() {
+        // Arrange
+        PostListingCache.CachedPage loaded = postListingCache.get(null, null, null, 2);
+        // Holds the reload until every read is done, so they all find it running
+        CountDownLatch reads = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            reads.await();
+            return firstPage;
+        }).when(postService).getAllPosts(null, null, null, 2);
+
+        // Act
+        postListingCache.onPostChanged(PostChangedEvent.saved(middlePost, Placement.of(middlePost)));
+        PostListingCache.CachedPage stale = postListingCache.get(null, null, null, 2);
+        postListingCache.get(null, null, null, 2);
+        postListingCache.get(null, null, null, 2);
+        reads.countDown();
+
+        // Assert | Verify
+        assertThat(stale.stale()).isTrue();
+        assertThat(stale.body()).isEqualTo(loaded.body());
+        verify(postService, timeout(1000).times(2)).getAllPosts(null, null, null, 2);
+        verify(postService, after(200).times(2)).getAllPosts(null, null, null, 2);
+        assertThat(postListingCache.get(null, null, null, 2).stale()).isFalse();
+    }
+
+    @Test
+    void onPostChanged_shouldKeepPageWhenPostIsPastItsLastPost() {
+        // Arrange
+        postListingCache.get(null, null, null, 2);
+
+        // Act
+        postListingCache.onPostChanged(PostChangedEvent.saved(oldestPost, Placement.of(oldestPost)));
+
+        // Assert | Verify
+        assertThat(postListingCache.get(null, null, null, 2).stale()).isFalse();
+        verify(postService, times(1)).getAllPosts(null, null, null, 2);
+    }
+
+    @Test
+    void onPostChanged_shouldInvalidatePageWhenPostPastItsLastPostLeavesTheListing() {
+        // Arrange
+        postListingCache.get(null, null, null, 2);
+
+        // Act
+        postListingCache.onPostChanged(PostChangedEvent.deleted(oldestPost));
+
+        // Assert
+        assertThat(postListingCache.get(null, null, null, 2).stale()).isTrue();
+    }
+
+    @Test
+    void onPostChanged_shouldKeepPageFilteredByAnotherCategory() {
+        // Arrange
+        postListingCache.get(null, null, null, 2);
+        postListingCache.get(categoryId, null, null, 2);
+        Post otherPost = publishedPost(Instant.now());
+        otherPost.setCategory(Category.builder().id(UUID.randomUUID()).build());
+
+        // Act
+        postListingCache.onPostChanged(PostChangedEvent.saved(otherPost, Placement.NONE));
+
+        // Assert
+        assertThat(postListingCache.get(categoryId, null, null, 2).stale()).isFalse();
+        assertThat(postListingCache.get(null, null, null, 2).stale()).isTrue();
+    }
+
+    @Test
+    void onPostChanged_shouldInvalidatePagesFilteredByTheTagsOfThePost() {
+        // Arrange
+        UUID tagId = UUID.randomUUID();
+        UUID otherTagId = UUID.randomUUID();
+        when(postService.getAllPosts(isNull(), any(UUID.class), isNull(), eq(2))).thenReturn(firstPage);
+        when(postService.getAllPosts(eq(categoryId), eq(tagId), isNull(), eq(2))).thenReturn(firstPage);
+        postListingCache.get(null, tagId, null, 2);
+        postListingCache.get(categoryId, tagId, null, 2);
+        postListingCache.get(null, otherTagId, null, 2);
+        middlePost.setTags(Set.of(Tag.builder().id(tagId).build()));
+
+        // Act
+        postListingCache.onPostChanged(PostChangedEvent.saved(middlePost, Placement.NONE));
+
+        // Assert
+        assertThat(postListingCache.get(null, tagId, null, 2).stale()).isTrue();
+        assertThat(postListingCache.get(categoryId, tagId, null, 2).stale()).isTrue();
+        assertThat(postListingCache.get(null, otherTagId, null, 2).stale()).isFalse();
+    }
+
+    @Test
+    void onCategoryDeleted_shouldDropPagesFilteredByTheCategory() {
+        // Arrange
+        postListingCache.get(null, null, null, 2);
+        postListingCache.get(categoryId, null, null, 2);
+
+        // Act
+        postListingCache.onCategoryDeleted(new CategoryDeletedEvent(categoryId));
+        postListingCache.get(null, null, null, 2);
+        postListingCache.get(categoryId, null, null, 2);
+
+        // Assert | Verify
+        verify(postService, times(1)).getAllPosts(null, null, null, 2);
+        verify(postService, times(2)).getAllPosts(categoryId, null, null, 2);
+    }
+
+    private Post publishedPost(Instant createdAt) {
+        return Post.builder()
+                .id(UUID.randomUUID())
+                .status(PostStatus.PUBLISHED)
+                .category(Category.builder().id(categoryId).build())
+                .tags(Set.of())
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build();
+    }
+
+    private PostSummary summaryOf(Post post) {
+        return PostSummary.builder()
+                .id(post.getId())
+                .status(post.getStatus())
+                .createdAt(post.getCreatedAt())
+                .updatedAt(post.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,86 @@
+package com.phirom_02.blog_api.cache;
+
+import com.phirom_02.blog_api.domain.entities.User;
+import com.phirom_02.blog_api.security.BlogUserDetails;
+import com.phirom_02.blog_api.security.VerifiedToken;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class VerifiedTokenCacheTest {
+
+    AtomicLong nanos;
+    SimpleMeterRegistry meterRegistry;
+    VerifiedTokenCache verifiedTokenCache;
+
+    AtomicInteger verifications;
+    VerifiedToken verifiedToken;
+    Function<String, VerifiedToken> verifier;
+
+    @BeforeEach
+    void setUp() {
+        nanos = new AtomicLong();
+        meterRegistry = new SimpleMeterRegistry();
+        verifiedTokenCache = new VerifiedTokenCache(meterRegistry, 100, nanos::get);
+
+        verifications = new AtomicInteger();
+        verifiedToken = new VerifiedToken(
+                new BlogUserDetails(User.builder().id(UUID.randomUUID()).build()),
+                Instant.now().plusSeconds(60)
+        );
+        verifier = token -> {
+            verifications.incrementAndGet();
+            return verifiedToken;
+        };
+    }
+
+    @Test
+    void get_shouldVerifyTokenOnceAndRecordHits() {
+        // Act
+        VerifiedToken first = verifiedTokenCache.get("token", verifier);
+        VerifiedToken second = verifiedTokenCache.get("token", verifier);
+
+        // Assert
+        assertThat(second).isSameAs(first);
+        assertThat(verifications).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "verified_tokens").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void get_shouldVerifyTokenAgainOnceItExpired() {
+        // Arrange
+        verifiedTokenCache.get("token", verifier);
+
+        // Act
+        nanos.addAndGet(Duration.ofSeconds(61).toNanos());
+        verifiedTokenCache.get("token", verifier);
+
+        // Assert
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    void get_shouldNotCacheInvalidToken() {
+        // Arrange
+        Function<String, VerifiedToken> rejecting = token -> {
+            verifications.incrementAndGet();
+            throw new IllegalArgumentException("Invalid token");
+        };
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> verifiedTokenCache.get("invalid", rejecting));
+        assertThrows(IllegalArgumentException.class, () -> verifiedTokenCache.get("invalid", rejecting));
+        assertThat(verifications).hasValue(2);
+    }
+}
@@ -1,12 +1,19 @@
 package com.phirom_02.blog_api.config;
 
+import com.phirom_02.blog_api.cache.VerifiedTokenCache;
 import com.phirom_02.blog_api.repository.UserRepository;
 import com.phirom_02.blog_api.security.BlogUserDetailsService;
+import com.phirom_02.blog_api.security.BoundedPasswordEncoder;
 import com.phirom_02.blog_api.security.JwtAuthenticationFilter;
+import com.phirom_02.blog_api.security.ManagementPortRequestMatcher;
+import com.phirom_02.blog_api.security.RateLimitFilter;
 import com.phirom_02.blog_api.service.AuthService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -25,8 +32,8 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class TestSecurityConfig {
 
     @Bean
-    public JwtAuthenticationFilter jwtAuthenticationFilter(AuthService authService) {
-        return new JwtAuthenticationFilter(authService);
+    public JwtAuthenticationFilter jwtAuthenticationFilter(AuthService authService, VerifiedTokenCache verifiedTokenCache) {
+        return new JwtAuthenticationFilter(authService, verifiedTokenCache);
     }
 
     @Bean
@@ -35,7 +42,12 @@ public class TestSecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtAuthenticationFilter jwtAuthenticationFilter) throws Exception {
+    public SecurityFilterChain securityFilterChain(
+            HttpSecurity http,
+            JwtAuthenticationFilter jwtAuthenticationFilter,
+            RateLimitFilter rateLimitFilter,
+            Environment environment
+    ) throws Exception {
         http.authorizeHttpRequests(auth ->
                         auth.requestMatchers(HttpMethod.POST, "/api/v1/auth/**").permitAll()
                                 .requestMatchers("*", "/api/v1/posts/**").permitAll()
@@ -43,17 +55,32 @@ public class TestSecurityConfig {
                                 .requestMatchers("*", "/api/v1/categories/**").permitAll()
                                 .requestMatchers("*", "/api/v1/tags/**").permitAll()
                                 .requestMatchers(HttpMethod.GET, "/swagger-ui.html", "/swagger-ui/**", "/v3/api-docs/**").permitAll()
+                                .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                                // The other actuator endpoints, such as the metrics, are only open on the management
+                                // port, which is not published
+                                .requestMatchers(new ManagementPortRequestMatcher(environment)).permitAll()
                                 .anyRequest().authenticated())
                 .csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // Limits the rate of each client, identified by the user ID set by the JWT filter
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${password_hashing.threads}") int threads,
+            @Value("${password_hashing.queue_capacity}") int queueCapacity
+    ) {
+        return new BoundedPasswordEncoder(
+                PasswordEncoderFactories.createDelegatingPasswordEncoder(),
+                threads,
+                queueCapacity,
+                meterRegistry
+        );
     }
 
 
@@ -63,9 +90,9 @@ public class TestSecurityConfig {
     }
 
     @Bean
-    DaoAuthenticationProvider authenticationProvider(UserRepository userRepository) {
+    DaoAuthenticationProvider authenticationProvider(UserRepository userRepository, PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider(userDetailsService(userRepository));
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
         return authProvider;
     }
 }
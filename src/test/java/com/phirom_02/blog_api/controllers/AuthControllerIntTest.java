@@ -93,5 +93,44 @@ class AuthControllerIntTest extends IntegrationTest {
         // Assert
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(Objects.requireNonNull(response.getBody()).getToken()).isNotNull();
+        assertThat(Objects.requireNonNull(response.getBody()).getRefreshToken()).isNotNull();
+    }
+
+    @Test
+    public void refresh_shouldRotateTokensOnce() {
+        // Arrange
+        LoginPayload loginPayload = LoginPayload.builder()
+                .email("john.smith@example.com")
+                .password("@#Password")
+                .build();
+        AuthResponse login = restTemplate.postForEntity("/api/v1/auth/login", loginPayload, AuthResponse.class).getBody();
+        RefreshTokenPayload payload = new RefreshTokenPayload(Objects.requireNonNull(login).getRefreshToken());
+
+        // Act
+        ResponseEntity<AuthResponse> response = restTemplate.postForEntity("/api/v1/auth/refresh", payload, AuthResponse.class);
+        ResponseEntity<ApiErrorResponse> reuse = restTemplate.postForEntity("/api/v1/auth/refresh", payload, ApiErrorResponse.class);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(Objects.requireNonNull(response.getBody()).getToken()).isNotNull();
+        assertThat(Objects.requireNonNull(response.getBody()).getRefreshToken()).isNotEqualTo(login.getRefreshToken());
+        assertThat(reuse.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    @Test
+    public void refresh_shouldRejectAccessToken() {
+        // Arrange
+        LoginPayload loginPayload = LoginPayload.builder()
+                .email("john.smith@example.com")
+                .password("@#Password")
+                .build();
+        AuthResponse login = restTemplate.postForEntity("/api/v1/auth/login", loginPayload, AuthResponse.class).getBody();
+        RefreshTokenPayload payload = new RefreshTokenPayload(Objects.requireNonNull(login).getToken());
+
+        // Act
+        ResponseEntity<ApiErrorResponse> response = restTemplate.postForEntity("/api/v1/auth/refresh", payload, ApiErrorResponse.class);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
     }
 }
\ No newline at end of file
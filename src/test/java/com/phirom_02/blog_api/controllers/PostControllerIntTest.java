@@ -1,16 +1,23 @@
 package com.phirom_02.blog_api.controllers;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.phirom_02.blog_api.IntegrationTest;
 import com.phirom_02.blog_api.config.TestSecurityConfig;
 import com.phirom_02.blog_api.domain.PostStatus;
 import com.phirom_02.blog_api.domain.dtos.AuthResponse;
+import com.phirom_02.blog_api.domain.dtos.CursorPage;
 import com.phirom_02.blog_api.domain.dtos.LoginPayload;
 import com.phirom_02.blog_api.domain.entities.Category;
 import com.phirom_02.blog_api.domain.entities.Post;
 import com.phirom_02.blog_api.domain.entities.Tag;
 import com.phirom_02.blog_api.domain.entities.User;
+import com.phirom_02.blog_api.stats.PostViewCounter;
 import com.phirom_02.blog_api.util.TestDataHelper;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.transaction.Transactional;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
@@ -45,6 +52,15 @@ class PostControllerIntTest extends IntegrationTest {
     @Autowired
     TestDataHelper testDataHelper;
 
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    PostViewCounter postViewCounter;
+
     UUID postId;
     @Autowired
     private TestRestTemplate testRestTemplate;
@@ -104,12 +120,12 @@ class PostControllerIntTest extends IntegrationTest {
 
         // Act
         String url = "/api/v1/posts?categoryId={categoryId}&tagId={tagId}";
-        ResponseEntity<List> response = testRestTemplate.getForEntity(url, List.class, categoryId, tagId);
+        ResponseEntity<CursorPage> response = testRestTemplate.getForEntity(url, CursorPage.class, categoryId, tagId);
 
         // Assert
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isNotNull();
-        assertThat(Objects.requireNonNull(response.getBody()).size()).isEqualTo(1);
+        assertThat(Objects.requireNonNull(response.getBody()).getItems().size()).isEqualTo(1);
     }
 
     @Test
@@ -119,12 +135,12 @@ class PostControllerIntTest extends IntegrationTest {
 
         // Act
         String url = "/api/v1/posts?categoryId={categoryId}";
-        ResponseEntity<List> response = testRestTemplate.getForEntity(url, List.class, categoryId);
+        ResponseEntity<CursorPage> response = testRestTemplate.getForEntity(url, CursorPage.class, categoryId);
 
         // Assert
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isNotNull();
-        assertThat(Objects.requireNonNull(response.getBody()).size()).isEqualTo(1);
+        assertThat(Objects.requireNonNull(response.getBody()).getItems().size()).isEqualTo(1);
     }
 
     @Test
@@ -135,12 +151,236 @@ class PostControllerIntTest extends IntegrationTest {
 
         // Act
         String url = "/api/v1/posts?tagId={tagId}";
-        ResponseEntity<List> response = testRestTemplate.getForEntity(url, List.class, tagId);
+        ResponseEntity<CursorPage> response = testRestTemplate.getForEntity(url, CursorPage.class, tagId);
 
         // Assert
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isNotNull();
-        assertThat(Objects.requireNonNull(response.getBody()).size()).isEqualTo(2);
+        assertThat(Objects.requireNonNull(response.getBody()).getItems().size()).isEqualTo(2);
+    }
+
+    @Test
+    public void getAllPosts_shouldReturnNextCursorWhenMorePostsExist() {
+        // Act
+        ResponseEntity<CursorPage> firstPage = testRestTemplate.getForEntity("/api/v1/posts?limit=1", CursorPage.class);
+        String cursor = Objects.requireNonNull(firstPage.getBody()).getNextCursor();
+        ResponseEntity<CursorPage> secondPage = testRestTemplate.getForEntity(
+                "/api/v1/posts?limit=1&cursor={cursor}", CursorPage.class, cursor
+        );
+
+        // Assert
+        assertThat(firstPage.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(firstPage.getBody().getItems().size()).isEqualTo(1);
+        assertThat(cursor).isNotNull();
+        assertThat(secondPage.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(Objects.requireNonNull(secondPage.getBody()).getItems().size()).isEqualTo(1);
+        assertThat(secondPage.getBody().getNextCursor()).isNull();
+    }
+
+    @Test
+    public void getAllPosts_shouldReturnSummariesWithoutContent() {
+        // Act
+        ResponseEntity<CursorPage> response = testRestTemplate.getForEntity("/api/v1/posts", CursorPage.class);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        Map<?, ?> post = (Map<?, ?>) Objects.requireNonNull(response.getBody()).getItems().getFirst();
+        assertThat(post.containsKey("content")).isFalse();
+        assertThat(post.get("excerpt")).isNotNull();
+        assertThat((Integer) post.get("wordCount")).isPositive();
+        assertThat((Integer) post.get("paragraphCount")).isPositive();
+        assertThat(post.get("author")).isNotNull();
+        assertThat(post.get("tags")).isNotNull();
+    }
+
+    @Test
+    public void getAllPosts_shouldRunABoundedNumberOfStatements() {
+        // Arrange
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        ResponseEntity<CursorPage> response = testRestTemplate.getForEntity("/api/v1/posts", CursorPage.class);
+
+        // Assert: one query for the page and one for the tags of the whole page
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(Objects.requireNonNull(response.getBody()).getItems().size()).isEqualTo(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2L);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(0L);
+    }
+
+    @Test
+    public void exportPosts_shouldStreamEveryPublishedPostAsALineOfJson() throws Exception {
+        // Arrange
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        ResponseEntity<String> response = testRestTemplate.getForEntity("/api/v1/posts/export", String.class);
+
+        // Assert: one query streaming the posts and one for the tags of the chunk
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+        String[] lines = Objects.requireNonNull(response.getBody()).split("\n");
+        assertThat(lines.length).isEqualTo(2);
+        JsonNode newest = objectMapper.readTree(lines[0]);
+        assertThat(newest.get("title").asText()).isEqualTo("Test2");
+        assertThat(newest.get("content").asText()).isEqualTo("Test contents 2");
+        assertThat(newest.get("tags").size()).isEqualTo(2);
+        assertThat(objectMapper.readTree(lines[1]).get("tags").size()).isEqualTo(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2L);
+    }
+
+    @Test
+    public void getPostById_shouldLoadPostWithASingleStatement() {
+        // Arrange
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        ResponseEntity<Map> response = testRestTemplate.getForEntity("/api/v1/posts/{id}", Map.class, postId);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(Objects.requireNonNull(response.getBody()).get("tags")).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+    }
+
+    @Test
+    public void getPostById_shouldCountViews() {
+        // Arrange
+        ResponseEntity<Map> first = testRestTemplate.getForEntity("/api/v1/posts/{id}", Map.class, postId);
+        long viewCount = ((Number) Objects.requireNonNull(first.getBody()).get("viewCount")).longValue();
+
+        // Act
+        ResponseEntity<Map> second = testRestTemplate.getForEntity("/api/v1/posts/{id}", Map.class, postId);
+
+        // Assert
+        assertThat(((Number) Objects.requireNonNull(second.getBody()).get("viewCount")).longValue()).isEqualTo(viewCount + 1);
+        assertThat(postViewCounter.getViewCount(postId)).isEqualTo(viewCount + 2);
+    }
+
+    @Test
+    public void getPostById_shouldReturnNotModifiedFromAVersionQuery() {
+        // Arrange
+        ResponseEntity<Map> first = testRestTemplate.getForEntity("/api/v1/posts/{id}", Map.class, postId);
+        String eTag = first.getHeaders().getETag();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(eTag);
+        ResponseEntity<Map> response = testRestTemplate.exchange(
+                "/api/v1/posts/{id}", HttpMethod.GET, new HttpEntity<>(headers), Map.class, postId
+        );
+
+        // Assert
+        assertThat(eTag).startsWith("\"" + postId);
+        assertThat(first.getHeaders().getLastModified()).isGreaterThan(0L);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getETag()).isEqualTo(eTag);
+        assertThat(response.getBody()).isNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(0L);
+    }
+
+    @Test
+    public void getPostById_shouldReturnNotModifiedSinceLastModified() {
+        // Arrange
+        ResponseEntity<Map> first = testRestTemplate.getForEntity("/api/v1/posts/{id}", Map.class, postId);
+
+        // Act
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfModifiedSince(first.getHeaders().getLastModified());
+        ResponseEntity<Map> response = testRestTemplate.exchange(
+                "/api/v1/posts/{id}", HttpMethod.GET, new HttpEntity<>(headers), Map.class, postId
+        );
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+
+    @Test
+    public void getPostById_shouldReturnThePostForAStaleETag() {
+        // Act
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch("\"stale\"");
+        ResponseEntity<Map> response = testRestTemplate.exchange(
+                "/api/v1/posts/{id}", HttpMethod.GET, new HttpEntity<>(headers), Map.class, postId
+        );
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getHeaders().get(HttpHeaders.ETAG).size()).isEqualTo(1);
+    }
+
+    @Test
+    public void getAllPosts_shouldReturnNotModifiedWhenThePageIsUnchanged() {
+        // Arrange
+        ResponseEntity<CursorPage> first = testRestTemplate.getForEntity("/api/v1/posts?limit=1", CursorPage.class);
+        String eTag = first.getHeaders().getETag();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(eTag);
+        ResponseEntity<CursorPage> unchanged = testRestTemplate.exchange(
+                "/api/v1/posts?limit=1", HttpMethod.GET, new HttpEntity<>(headers), CursorPage.class
+        );
+        ResponseEntity<CursorPage> otherPage = testRestTemplate.exchange(
+                "/api/v1/posts?limit=2", HttpMethod.GET, new HttpEntity<>(headers), CursorPage.class
+        );
+
+        // Assert
+        assertThat(eTag).isNotNull();
+        assertThat(unchanged.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(otherPage.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(otherPage.getHeaders().getETag()).isNotEqualTo(eTag);
+        // One version query for each request, plus the page and its tags for the second one
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4L);
+    }
+
+    @Test
+    public void searchPosts_shouldReturnMatchingPublishedPosts() {
+        // Arrange
+        String tagId = testDataHelper.getTagByName("tag-3").getId().toString();
+
+        // Act
+        ResponseEntity<CursorPage> all = testRestTemplate.getForEntity(
+                "/api/v1/posts/search?q={q}", CursorPage.class, "contents"
+        );
+        ResponseEntity<CursorPage> byTag = testRestTemplate.getForEntity(
+                "/api/v1/posts/search?q={q}&tagId={tagId}", CursorPage.class, "contents", tagId
+        );
+
+        // Assert
+        assertThat(all.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(Objects.requireNonNull(all.getBody()).getItems().size()).isEqualTo(2);
+        assertThat(byTag.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(Objects.requireNonNull(byTag.getBody()).getItems().size()).isEqualTo(1);
+    }
+
+    @Test
+    public void searchPosts_shouldReturnBadRequestWithoutQuery() {
+        // Act
+        ResponseEntity<String> response = testRestTemplate.getForEntity("/api/v1/posts/search", String.class);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    public void getAllPosts_shouldReturnBadRequestForInvalidCursor() {
+        // Act
+        ResponseEntity<String> response = testRestTemplate.getForEntity(
+                "/api/v1/posts?cursor={cursor}", String.class, "not-a-cursor"
+        );
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
     }
 
     @Test
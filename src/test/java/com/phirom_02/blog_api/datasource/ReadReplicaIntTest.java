@@ -0,0 +1,103 @@
+package com.phirom_02.blog_api.datasource;
+
+import com.phirom_02.blog_api.IntegrationTest;
+import com.phirom_02.blog_api.service.CategoryService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Uses the test database as its own replica, telling the pools apart by their application name and metrics.
+ */
+@Testcontainers
+@SpringBootTest(properties = "read_replica.enabled=true")
+class ReadReplicaIntTest extends IntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:latest");
+
+    @DynamicPropertySource
+    static void replicaProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("read_replica.url", postgres::getJdbcUrl);
+        registry.add("read_replica.username", postgres::getUsername);
+        registry.add("read_replica.password", postgres::getPassword);
+    }
+
+    @Autowired
+    ReplicaDataSource replicaDataSource;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    CategoryService categoryService;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        replicaDataSource.checkReplica();
+    }
+
+    @Test
+    void readOnlyTransaction_shouldUseReplica() {
+        // Arrange
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+
+        // Act
+        String applicationName = transaction.execute(status ->
+                jdbcTemplate.queryForObject("SELECT current_setting('application_name')", String.class));
+
+        // Assert
+        assertThat(applicationName).isEqualTo("blog-api-replica");
+    }
+
+    @Test
+    void readWriteTransaction_shouldUsePrimary() {
+        // Arrange
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // Act
+        String applicationName = transaction.execute(status ->
+                jdbcTemplate.queryForObject("SELECT current_setting('application_name')", String.class));
+
+        // Assert
+        assertThat(applicationName).isNotEqualTo("blog-api-replica");
+    }
+
+    @Test
+    void serviceReads_shouldUseReplica() {
+        // Arrange
+        long replicaAcquisitions = replicaAcquisitions();
+
+        // Act
+        categoryService.getAllCategories();
+
+        // Assert
+        assertThat(replicaAcquisitions()).isGreaterThan(replicaAcquisitions);
+    }
+
+    private long replicaAcquisitions() {
+        return meterRegistry.get("hikaricp.connections.acquire").tag("pool", "replica").timer().count();
+    }
+}
@@ -0,0 +1,129 @@
+package com.phirom_02.blog_api.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaDataSourceTest {
+
+    @Mock
+    DataSource replica;
+
+    @Mock
+    DataSource primary;
+
+    @Mock
+    Connection replicaConnection;
+
+    @Mock
+    Connection primaryConnection;
+
+    SimpleMeterRegistry meterRegistry;
+    ReplicaDataSource replicaDataSource;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        replicaDataSource = new ReplicaDataSource(replica, primary, Duration.ofSeconds(5), meterRegistry);
+    }
+
+    @Test
+    void getConnection_shouldUsePrimaryUntilReplicaWasChecked() throws SQLException {
+        // Arrange
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // Act
+        Connection connection = replicaDataSource.getConnection();
+
+        // Assert | Verify
+        assertThat(connection).isSameAs(primaryConnection);
+        verifyNoInteractions(replica);
+    }
+
+    @Test
+    void getConnection_shouldUseReplicaWithinMaximumLag() throws SQLException {
+        // Arrange
+        replicaLagsBy(1.5);
+        replicaDataSource.checkReplica();
+
+        // Act
+        Connection connection = replicaDataSource.getConnection();
+
+        // Assert
+        assertThat(connection).isSameAs(replicaConnection);
+        assertThat(meterRegistry.get("read_replica.lag").gauge().value()).isEqualTo(1.5);
+        assertThat(meterRegistry.get("read_replica.available").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void getConnection_shouldUsePrimaryWhenReplicaLags() throws SQLException {
+        // Arrange
+        replicaLagsBy(30);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        replicaDataSource.checkReplica();
+
+        // Act
+        Connection connection = replicaDataSource.getConnection();
+
+        // Assert
+        assertThat(connection).isSameAs(primaryConnection);
+        assertThat(replicaDataSource.isAvailable()).isFalse();
+    }
+
+    @Test
+    void getConnection_shouldFallBackToPrimaryUntilNextCheckWhenReplicaFails() throws SQLException {
+        // Arrange
+        replicaLagsBy(0);
+        replicaDataSource.checkReplica();
+        when(replica.getConnection()).thenThrow(new SQLException("Connection refused"));
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // Act
+        Connection first = replicaDataSource.getConnection();
+        Connection second = replicaDataSource.getConnection();
+
+        // Assert | Verify
+        assertThat(first).isSameAs(primaryConnection);
+        assertThat(second).isSameAs(primaryConnection);
+        verify(replica, times(2)).getConnection();
+    }
+
+    @Test
+    void checkReplica_shouldSkipReplicaWhenItIsDown() throws SQLException {
+        // Arrange
+        replicaLagsBy(0);
+        replicaDataSource.checkReplica();
+        reset(replica);
+        when(replica.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+        // Act
+        replicaDataSource.checkReplica();
+
+        // Assert
+        assertThat(replicaDataSource.isAvailable()).isFalse();
+        assertThat(meterRegistry.get("read_replica.lag").gauge().value()).isNaN();
+    }
+
+    private void replicaLagsBy(double seconds) throws SQLException {
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        when(replicaConnection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(ReplicaDataSource.LAG_QUERY)).thenReturn(resultSet);
+        when(resultSet.getDouble(1)).thenReturn(seconds);
+    }
+}
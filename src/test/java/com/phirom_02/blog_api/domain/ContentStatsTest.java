@@ -0,0 +1,59 @@
+package com.phirom_02.blog_api.domain;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentStatsTest {
+
+    @Test
+    void of_shouldCountCharactersWordsAndParagraphs() {
+        // Act
+        ContentStats stats = ContentStats.of("  First paragraph,\ttwo lines\nof text.\r\n\r\nSecond  one 🚀\n \n\nThird.  ");
+
+        // Assert
+        assertThat(stats.characterCount()).isEqualTo(66);
+        assertThat(stats.wordCount()).isEqualTo(10);
+        assertThat(stats.paragraphCount()).isEqualTo(3);
+        assertThat(stats.excerpt()).isEqualTo("First paragraph, two lines of text. Second one 🚀 Third.");
+    }
+
+    @Test
+    void of_shouldReturnEmptyStatsForMissingOrBlankContent() {
+        // Act & Assert
+        assertThat(ContentStats.of(null)).isEqualTo(new ContentStats(0, 0, 0, ""));
+        assertThat(ContentStats.of(" \n ")).isEqualTo(new ContentStats(3, 0, 0, ""));
+    }
+
+    @Test
+    void of_shouldCutExcerptAtTheLastWordThatFits() {
+        // Arrange
+        String content = "word ".repeat(100);
+
+        // Act
+        ContentStats stats = ContentStats.of(content);
+
+        // Assert
+        assertThat(stats.excerpt()).hasSize(ContentStats.EXCERPT_LENGTH).endsWith("word…");
+        assertThat(stats.excerpt().substring(0, 275)).isEqualTo(content.substring(0, 275));
+    }
+
+    @Test
+    void of_shouldKeepExcerptThatFitsExactly() {
+        // Arrange
+        String content = "a".repeat(ContentStats.EXCERPT_LENGTH);
+
+        // Act & Assert
+        assertThat(ContentStats.of(content).excerpt()).isEqualTo(content);
+        assertThat(ContentStats.of(content + "b").excerpt()).isEqualTo("a".repeat(ContentStats.EXCERPT_LENGTH - 1) + "…");
+    }
+
+    @Test
+    void readingTime_shouldRoundUpToTheNextMinute() {
+        // Act & Assert
+        assertThat(new ContentStats(0, 0, 0, "").readingTime()).isZero();
+        assertThat(new ContentStats(0, 1, 1, "").readingTime()).isEqualTo(1);
+        assertThat(new ContentStats(0, 200, 1, "").readingTime()).isEqualTo(1);
+        assertThat(new ContentStats(0, 201, 1, "").readingTime()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,136 @@
+package com.phirom_02.blog_api.jobs;
+
+import com.phirom_02.blog_api.IntegrationTest;
+import com.phirom_02.blog_api.domain.PostStatus;
+import com.phirom_02.blog_api.domain.entities.Category;
+import com.phirom_02.blog_api.domain.entities.User;
+import com.phirom_02.blog_api.util.TestDataHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Commits its rows, unlike {@link PublishedPostCountReconcilerIntTest}, as the reconciler must wait for a post
+ * written from another connection.
+ */
+@SpringBootTest
+@Testcontainers
+@Import(TestDataHelper.class)
+class PublishedPostCountReconcilerConcurrencyIntTest extends IntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16.9");
+
+    @Autowired
+    private TestDataHelper testDataHelper;
+
+    @Autowired
+    private PublishedPostCountReconciler reconciler;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        user = testDataHelper.createUser("John Smith", "john.smith@example.com");
+        category = testDataHelper.createCategory("concurrency");
+        testDataHelper.createPost("Test1", "Test contents 1", PostStatus.PUBLISHED, user, category, Set.of());
+        // Drifted: one published post, counted five times
+        jdbcTemplate.update("UPDATE categories SET published_post_count = 5 WHERE id = ?", category.getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM posts WHERE category_id = ?", category.getId());
+        jdbcTemplate.update("DELETE FROM categories WHERE id = ?", category.getId());
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", user.getId());
+    }
+
+    @Test
+    void reconcile_shouldNotOverwriteACountAdjustedWhileItRuns() throws Exception {
+        // Arrange
+        CompletableFuture<Void> reconciliation;
+        try (Connection writer = dataSource.getConnection()) {
+            // As the post service publishing a post: counted with the post, in the same transaction
+            writer.setAutoCommit(false);
+            insertPublishedPost(writer);
+            try (PreparedStatement statement = writer.prepareStatement(
+                    "UPDATE categories SET published_post_count = published_post_count + 1 WHERE id = ?")) {
+                statement.setObject(1, category.getId());
+                statement.executeUpdate();
+            }
+
+            // Act
+            // Starts without the uncommitted post, then waits for the lock on the category
+            reconciliation = CompletableFuture.runAsync(reconciler::reconcile);
+            awaitReconciliationBlocked();
+            writer.commit();
+        }
+        reconciliation.get(10, TimeUnit.SECONDS);
+
+        // Assert
+        assertThat(storedCount()).isEqualTo(6L);
+        reconciler.reconcile();
+        assertThat(storedCount()).isEqualTo(2L);
+    }
+
+    private void insertPublishedPost(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("""
+                INSERT INTO posts (id, title, content, status, reading_time, author_id, category_id, created_at, updated_at)
+                VALUES (?, 'Test2', 'Test contents 2', 'PUBLISHED', 1, ?, ?, now(), now())
+                """)) {
+            statement.setObject(1, UUID.randomUUID());
+            statement.setObject(2, user.getId());
+            statement.setObject(3, category.getId());
+            statement.executeUpdate();
+        }
+    }
+
+    private void awaitReconciliationBlocked() throws InterruptedException, SQLException {
+        for (int i = 0; i < 100; i++) {
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                if (statement.executeQuery("""
+                        SELECT 1 FROM pg_stat_activity
+                        WHERE wait_event_type = 'Lock' AND query ILIKE '%update categories%'
+                        """).next()) {
+                    return;
+                }
+            }
+            Thread.sleep(50);
+        }
+        throw new IllegalStateException("The reconciliation never waited for the category lock");
+    }
+
+    private Long storedCount() {
+        return jdbcTemplate.queryForObject(
+                "SELECT published_post_count FROM categories WHERE id = ?", Long.class, category.getId());
+    }
+}
@@ -0,0 +1,88 @@
+package com.phirom_02.blog_api.jobs;
+
+import com.phirom_02.blog_api.IntegrationTest;
+import com.phirom_02.blog_api.domain.PostStatus;
+import com.phirom_02.blog_api.domain.entities.Category;
+import com.phirom_02.blog_api.domain.entities.Tag;
+import com.phirom_02.blog_api.domain.entities.User;
+import com.phirom_02.blog_api.repository.CategoryRepository;
+import com.phirom_02.blog_api.repository.TagRepository;
+import com.phirom_02.blog_api.util.TestDataHelper;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.Rollback;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Set;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+@SpringBootTest
+@Testcontainers
+@Import(TestDataHelper.class)
+@Transactional
+class PublishedPostCountReconcilerIntTest extends IntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16:9");
+
+    @Autowired
+    private TestDataHelper testDataHelper;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PublishedPostCountReconciler reconciler;
+
+    @BeforeEach
+    @Rollback
+    void setUp() {
+        // The helper writes posts straight to the repository, so the stored counts stay at zero
+        User user = testDataHelper.createUser("John Smith", "john.smith@example.com");
+        Category category = testDataHelper.createCategory("category-1");
+        Tag tag1 = testDataHelper.createTag("tag-1");
+        Tag tag2 = testDataHelper.createTag("tag-2");
+
+        testDataHelper.createPost("Test1", "Test contents 1", PostStatus.PUBLISHED, user, category, Set.of(tag1, tag2));
+        testDataHelper.createPost("Test2", "Test contents 2", PostStatus.PUBLISHED, user, category, Set.of(tag2));
+        testDataHelper.createPost("Test3", "Test contents 3", PostStatus.DRAFT, user, category, Set.of(tag1));
+    }
+
+    @Test
+    public void reconcile_shouldRepairDriftedCounts() {
+        // Act
+        reconciler.reconcile();
+        entityManager.clear();
+
+        // Assert
+        assertThat(categoryRepository.findByName("category-1").getPublishedPostCount()).isEqualTo(2L);
+        assertThat(tagRepository.findByName("tag-1").getPublishedPostCount()).isEqualTo(1L);
+        assertThat(tagRepository.findByName("tag-2").getPublishedPostCount()).isEqualTo(2L);
+    }
+
+    @Test
+    public void reconcile_shouldLeaveCorrectCountsUntouched() {
+        // Arrange
+        reconciler.reconcile();
+
+        // Act & Assert
+        assertThat(categoryRepository.reconcilePublishedPostCounts(PostStatus.PUBLISHED)).isEqualTo(0);
+        assertThat(tagRepository.reconcilePublishedPostCounts(PostStatus.PUBLISHED)).isEqualTo(0);
+    }
+}
@@ -0,0 +1,100 @@
+package com.phirom_02.blog_api.metrics;
+
+import com.phirom_02.blog_api.IntegrationTest;
+import com.phirom_02.blog_api.config.TestSecurityConfig;
+import com.phirom_02.blog_api.domain.PostStatus;
+import com.phirom_02.blog_api.domain.entities.Category;
+import com.phirom_02.blog_api.domain.entities.Post;
+import com.phirom_02.blog_api.domain.entities.User;
+import com.phirom_02.blog_api.util.TestDataHelper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureObservability(tracing = false)
+@Import({TestSecurityConfig.class, TestDataHelper.class})
+class MetricsIntTest extends IntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:latest");
+
+    @Autowired
+    TestRestTemplate restTemplate;
+
+    @Autowired
+    TestDataHelper testDataHelper;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @LocalManagementPort
+    int managementPort;
+
+    @Test
+    void prometheus_shouldExposeLatencyOfEachLayer() {
+        // Arrange
+        User user = testDataHelper.createUser("John Smith", "john.smith@example.com");
+        Category category = testDataHelper.createCategory("metrics");
+        Post post = testDataHelper.createPost("Metrics", "Metrics contents", PostStatus.PUBLISHED, user, category, Set.of());
+        restTemplate.getForEntity("/api/v1/posts/{id}", String.class, post.getId());
+        restTemplate.getForEntity("/api/v1/posts", String.class);
+
+        // Act
+        ResponseEntity<String> response = restTemplate.getForEntity(
+                "http://localhost:{port}/actuator/prometheus", String.class, managementPort
+        );
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody())
+                .contains("http_server_requests_seconds_bucket{")
+                .containsPattern("http_server_requests_seconds_count\\{[^}]*handler=\"PostController.getPostById\"")
+                .containsPattern("http_server_requests_sql_statements_count\\{handler=\"PostController.getAllPosts\"")
+                .containsPattern("http_server_requests_connection_hold_seconds_count\\{handler=\"PostController.getPostById\"")
+                .containsPattern("spring_data_repository_invocations_seconds_count\\{[^}]*repository=\"PostRepository\"")
+                .contains("hikaricp_connections_pending{", "hikaricp_connections_acquire_seconds_bucket{")
+                .containsPattern("post_mapper_seconds_count\\{method=\"toPostResponse\"")
+                .containsPattern("json_serialization_seconds_count\\{type=\"PostResponse\"");
+        assertThat(meterRegistry.get("http.server.requests.connection.hold").tag("handler", "PostController.getPostById")
+                .timer().totalTime(TimeUnit.NANOSECONDS)).isPositive();
+    }
+
+    @Test
+    void prometheus_shouldNotBeOpenOnThePortOfTheApi() {
+        // Act
+        ResponseEntity<String> response = restTemplate.getForEntity("/actuator/prometheus", String.class);
+
+        // Assert
+        assertThat(response.getStatusCode()).isIn(HttpStatus.UNAUTHORIZED, HttpStatus.FORBIDDEN, HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void health_shouldBeOpenOnTheManagementPort() {
+        // Act
+        ResponseEntity<String> response = restTemplate.getForEntity(
+                "http://localhost:{port}/actuator/health", String.class, managementPort
+        );
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+}
@@ -2,6 +2,7 @@ package com.phirom_02.blog_api.repository;
 
 import com.phirom_02.blog_api.IntegrationTest;
 import com.phirom_02.blog_api.domain.entities.Category;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,8 +15,6 @@ import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
-import java.util.List;
-
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
 @Testcontainers
@@ -31,6 +30,9 @@ class CategoryRepositoryIntTest extends IntegrationTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     void connectionEstablished() {
         assertThat(postgres.isCreated()).isTrue();
@@ -47,8 +49,13 @@ class CategoryRepositoryIntTest extends IntegrationTest {
     }
 
     @Test
-    public void findAllWithPostCount_shouldRetrieveAllWithPostCount() {
-        List<Category> categories = categoryRepository.findAllWithPostCount();
-        assertThat(categories.size()).isEqualTo(1);
+    public void incrementPublishedPostCount_shouldAddDeltaToStoredCount() {
+        Category category = categoryRepository.findByName("Java");
+
+        categoryRepository.incrementPublishedPostCount(category.getId(), 2);
+        categoryRepository.incrementPublishedPostCount(category.getId(), -1);
+        entityManager.clear();
+
+        assertThat(categoryRepository.findByName("Java").getPublishedPostCount()).isEqualTo(1L);
     }
 }
\ No newline at end of file
@@ -0,0 +1,91 @@
+package com.phirom_02.blog_api.repository;
+
+import com.phirom_02.blog_api.IntegrationTest;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the migrations compute the statistics of the posts saved before they were computed on save.
+ */
+@Testcontainers
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ContentStatsBackfillIntTest extends IntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16.9");
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    UUID authorId = UUID.randomUUID();
+    UUID postId = UUID.randomUUID();
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM posts WHERE id = ?", postId);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", authorId);
+    }
+
+    @Test
+    public void migrate_shouldBackfillTheStatisticsOfExistingPosts() {
+        // Arrange
+        FluentConfiguration configuration = Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/postgresql")
+                .cleanDisabled(false);
+        configuration.load().clean();
+        configuration.target("3").load().migrate();
+
+        Timestamp createdAt = Timestamp.from(Instant.parse("2025-01-01T00:00:00Z"));
+        jdbcTemplate.update(
+                "INSERT INTO users (id, email, name, password, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)",
+                authorId, "john.smith@example.com", "John Smith", "password", createdAt, createdAt
+        );
+        // As saved before the excerpt and statistics existed
+        jdbcTemplate.update("""
+                        INSERT INTO posts (id, title, content, status, reading_time, author_id, created_at, updated_at)
+                        VALUES (?, ?, ?, 'PUBLISHED', 1, ?, ?, ?)
+                        """,
+                postId, "Spring Boot tips", "Use profiles.\n\nKeep secrets out of the repository.",
+                authorId, createdAt, createdAt
+        );
+
+        // Act
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration/postgresql").load().migrate();
+
+        // Assert
+        Map<String, Object> post = jdbcTemplate.queryForMap("SELECT * FROM posts WHERE id = ?", postId);
+        assertThat(post.get("excerpt")).isEqualTo("Use profiles. Keep secrets out of the repository.");
+        assertThat(post.get("character_count")).isEqualTo(50);
+        assertThat(post.get("word_count")).isEqualTo(8);
+        assertThat(post.get("paragraph_count")).isEqualTo(2);
+        assertThat(post.get("reading_time")).isEqualTo(1);
+        assertThat(post.get("updated_at")).isEqualTo(createdAt);
+    }
+}
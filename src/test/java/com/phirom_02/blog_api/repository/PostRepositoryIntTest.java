@@ -1,6 +1,8 @@
 package com.phirom_02.blog_api.repository;
 
 import com.phirom_02.blog_api.IntegrationTest;
+import com.phirom_02.blog_api.domain.PostCursor;
+import com.phirom_02.blog_api.domain.PostSearchCursor;
 import com.phirom_02.blog_api.domain.PostStatus;
 import com.phirom_02.blog_api.domain.entities.Category;
 import com.phirom_02.blog_api.domain.entities.Post;
@@ -14,6 +16,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.annotation.Rollback;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
@@ -108,54 +111,64 @@ class PostRepositoryIntTest extends IntegrationTest {
     }
 
     @Test
-    public void findAllByStatusAndCategoryAndTagsContaining_shouldRetrieveMatchingPosts() {
+    public void findPageByStatusAndCategoryAndTag_shouldRetrieveMatchingPosts() {
         Category category = categoryRepository.findByName("category-1");
         Tag tag = tagRepository.findByName("tag-4");
         PostStatus status = PostStatus.PUBLISHED;
 
-        var results = postRepository.findAllByStatusAndCategoryAndTagsContaining(status, category, tag);
+        var results = postRepository.findPageByStatusAndCategoryAndTag(
+                status, category.getId(), tag.getId(), PostCursor.FIRST.createdAt(), PostCursor.FIRST.id(), Limit.of(10)
+        );
 
         assertThat(results).isNotNull();
         assertThat(results.size()).isEqualTo(1);
         results.forEach(post -> {
             assertThat(post.getStatus()).isEqualTo(PostStatus.PUBLISHED);
-            assertThat(post.getCategory()).isEqualTo(category);
-            assertThat(post.getTags().stream().toList().contains(tag)).isTrue();
+            assertThat(post.getCategoryId()).isEqualTo(category.getId());
+            assertThat(postRepository.findTagsByPostIdIn(List.of(post.getId())).stream()
+                    .anyMatch(postTag -> postTag.getId().equals(tag.getId()))).isTrue();
         });
     }
 
     @Test
-    public void findAllByStatusAndCategory_shouldRetrieveMatchingPosts() {
+    public void findPageByStatusAndCategory_shouldRetrieveMatchingPosts() {
         Category category = categoryRepository.findByName("category-1");
         PostStatus status = PostStatus.PUBLISHED;
 
-        var results = postRepository.findAllByStatusAndCategory(status, category);
+        var results = postRepository.findPageByStatusAndCategory(
+                status, category.getId(), PostCursor.FIRST.createdAt(), PostCursor.FIRST.id(), Limit.of(10)
+        );
 
         assertThat(results).isNotNull();
         assertThat(results.size()).isEqualTo(1);
         results.forEach(post -> {
             assertThat(post.getStatus()).isEqualTo(PostStatus.PUBLISHED);
-            assertThat(post.getCategory()).isEqualTo(category);
+            assertThat(post.getCategoryId()).isEqualTo(category.getId());
         });
     }
 
     @Test
-    public void findAllByStatusAndTagsContaining_shouldRetrieveMatchingPosts() {
+    public void findPageByStatusAndTag_shouldRetrieveMatchingPosts() {
         Tag tag = tagRepository.findByName("tag-3");
         PostStatus status = PostStatus.PUBLISHED;
-        var results = postRepository.findAllByStatusAndTagsContaining(status, tag);
+        var results = postRepository.findPageByStatusAndTag(
+                status, tag.getId(), PostCursor.FIRST.createdAt(), PostCursor.FIRST.id(), Limit.of(10)
+        );
         assertThat(results).isNotNull();
         assertThat(results.size()).isEqualTo(1);
         results.forEach(post -> {
             assertThat(post.getStatus()).isEqualTo(PostStatus.PUBLISHED);
-            assertThat(post.getTags().stream().toList().contains(tag)).isTrue();
+            assertThat(postRepository.findTagsByPostIdIn(List.of(post.getId())).stream()
+                    .anyMatch(postTag -> postTag.getId().equals(tag.getId()))).isTrue();
         });
     }
 
     @Test
-    public void findAllByStatus_shouldRetrievePublishedPosts() {
+    public void findPageByStatus_shouldRetrievePublishedPosts() {
         PostStatus status = PostStatus.PUBLISHED;
-        var results = postRepository.findAllByStatus(status);
+        var results = postRepository.findPageByStatus(
+                status, PostCursor.FIRST.createdAt(), PostCursor.FIRST.id(), Limit.of(10)
+        );
         assertThat(results).isNotNull();
         assertThat(results.size()).isEqualTo(2);
         results.forEach(post -> {
@@ -164,9 +177,11 @@ class PostRepositoryIntTest extends IntegrationTest {
     }
 
     @Test
-    public void findAllByStatus_shouldRetrieveDraftPosts() {
+    public void findPageByStatus_shouldRetrieveDraftPosts() {
         PostStatus status = PostStatus.DRAFT;
-        var results = postRepository.findAllByStatus(status);
+        var results = postRepository.findPageByStatus(
+                status, PostCursor.FIRST.createdAt(), PostCursor.FIRST.id(), Limit.of(10)
+        );
         assertThat(results).isNotNull();
         assertThat(results.size()).isEqualTo(1);
         results.forEach(post -> {
@@ -174,17 +189,96 @@ class PostRepositoryIntTest extends IntegrationTest {
         });
     }
 
+    @Test
+    public void findPageByStatus_shouldContinueAfterCursor() {
+        PostStatus status = PostStatus.PUBLISHED;
+        var firstPage = postRepository.findPageByStatus(
+                status, PostCursor.FIRST.createdAt(), PostCursor.FIRST.id(), Limit.of(1)
+        );
+        PostCursor cursor = new PostCursor(firstPage.getFirst().getCreatedAt(), firstPage.getFirst().getId());
+
+        var secondPage = postRepository.findPageByStatus(status, cursor.createdAt(), cursor.id(), Limit.of(10));
+
+        assertThat(firstPage.size()).isEqualTo(1);
+        assertThat(secondPage.size()).isEqualTo(1);
+        assertThat(secondPage.getFirst().getId()).isNotEqualTo(firstPage.getFirst().getId());
+    }
+
     @Test
     void findAllByAuthorAndStatus_shouldRetrievePublishedPost() {
         PostStatus status = PostStatus.PUBLISHED;
         Optional<User> user = userRepository.findByEmail("john.smith@example.com");
         User author = user.get();
-        var results = postRepository.findAllByAuthorAndStatus(author, status);
+        var results = postRepository.findAllByAuthorAndStatus(author.getId(), status);
         assertThat(results).isNotNull();
         assertThat(results.size()).isEqualTo(2);
         results.forEach(post -> {
             assertThat(post.getStatus()).isEqualTo(status);
-            assertThat(author).isEqualTo(post.getAuthor());
+            assertThat(post.getAuthorId()).isEqualTo(author.getId());
+            assertThat(post.getExcerpt()).isEqualTo(post.getTitle() + " content");
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    void findTagsByPostIdIn_shouldRetrieveTagsOfAllGivenPosts() {
+        var posts = postRepository.findPageByStatus(
+                PostStatus.PUBLISHED, PostCursor.FIRST.createdAt(), PostCursor.FIRST.id(), Limit.of(10)
+        );
+        var postIds = posts.stream().map(post -> post.getId()).toList();
+
+        var results = postRepository.findTagsByPostIdIn(postIds);
+
+        assertThat(results.size()).isEqualTo(5);
+        results.forEach(postTag -> assertThat(postIds.contains(postTag.getPostId())).isTrue());
+    }
+
+    @Test
+    void search_shouldRankTitleMatchesFirst() {
+        List<Post> posts = postRepository.findAll();
+        Post titleMatch = posts.stream().filter(p -> p.getTitle().equals("Test 1")).findFirst().orElseThrow();
+        Post contentMatch = posts.stream().filter(p -> p.getTitle().equals("Test 2")).findFirst().orElseThrow();
+        titleMatch.setTitle("Tuning Postgres");
+        contentMatch.setContent("Some notes on tuning a postgres database");
+        postRepository.saveAllAndFlush(List.of(titleMatch, contentMatch));
+
+        var results = postRepository.search("postgres", null, null, PostSearchCursor.FIRST, 10);
+
+        assertThat(results.size()).isEqualTo(2);
+        assertThat(results.getFirst().id()).isEqualTo(titleMatch.getId());
+        assertThat(results.getFirst().rank() > results.getLast().rank()).isTrue();
+    }
+
+    @Test
+    void search_shouldHonourCategoryAndTagFilters() {
+        Category category = categoryRepository.findByName("category-1");
+        Tag tag = tagRepository.findByName("tag-3");
+
+        var byCategory = postRepository.search("content", category.getId(), null, PostSearchCursor.FIRST, 10);
+        var byTag = postRepository.search("content", null, tag.getId(), PostSearchCursor.FIRST, 10);
+        var byBoth = postRepository.search("content", category.getId(), tag.getId(), PostSearchCursor.FIRST, 10);
+
+        assertThat(byCategory.size()).isEqualTo(1);
+        assertThat(byTag.size()).isEqualTo(1);
+        assertThat(byBoth.size()).isEqualTo(0);
+    }
+
+    @Test
+    void search_shouldContinueAfterCursor() {
+        var firstPage = postRepository.search("content", null, null, PostSearchCursor.FIRST, 1);
+        var last = firstPage.getFirst();
+
+        var secondPage = postRepository.search(
+                "content", null, null, new PostSearchCursor(last.rank(), last.createdAt(), last.id()), 10
+        );
+
+        assertThat(secondPage.size()).isEqualTo(1);
+        assertThat(secondPage.getFirst().id()).isNotEqualTo(last.id());
+    }
+
+    @Test
+    void search_shouldIgnoreDraftsAndNonMatchingPosts() {
+        var results = postRepository.search("\"Test 3\" OR unicorn", null, null, PostSearchCursor.FIRST, 10);
+
+        assertThat(results.size()).isEqualTo(0);
+    }
+}
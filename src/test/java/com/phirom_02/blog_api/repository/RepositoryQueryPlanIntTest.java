@@ -0,0 +1,252 @@
+package com.phirom_02.blog_api.repository;
+
+import com.phirom_02.blog_api.IntegrationTest;
+import com.phirom_02.blog_api.domain.PostSearchCursor;
+import com.phirom_02.blog_api.domain.PostStatus;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs every repository query, then checks with {@code EXPLAIN} that the statements it sent are served by indexes.
+ * <p>
+ * The test tables are nearly empty, so sequential scans are disabled to make the planner use an index whenever one
+ * applies, and the statements are planned with {@code GENERIC_PLAN}, which needs no parameter values. On an empty
+ * table, the full-text search prefers the status index over {@code idx_post_search_vector}, so it is only checked for
+ * sequential scans. No statement may scan {@code posts} or {@code post_tags} sequentially. Queries with an expected index must use it.
+ * Keyset pages must also start their index scan at the position of the cursor, rather than filter the rows before it.
+ */
+@Testcontainers
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({RepositoryQueryPlanIntTest.StatementRecorder.class, PostStatsRepository.class, RevokedRefreshTokenRepository.class})
+class RepositoryQueryPlanIntTest extends IntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:latest");
+
+    static final List<String> statements = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    PostRepository postRepository;
+
+    @Autowired
+    CategoryRepository categoryRepository;
+
+    @Autowired
+    TagRepository tagRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    PostStatsRepository postStatsRepository;
+
+    @Autowired
+    RevokedRefreshTokenRepository revokedRefreshTokenRepository;
+
+    static final UUID ID = UUID.randomUUID();
+    static final Instant NOW = Instant.now();
+    static final PostStatus STATUS = PostStatus.PUBLISHED;
+    static final Limit LIMIT = Limit.of(21);
+
+    static Stream<QueryCase> queries() {
+        return Stream.of(
+                new QueryCase("PostRepository.findWithDetailsById", test -> test.postRepository.findWithDetailsById(ID), "posts_pkey"),
+                new QueryCase("PostRepository.findPageByStatusAndCategoryAndTag", test -> test.postRepository.findPageByStatusAndCategoryAndTag(STATUS, ID, ID, NOW, ID, LIMIT), null),
+                new QueryCase("PostRepository.findPageByStatusAndCategory", test -> test.postRepository.findPageByStatusAndCategory(STATUS, ID, NOW, ID, LIMIT), "idx_post_category_status_created_at_id", "created_at"),
+                new QueryCase("PostRepository.findPageByStatusAndTag", test -> test.postRepository.findPageByStatusAndTag(STATUS, ID, NOW, ID, LIMIT), null),
+                new QueryCase("PostRepository.findPageByStatus", test -> test.postRepository.findPageByStatus(STATUS, NOW, ID, LIMIT), "idx_post_status_created_at_id", "created_at"),
+                new QueryCase("PostRepository.findVersionById", test -> test.postRepository.findVersionById(ID), "posts_pkey"),
+                new QueryCase("PostRepository.findPageVersionsByStatusAndCategoryAndTag", test -> test.postRepository.findPageVersionsByStatusAndCategoryAndTag(STATUS, ID, ID, NOW, ID, LIMIT), null),
+                new QueryCase("PostRepository.findPageVersionsByStatusAndCategory", test -> test.postRepository.findPageVersionsByStatusAndCategory(STATUS, ID, NOW, ID, LIMIT), "idx_post_category_status_created_at_id", "created_at"),
+                new QueryCase("PostRepository.findPageVersionsByStatusAndTag", test -> test.postRepository.findPageVersionsByStatusAndTag(STATUS, ID, NOW, ID, LIMIT), null),
+                new QueryCase("PostRepository.findPageVersionsByStatus", test -> test.postRepository.findPageVersionsByStatus(STATUS, NOW, ID, LIMIT), "idx_post_status_created_at_id", "created_at"),
+                new QueryCase("PostRepository.findAllByAuthorAndStatus", test -> test.postRepository.findAllByAuthorAndStatus(ID, PostStatus.DRAFT), "idx_post_author_status_created_at_id"),
+                new QueryCase("PostRepository.findSummariesByIdIn", test -> test.postRepository.findSummariesByIdIn(List.of(ID, UUID.randomUUID())), "posts_pkey"),
+                new QueryCase("PostRepository.findContentChunkByStatus", test -> test.postRepository.findContentChunkByStatus(STATUS, ID, LIMIT), null),
+                new QueryCase("PostRepository.findTagsByPostIdIn", test -> test.postRepository.findTagsByPostIdIn(List.of(ID, UUID.randomUUID())), "post_tags_pkey"),
+                new QueryCase("PostRepository.streamAllByStatus", test -> {
+                    try (Stream<?> posts = test.postRepository.streamAllByStatus(STATUS)) {
+                        posts.forEach(post -> {
+                        });
+                    }
+                }, "idx_post_status_created_at_id"),
+                new QueryCase("PostRepository.search", test -> test.postRepository.search("spring", null, null, PostSearchCursor.FIRST, 21), null),
+                new QueryCase("PostRepository.search by tag", test -> test.postRepository.search("spring", null, ID, PostSearchCursor.FIRST, 21), "idx_post_tags_tag_id_post_id"),
+                new QueryCase("CategoryRepository.incrementPublishedPostCount", test -> test.categoryRepository.incrementPublishedPostCount(ID, 1), "categories_pkey"),
+                new QueryCase("CategoryRepository.reconcilePublishedPostCounts", test -> test.categoryRepository.reconcilePublishedPostCounts(STATUS), "idx_post_category_status_created_at_id"),
+                new QueryCase("CategoryRepository.findByName", test -> test.categoryRepository.findByName("Java"), "categories_name_key"),
+                new QueryCase("CategoryRepository.existsByNameIgnoreCase", test -> test.categoryRepository.existsByNameIgnoreCase("Java"), "idx_category_upper_name"),
+                new QueryCase("TagRepository.incrementPublishedPostCount", test -> test.tagRepository.incrementPublishedPostCount(List.of(ID), 1), "tags_pkey"),
+                new QueryCase("TagRepository.reconcilePublishedPostCounts", test -> test.tagRepository.reconcilePublishedPostCounts(STATUS), "idx_post_tags_tag_id_post_id"),
+                new QueryCase("TagRepository.findAllByNameIn", test -> test.tagRepository.findAllByNameIn(Set.of("java", "spring")), "tags_name_key"),
+                new QueryCase("TagRepository.findAllByIdIn", test -> test.tagRepository.findAllByIdIn(Set.of(ID)), "tags_pkey"),
+                new QueryCase("UserRepository.findByEmail", test -> test.userRepository.findByEmail("john.smith@example.com"), "users_email_key"),
+                new QueryCase("PostStatsRepository.addViews", test -> test.postStatsRepository.addViews(Map.of(ID, 1L)), null),
+                new QueryCase("PostStatsRepository.findViewCount", test -> test.postStatsRepository.findViewCount(ID), "post_stats_pkey"),
+                new QueryCase("PostStatsRepository.findViewCounts", test -> test.postStatsRepository.findViewCounts(List.of(ID)), "post_stats_pkey"),
+                new QueryCase("RevokedRefreshTokenRepository.insert", test -> test.revokedRefreshTokenRepository.insert(ID, Instant.EPOCH), null),
+                new QueryCase("RevokedRefreshTokenRepository.deleteExpired", test -> test.revokedRefreshTokenRepository.deleteExpired(Instant.EPOCH), "idx_revoked_refresh_tokens_expires_at")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queries")
+    void query_shouldUseIndexes(QueryCase query) throws SQLException {
+        // Arrange
+        statements.clear();
+
+        // Act
+        query.run().accept(this);
+        List<String> plans = explain(statements);
+
+        // Assert
+        assertThat(plans).isNotEmpty();
+        for (String plan : plans) {
+            assertThat(plan).doesNotContainPattern("Seq Scan on (posts|post_tags) ");
+        }
+        if (query.index() != null) {
+            assertThat(String.join("\n", plans)).contains(" " + query.index() + " ");
+        }
+        if (query.indexCondition() != null) {
+            assertThat(String.join("\n", plans)).containsPattern("Index Cond: .*" + query.indexCondition());
+        }
+    }
+
+    /**
+     * Plans the statements on a connection using the simple query protocol, so their numbered parameters are left
+     * for {@code GENERIC_PLAN} rather than expected to be bound.
+     */
+    private static List<String> explain(List<String> sqls) throws SQLException {
+        String url = postgres.getJdbcUrl() + (postgres.getJdbcUrl().contains("?") ? "&" : "?") + "preferQueryMode=simple";
+        List<String> plans = new ArrayList<>();
+        try (Connection connection = DriverManager.getConnection(url, postgres.getUsername(), postgres.getPassword());
+             Statement statement = connection.createStatement()) {
+            statement.execute("SET enable_seqscan = off");
+            for (String sql : sqls) {
+                StringBuilder plan = new StringBuilder(sql).append('\n');
+                try (ResultSet resultSet = statement.executeQuery("EXPLAIN (GENERIC_PLAN) " + numberParameters(sql))) {
+                    while (resultSet.next()) {
+                        plan.append(resultSet.getString(1)).append('\n');
+                    }
+                }
+                plans.add(plan.toString());
+            }
+        }
+        return plans;
+    }
+
+    /**
+     * Replaces the JDBC {@code ?} placeholders with the numbered parameters of PostgreSQL.
+     */
+    private static String numberParameters(String sql) {
+        StringBuilder numbered = new StringBuilder();
+        boolean quoted = false;
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '\'') {
+                quoted = !quoted;
+            }
+            if (c == '?' && !quoted) {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+        return numbered.toString();
+    }
+
+    /**
+     * @param name           the repository method
+     * @param run            runs the query
+     * @param index          the index the query must use, or {@code null} if the planner may pick among several
+     * @param indexCondition a column the index scan must be bounded by, or {@code null} if it is not checked
+     */
+    record QueryCase(String name, Consumer<RepositoryQueryPlanIntTest> run, String index, String indexCondition) {
+
+        QueryCase(String name, Consumer<RepositoryQueryPlanIntTest> run, String index) {
+            this(name, run, index, null);
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    /**
+     * Records the statements prepared on the connections of the data source.
+     */
+    @TestConfiguration
+    static class StatementRecorder {
+
+        @Bean
+        static BeanPostProcessor statementRecordingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource)) {
+                        return bean;
+                    }
+                    return new DelegatingDataSource(dataSource) {
+                        @Override
+                        public Connection getConnection() throws SQLException {
+                            return recording(super.getConnection());
+                        }
+                    };
+                }
+            };
+        }
+
+        private static Connection recording(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().startsWith("prepare") && args != null && args[0] instanceof String sql) {
+                            statements.add(sql);
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    }
+            );
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.phirom_02.blog_api.repository;
+
+import com.phirom_02.blog_api.IntegrationTest;
+import com.phirom_02.blog_api.domain.PostStatus;
+import com.phirom_02.blog_api.domain.entities.Post;
+import com.phirom_02.blog_api.util.TestDataHelper;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.annotation.Rollback;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(properties = {
+        "seed_data.batch_size=7",
+        "seed_data.synthetic.users=5",
+        "seed_data.synthetic.posts=50"
+})
+@Testcontainers
+@Import(TestDataHelper.class)
+@Transactional
+class SyntheticDataGeneratorIntTest extends IntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16:9");
+
+    @Autowired
+    private TestDataHelper testDataHelper;
+
+    @Autowired
+    private SyntheticDataGenerator syntheticDataGenerator;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private SeedBatchWriter seedBatchWriter;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    @Rollback
+    void setUp() {
+        for (int i = 0; i < 3; i++) {
+            testDataHelper.createCategory("category-" + i);
+        }
+        for (int i = 0; i < 6; i++) {
+            testDataHelper.createTag("tag-" + i);
+        }
+    }
+
+    @Test
+    public void generate_shouldWriteTheConfiguredNumberOfUsersAndPosts() {
+        // Act
+        syntheticDataGenerator.generate();
+
+        // Assert
+        assertThat(userRepository.count()).isEqualTo(5);
+        List<Post> posts = postRepository.findAll();
+        assertThat(posts).hasSize(50);
+        assertThat(posts).allSatisfy(post -> {
+            assertThat(post.getTags()).hasSizeBetween(1, 4);
+            assertThat(post.getReadingTime()).isPositive();
+            assertThat(post.getCreatedAt()).isBefore(Instant.parse("2025-01-01T00:00:00Z"));
+            assertThat(post.getUpdatedAt()).isEqualTo(post.getCreatedAt());
+        });
+        assertThat(posts).extracting(Post::getStatus).contains(PostStatus.PUBLISHED);
+    }
+
+    @Test
+    public void generate_shouldRefuseToGenerateTheUsersTwice() {
+        // Arrange
+        syntheticDataGenerator.generate();
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> syntheticDataGenerator.generate());
+    }
+
+    @Test
+    public void generate_shouldRefuseToGeneratePostsWithoutUsers() {
+        // Arrange
+        SyntheticDataGenerator withoutUsers = new SyntheticDataGenerator(
+                userRepository, categoryRepository, tagRepository, seedBatchWriter, passwordEncoder, 7, 42, 0, 50);
+
+        // Act & Assert
+        IllegalStateException exception = assertThrows(IllegalStateException.class, withoutUsers::generate);
+        assertThat(exception).hasMessageContaining("seed_data.synthetic.users");
+        assertThat(postRepository.count()).isZero();
+    }
+}
@@ -2,6 +2,7 @@ package com.phirom_02.blog_api.repository;
 
 import com.phirom_02.blog_api.IntegrationTest;
 import com.phirom_02.blog_api.domain.entities.Tag;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -33,6 +34,9 @@ class TagsRepositoryIntTest extends IntegrationTest {
     @Autowired
     private TagRepository tagRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     void connectionEstablished() {
         assertThat(postgres.isCreated()).isTrue();
@@ -52,9 +56,11 @@ class TagsRepositoryIntTest extends IntegrationTest {
     }
 
     @Test
-    public void findAllWithPostCount_shouldFindAllWithPostCount() {
-        List<Tag> tags = tagRepository.findAllWithPostCount();
-        assertThat(tags.size()).isEqualTo(1);
+    public void incrementPublishedPostCount_shouldAddDeltaToStoredCount() {
+        tagRepository.incrementPublishedPostCount(Set.of(savedTag.getId()), 3);
+        entityManager.clear();
+
+        assertThat(tagRepository.findByName("Spring boot").getPublishedPostCount()).isEqualTo(3L);
     }
 
     @Test
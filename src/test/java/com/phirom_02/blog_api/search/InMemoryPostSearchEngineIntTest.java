@@ -0,0 +1,110 @@
+package com.phirom_02.blog_api.search;
+
+import com.phirom_02.blog_api.IntegrationTest;
+import com.phirom_02.blog_api.domain.PostSearchCursor;
+import com.phirom_02.blog_api.domain.PostStatus;
+import com.phirom_02.blog_api.domain.entities.Category;
+import com.phirom_02.blog_api.domain.entities.Post;
+import com.phirom_02.blog_api.domain.entities.Tag;
+import com.phirom_02.blog_api.domain.entities.User;
+import com.phirom_02.blog_api.domain.events.PostChangedEvent;
+import com.phirom_02.blog_api.domain.projections.PostSearchHit;
+import com.phirom_02.blog_api.util.TestDataHelper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.Rollback;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"post_search.engine=memory", "post_search.index_chunk_size=2"})
+@Testcontainers
+@Import(TestDataHelper.class)
+@Transactional
+class InMemoryPostSearchEngineIntTest extends IntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16:9");
+
+    @Autowired
+    private TestDataHelper testDataHelper;
+
+    @Autowired
+    private InMemoryPostSearchEngine searchEngine;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private User user;
+    private Category category;
+    private Tag tag;
+    private Post springPost;
+
+    @BeforeEach
+    @Rollback
+    void setUp() throws InterruptedException {
+        // Let the startup build finish so it cannot replace the index built by the test
+        for (int i = 0; i < 100 && !searchEngine.isReady(); i++) {
+            Thread.sleep(100);
+        }
+
+        user = testDataHelper.createUser("John Smith", "john.smith@example.com");
+        category = testDataHelper.createCategory("category-1");
+        tag = testDataHelper.createTag("tag-1");
+
+        springPost = testDataHelper.createPost("Spring Boot tips", "Configure Spring with profiles",
+                PostStatus.PUBLISHED, user, category, Set.of(tag));
+        testDataHelper.createPost("Java records", "Records and Spring projections",
+                PostStatus.PUBLISHED, user, category, Set.of());
+        testDataHelper.createPost("Sourdough", "Feed the starter",
+                PostStatus.PUBLISHED, user, category, Set.of());
+        testDataHelper.createPost("Spring draft", "Not published yet",
+                PostStatus.DRAFT, user, category, Set.of(tag));
+
+        searchEngine.rebuild();
+    }
+
+    @Test
+    public void rebuild_shouldIndexAllPublishedPosts() {
+        // Act
+        List<PostSearchHit> hits = searchEngine.search("spring", null, null, PostSearchCursor.FIRST, 10);
+
+        // Assert
+        assertThat(hits).hasSize(2);
+        assertThat(hits.getFirst().id()).isEqualTo(springPost.getId());
+        assertThat(searchEngine.search("spring", null, tag.getId(), PostSearchCursor.FIRST, 10))
+                .extracting(PostSearchHit::id).containsExactly(springPost.getId());
+        assertThat(meterRegistry.get("post.search.index.posts").gauge().value()).isEqualTo(3);
+        assertThat(meterRegistry.get("post.search.index.memory").gauge().value()).isGreaterThan(0);
+        assertThat(meterRegistry.get("post.search.query").timer().count()).isGreaterThan(0);
+    }
+
+    @Test
+    public void onPostChanged_shouldUpdateTheIndex() {
+        // Arrange
+        Post kotlinPost = testDataHelper.createPost("Kotlin coroutines", "Structured concurrency",
+                PostStatus.PUBLISHED, user, category, Set.of());
+
+        // Act
+        searchEngine.onPostChanged(PostChangedEvent.saved(kotlinPost, PostChangedEvent.Placement.NONE));
+        searchEngine.onPostChanged(PostChangedEvent.deleted(springPost));
+
+        // Assert
+        assertThat(searchEngine.search("kotlin", null, null, PostSearchCursor.FIRST, 10))
+                .extracting(PostSearchHit::id).containsExactly(kotlinPost.getId());
+        assertThat(searchEngine.search("spring", null, null, PostSearchCursor.FIRST, 10))
+                .extracting(PostSearchHit::id).doesNotContain(springPost.getId());
+    }
+}
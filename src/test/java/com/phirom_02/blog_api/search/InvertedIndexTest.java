@@ -0,0 +1,130 @@
+package com.phirom_02.blog_api.search;
+
+import com.phirom_02.blog_api.domain.PostSearchCursor;
+import com.phirom_02.blog_api.domain.projections.PostSearchHit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedIndexTest {
+
+    InvertedIndex index;
+
+    UUID categoryId;
+    UUID tagId;
+    UUID springPostId;
+    UUID javaPostId;
+    UUID cookingPostId;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedIndex();
+        categoryId = UUID.randomUUID();
+        tagId = UUID.randomUUID();
+        springPostId = UUID.randomUUID();
+        javaPostId = UUID.randomUUID();
+        cookingPostId = UUID.randomUUID();
+
+        index.put(post(springPostId, Instant.parse("2025-01-01T00:00:00Z"), categoryId, Set.of(tagId),
+                "Spring Boot tips", "How to configure Spring Boot applications with profiles."));
+        index.put(post(javaPostId, Instant.parse("2025-01-02T00:00:00Z"), categoryId, Set.of(),
+                "Java records", "Records pair well with Spring projections."));
+        index.put(post(cookingPostId, Instant.parse("2025-01-03T00:00:00Z"), null, Set.of(),
+                "Sourdough", "Feed the starter every day."));
+    }
+
+    @Test
+    public void search_shouldRankTitleMatchesFirst() {
+        // Act
+        List<PostSearchHit> hits = index.search("spring", null, null, PostSearchCursor.FIRST, 10);
+
+        // Assert
+        assertThat(hits).extracting(PostSearchHit::id).containsExactly(springPostId, javaPostId);
+        assertThat(hits.get(0).rank()).isGreaterThan(hits.get(1).rank());
+    }
+
+    @Test
+    public void search_shouldAddUpTheScoresOfEveryQueryTerm() {
+        // Act
+        List<PostSearchHit> hits = index.search("records starter", null, null, PostSearchCursor.FIRST, 10);
+        float records = index.search("records", null, null, PostSearchCursor.FIRST, 10).getFirst().rank();
+        List<PostSearchHit> both = index.search("java records", null, null, PostSearchCursor.FIRST, 10);
+
+        // Assert
+        assertThat(hits).extracting(PostSearchHit::id).containsExactlyInAnyOrder(javaPostId, cookingPostId);
+        assertThat(both).extracting(PostSearchHit::id).containsExactly(javaPostId);
+        assertThat(both.getFirst().rank()).isGreaterThan(records);
+    }
+
+    @Test
+    public void search_shouldIgnoreCaseAndStopWords() {
+        assertThat(index.search("THE Sourdough", null, null, PostSearchCursor.FIRST, 10))
+                .extracting(PostSearchHit::id).containsExactly(cookingPostId);
+        assertThat(index.search("the", null, null, PostSearchCursor.FIRST, 10)).isEmpty();
+    }
+
+    @Test
+    public void search_shouldApplyCategoryAndTagFilters() {
+        assertThat(index.search("spring", null, tagId, PostSearchCursor.FIRST, 10))
+                .extracting(PostSearchHit::id).containsExactly(springPostId);
+        assertThat(index.search("spring", UUID.randomUUID(), null, PostSearchCursor.FIRST, 10)).isEmpty();
+    }
+
+    @Test
+    public void search_shouldContinueAfterCursor() {
+        // Arrange
+        PostSearchHit first = index.search("spring", null, null, PostSearchCursor.FIRST, 1).getFirst();
+
+        // Act
+        List<PostSearchHit> next = index.search(
+                "spring", null, null, new PostSearchCursor(first.rank(), first.createdAt(), first.id()), 10
+        );
+
+        // Assert
+        assertThat(first.id()).isEqualTo(springPostId);
+        assertThat(next).extracting(PostSearchHit::id).containsExactly(javaPostId);
+    }
+
+    @Test
+    public void put_shouldReplaceThePreviousVersionOfAPost() {
+        // Act
+        index.put(post(springPostId, Instant.parse("2025-01-01T00:00:00Z"), categoryId, Set.of(tagId),
+                "Kotlin coroutines", "Structured concurrency."));
+
+        // Assert
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.search("spring", null, null, PostSearchCursor.FIRST, 10))
+                .extracting(PostSearchHit::id).containsExactly(javaPostId);
+        assertThat(index.search("kotlin", null, null, PostSearchCursor.FIRST, 10))
+                .extracting(PostSearchHit::id).containsExactly(springPostId);
+    }
+
+    @Test
+    public void remove_shouldCompactOnceMostDocumentsAreRemoved() {
+        // Arrange
+        for (int i = 0; i < 3000; i++) {
+            index.put(post(javaPostId, Instant.parse("2025-01-02T00:00:00Z"), categoryId, Set.of(),
+                    "Java records " + i, "Records pair well with Spring projections."));
+        }
+
+        // Act
+        index.remove(cookingPostId);
+
+        // Assert
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.termCount()).isLessThan(1100);
+        assertThat(index.search("records", null, null, PostSearchCursor.FIRST, 10))
+                .extracting(PostSearchHit::id).containsExactly(javaPostId);
+        assertThat(index.search("sourdough", null, null, PostSearchCursor.FIRST, 10)).isEmpty();
+    }
+
+    private static IndexedPost post(UUID id, Instant createdAt, UUID categoryId, Set<UUID> tagIds, String title, String content) {
+        return IndexedPost.of(id, createdAt, categoryId, tagIds, title, content);
+    }
+}
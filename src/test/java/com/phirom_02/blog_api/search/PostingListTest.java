@@ -0,0 +1,90 @@
+package com.phirom_02.blog_api.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PostingListTest {
+
+    @Test
+    public void forEach_shouldVisitPostingsInOrder() {
+        // Arrange
+        PostingList postings = new PostingList();
+        postings.add(0, 1);
+        postings.add(5, 300);
+        postings.add(1_000_000, 2);
+
+        // Act
+        List<int[]> visited = new ArrayList<>();
+        postings.forEach((document, frequency) -> visited.add(new int[]{document, frequency}));
+
+        // Assert
+        assertThat(visited).containsExactly(new int[]{0, 1}, new int[]{5, 300}, new int[]{1_000_000, 2});
+        assertThat(postings.size()).isEqualTo(3);
+    }
+
+    @Test
+    public void cursor_shouldReadPostingsOneAtATime() {
+        // Arrange
+        PostingList postings = new PostingList();
+        postings.add(2, 7);
+        postings.add(130, 1);
+
+        // Act
+        PostingList.Cursor cursor = postings.cursor();
+
+        // Assert
+        assertThat(cursor.next()).isTrue();
+        assertThat(cursor.document()).isEqualTo(2);
+        assertThat(cursor.frequency()).isEqualTo(7);
+        assertThat(cursor.next()).isTrue();
+        assertThat(cursor.document()).isEqualTo(130);
+        assertThat(cursor.frequency()).isEqualTo(1);
+        assertThat(cursor.next()).isFalse();
+        assertThat(new PostingList().cursor().next()).isFalse();
+    }
+
+    @Test
+    public void add_shouldStoreSmallGapsInTwoBytes() {
+        // Arrange
+        PostingList postings = new PostingList();
+        for (int document = 0; document < 1000; document++) {
+            postings.add(document, 1);
+        }
+
+        // Act
+        postings.trim();
+
+        // Assert
+        assertThat(postings.memoryBytes()).isEqualTo(32 + 16 + 2 * 1000);
+    }
+
+    @Test
+    public void add_shouldThrowWhenDocumentsAreOutOfOrder() {
+        PostingList postings = new PostingList();
+        postings.add(3, 1);
+
+        assertThrows(IllegalArgumentException.class, () -> postings.add(3, 1));
+    }
+
+    @Test
+    public void remap_shouldDropRemovedDocumentsAndRenumberTheOthers() {
+        // Arrange
+        PostingList postings = new PostingList();
+        postings.add(0, 4);
+        postings.add(2, 5);
+        postings.add(3, 6);
+
+        // Act
+        PostingList remapped = postings.remap(new int[]{0, -1, -1, 1});
+
+        // Assert
+        List<int[]> visited = new ArrayList<>();
+        remapped.forEach((document, frequency) -> visited.add(new int[]{document, frequency}));
+        assertThat(visited).containsExactly(new int[]{0, 4}, new int[]{1, 6});
+    }
+}
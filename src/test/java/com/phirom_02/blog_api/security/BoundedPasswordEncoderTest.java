@@ -0,0 +1,86 @@
+package com.phirom_02.blog_api.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BoundedPasswordEncoderTest {
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    BoundedPasswordEncoder passwordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.close();
+    }
+
+    @Test
+    void matches_shouldHashOnPoolAndRecordLatency() {
+        // Arrange
+        passwordEncoder = new BoundedPasswordEncoder(new PrefixPasswordEncoder(), 1, 1, meterRegistry);
+
+        // Act
+        String encoded = passwordEncoder.encode("@#password");
+        boolean matches = passwordEncoder.matches("@#password", encoded);
+
+        // Assert
+        assertThat(encoded).isEqualTo("hashed:@#password");
+        assertThat(matches).isTrue();
+        assertThat(meterRegistry.get("password.hashing").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void encode_shouldRejectHashesBeyondQueueCapacity() throws Exception {
+        // Arrange
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        passwordEncoder = new BoundedPasswordEncoder(new PrefixPasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(rawPassword);
+            }
+        }, 1, 1, meterRegistry);
+
+        // Act
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("first"));
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("second"));
+        while (meterRegistry.get("password.hashing.queue").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        // Assert
+        assertThrows(RejectedExecutionException.class, () -> passwordEncoder.encode("third"));
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:first");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:second");
+    }
+
+    static class PrefixPasswordEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
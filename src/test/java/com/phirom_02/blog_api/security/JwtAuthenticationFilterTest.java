@@ -1,18 +1,20 @@
 package com.phirom_02.blog_api.security;
 
+import com.phirom_02.blog_api.cache.VerifiedTokenCache;
 import com.phirom_02.blog_api.domain.entities.User;
 import com.phirom_02.blog_api.service.AuthService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -26,7 +28,6 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class JwtAuthenticationFilterTest {
 
-    @InjectMocks
     JwtAuthenticationFilter jwtAuthenticationFilter;
 
     @Mock
@@ -41,6 +42,9 @@ class JwtAuthenticationFilterTest {
     @BeforeEach
     void setUp() {
         SecurityContextHolder.clearContext();
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(
+                authService, new VerifiedTokenCache(new SimpleMeterRegistry(), 100)
+        );
     }
 
     @Test
@@ -53,7 +57,7 @@ class JwtAuthenticationFilterTest {
                 .id(UUID.randomUUID())
                 .build();
         BlogUserDetails userDetails = new BlogUserDetails(user);
-        when(authService.validateToken(token)).thenReturn(userDetails);
+        when(authService.validateToken(token)).thenReturn(new VerifiedToken(userDetails, Instant.now().plusSeconds(60)));
 
 
         Map<String, Object> attributes = new HashMap<>();
@@ -79,6 +83,24 @@ class JwtAuthenticationFilterTest {
         assertThat(request.getAttribute("userId")).isEqualTo(user.getId());
     }
 
+    @Test
+    public void doFilterInternal_shouldValidateRepeatedTokenOnce() throws Exception {
+        // Arrange
+        String token = "valid.token.here";
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
+        BlogUserDetails userDetails = new BlogUserDetails(User.builder().id(UUID.randomUUID()).build());
+        when(authService.validateToken(token)).thenReturn(new VerifiedToken(userDetails, Instant.now().plusSeconds(60)));
+
+        // Act
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+        SecurityContextHolder.clearContext();
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        // Assert | Verify
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal()).isEqualTo(userDetails);
+        verify(authService, times(1)).validateToken(token);
+    }
+
     @Test
     public void doFilterInternal_shouldNotSetAuthenticationOnInvalidToken() throws Exception {
         // Arrange
@@ -0,0 +1,128 @@
+package com.phirom_02.blog_api.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    AtomicLong nanos;
+    SimpleMeterRegistry meterRegistry;
+    RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    void setUp() {
+        nanos = new AtomicLong();
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimitFilter = new RateLimitFilter(
+                List.of(
+                        new RateLimitPolicy("auth", "POST", "/api/v1/auth/", 2, Duration.ofSeconds(10)),
+                        new RateLimitPolicy("default", null, "/api/", 100, Duration.ofSeconds(10))
+                ),
+                100,
+                meterRegistry,
+                nanos::get
+        );
+    }
+
+    @Test
+    void doFilter_shouldRejectRequestsBeyondCapacity() throws Exception {
+        // Act
+        MockHttpServletResponse first = filter(login("10.0.0.1"));
+        MockHttpServletResponse second = filter(login("10.0.0.1"));
+        MockHttpServletResponse third = filter(login("10.0.0.1"));
+
+        // Assert
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(second.getStatus()).isEqualTo(200);
+        assertThat(third.getStatus()).isEqualTo(429);
+        assertThat(third.getHeader("Retry-After")).isEqualTo("5");
+        assertThat(meterRegistry.get("rate_limit.rejected").tag("policy", "auth").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void doFilter_shouldAllowRequestOnceBucketRefilled() throws Exception {
+        // Arrange
+        filter(login("10.0.0.1"));
+        filter(login("10.0.0.1"));
+
+        // Act
+        nanos.addAndGet(Duration.ofSeconds(5).toNanos());
+        MockHttpServletResponse refilled = filter(login("10.0.0.1"));
+        MockHttpServletResponse rejected = filter(login("10.0.0.1"));
+
+        // Assert
+        assertThat(refilled.getStatus()).isEqualTo(200);
+        assertThat(rejected.getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    void doFilter_shouldLimitEachClientSeparately() throws Exception {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        filter(login("10.0.0.1"));
+        filter(login("10.0.0.1"));
+
+        MockHttpServletRequest authenticated = login("10.0.0.1");
+        authenticated.setAttribute("userId", userId);
+
+        // Act
+        MockHttpServletResponse otherAddress = filter(login("10.0.0.2"));
+        MockHttpServletResponse otherUser = filter(authenticated);
+
+        // Assert
+        assertThat(otherAddress.getStatus()).isEqualTo(200);
+        assertThat(otherUser.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void doFilter_shouldNotLimitRequestsMatchingNoPolicy() throws Exception {
+        // Act & Assert
+        for (int i = 0; i < 200; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/swagger-ui/index.html");
+            assertThat(filter(request).getStatus()).isEqualTo(200);
+        }
+    }
+
+    @Test
+    void evictIdleBuckets_shouldOnlyEvictFullBuckets() throws Exception {
+        // Arrange
+        filter(login("10.0.0.1"));
+        filter(login("10.0.0.1"));
+        nanos.addAndGet(Duration.ofSeconds(5).toNanos());
+
+        // Act
+        rateLimitFilter.evictIdleBuckets();
+        MockHttpServletResponse notEvicted = filter(login("10.0.0.1"));
+        nanos.addAndGet(Duration.ofSeconds(10).toNanos());
+        rateLimitFilter.evictIdleBuckets();
+
+        // Assert
+        assertThat(notEvicted.getStatus()).isEqualTo(200);
+        assertThat(filter(login("10.0.0.1")).getStatus()).isEqualTo(200);
+        assertThat(filter(login("10.0.0.1")).getStatus()).isEqualTo(200);
+        assertThat(filter(login("10.0.0.1")).getStatus()).isEqualTo(429);
+    }
+
+    private MockHttpServletRequest login(String address) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/login");
+        request.setRemoteAddr(address);
+        return request;
+    }
+
+    private MockHttpServletResponse filter(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        rateLimitFilter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
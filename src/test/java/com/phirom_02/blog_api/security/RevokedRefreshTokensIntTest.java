@@ -0,0 +1,83 @@
+package com.phirom_02.blog_api.security;
+
+import com.phirom_02.blog_api.IntegrationTest;
+import com.phirom_02.blog_api.repository.RevokedRefreshTokenRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({RevokedRefreshTokens.class, RevokedRefreshTokenRepository.class})
+class RevokedRefreshTokensIntTest extends IntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16.9");
+
+    @Autowired
+    RevokedRefreshTokens revokedRefreshTokens;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    void revoke_shouldRevokeTokenOnce() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        Instant expiresAt = Instant.now().plusSeconds(60);
+
+        // Act
+        boolean first = revokedRefreshTokens.revoke(id, expiresAt);
+        boolean second = revokedRefreshTokens.revoke(id, expiresAt);
+
+        // Assert
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+    }
+
+    @Test
+    void revoke_shouldKeepTokenRevokedAfterARestart() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        Instant expiresAt = Instant.now().plusSeconds(60);
+        revokedRefreshTokens.revoke(id, expiresAt);
+
+        // Act
+        // As after a restart, or on another instance, with nothing kept in memory
+        RevokedRefreshTokens restarted = new RevokedRefreshTokens(new RevokedRefreshTokenRepository(jdbcTemplate));
+
+        // Assert
+        assertThat(restarted.revoke(id, expiresAt)).isFalse();
+    }
+
+    @Test
+    void prune_shouldForgetTokenOnceItExpired() {
+        // Arrange
+        UUID expiredId = UUID.randomUUID();
+        UUID validId = UUID.randomUUID();
+        revokedRefreshTokens.revoke(expiredId, Instant.now().minusSeconds(1));
+        revokedRefreshTokens.revoke(validId, Instant.now().plusSeconds(60));
+
+        // Act
+        revokedRefreshTokens.prune();
+
+        // Assert
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM revoked_refresh_tokens", UUID.class))
+                .contains(validId)
+                .doesNotContain(expiredId);
+    }
+}
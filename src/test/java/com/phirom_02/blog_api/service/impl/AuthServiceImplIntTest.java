@@ -100,7 +100,7 @@ class AuthServiceImplIntTest {
     public void generateToken_shouldReturnTokenAndValidateToken() {
         // Arrange & Act
         String token = authService.generateToken(userDetails);
-        UserDetails validateUserDetails = authService.validateToken(token);
+        UserDetails validateUserDetails = authService.validateToken(token).principal();
 
 
         // Assert
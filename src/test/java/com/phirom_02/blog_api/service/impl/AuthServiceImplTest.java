@@ -5,8 +5,12 @@ import com.phirom_02.blog_api.domain.dtos.SignUpDto;
 import com.phirom_02.blog_api.domain.entities.User;
 import com.phirom_02.blog_api.mappers.AuthMapper;
 import com.phirom_02.blog_api.security.BlogUserDetails;
+import com.phirom_02.blog_api.security.RefreshToken;
+import com.phirom_02.blog_api.security.RevokedRefreshTokens;
+import com.phirom_02.blog_api.security.VerifiedToken;
 import com.phirom_02.blog_api.service.JwtService;
 import com.phirom_02.blog_api.service.UserService;
+import io.jsonwebtoken.JwtException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -15,7 +19,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.time.Instant;
+import java.util.UUID;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -27,8 +33,6 @@ class AuthServiceImplTest {
     @InjectMocks
     private AuthServiceImpl authService;
 
-    @Mock
-    private UserDetailsService userDetailsService;
     @Mock
     private UserService userService;
     @Mock
@@ -37,6 +41,8 @@ class AuthServiceImplTest {
     private JwtService jwtService;
     @Mock
     private AuthMapper authMapper;
+    @Mock
+    private RevokedRefreshTokens revokedRefreshTokens;
 
     @Test
     public void register_shouldReturnUserDetailsAfterCreate() {
@@ -88,7 +94,7 @@ class AuthServiceImplTest {
     }
 
     @Test
-    public void authenticate_shouldAuthenticateAndLoadUserDetails() {
+    public void authenticate_shouldReturnAuthenticatedUserDetails() {
         // Arrange
         String username = "john.smith@example.com";
         String password = "@#password";
@@ -99,13 +105,14 @@ class AuthServiceImplTest {
                 .build();
 
         UserDetails userDetails = new BlogUserDetails(user);
-        when(userDetailsService.loadUserByUsername(username)).thenReturn(userDetails);
+        when(authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(username, password)))
+                .thenReturn(UsernamePasswordAuthenticationToken.authenticated(userDetails, null, userDetails.getAuthorities()));
 
         // Act
         UserDetails result = authService.authenticate(username, password);
 
         // Assert
-        assertThat(result.getUsername()).isEqualTo(username);
+        assertThat(result).isEqualTo(userDetails);
         verify(authenticationManager, times(1)).authenticate(new UsernamePasswordAuthenticationToken(username, password));
     }
 
@@ -132,13 +139,41 @@ class AuthServiceImplTest {
                 .build();
         UserDetails userDetails = new BlogUserDetails(user);
 
-        when(jwtService.extractSubject(token)).thenReturn(email);
-        when(userDetailsService.loadUserByUsername(email)).thenReturn(userDetails);
+        when(jwtService.verifyToken(token)).thenReturn(new VerifiedToken(userDetails, Instant.now().plusSeconds(60)));
 
         // Act
-        UserDetails result = authService.validateToken(token);
+        VerifiedToken result = authService.validateToken(token);
 
-        // Assert
-        assertThat(result.getUsername()).isEqualTo(email);
+        // Assert | Verify
+        assertThat(result.principal().getUsername()).isEqualTo(email);
+        verifyNoInteractions(authenticationManager);
+    }
+
+    @Test
+    public void redeemRefreshToken_shouldRevokeTokenAndReturnUserDetails() {
+        // Arrange
+        UserDetails userDetails = new BlogUserDetails(User.builder().email("john.smith@example.com").build());
+        RefreshToken refreshToken = new RefreshToken(UUID.randomUUID(), userDetails, Instant.now().plusSeconds(60));
+        when(jwtService.verifyRefreshToken("refresh123")).thenReturn(refreshToken);
+        when(revokedRefreshTokens.revoke(refreshToken.id(), refreshToken.expiresAt())).thenReturn(true);
+
+        // Act
+        UserDetails result = authService.redeemRefreshToken("refresh123");
+
+        // Assert | Verify
+        assertThat(result).isEqualTo(userDetails);
+        verifyNoInteractions(authenticationManager);
+    }
+
+    @Test
+    public void redeemRefreshToken_shouldRejectRedeemedToken() {
+        // Arrange
+        UserDetails userDetails = new BlogUserDetails(User.builder().email("john.smith@example.com").build());
+        RefreshToken refreshToken = new RefreshToken(UUID.randomUUID(), userDetails, Instant.now().plusSeconds(60));
+        when(jwtService.verifyRefreshToken("refresh123")).thenReturn(refreshToken);
+        when(revokedRefreshTokens.revoke(refreshToken.id(), refreshToken.expiresAt())).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(JwtException.class, () -> authService.redeemRefreshToken("refresh123"));
     }
-}
\ No newline at end of file
+}
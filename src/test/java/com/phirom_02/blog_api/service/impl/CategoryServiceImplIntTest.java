@@ -1,14 +1,17 @@
 package com.phirom_02.blog_api.service.impl;
 
 import com.phirom_02.blog_api.IntegrationTest;
+import com.phirom_02.blog_api.config.CacheConfig;
+import com.phirom_02.blog_api.domain.CategoryRef;
 import com.phirom_02.blog_api.domain.PostStatus;
 import com.phirom_02.blog_api.domain.entities.Category;
 import com.phirom_02.blog_api.domain.entities.Tag;
 import com.phirom_02.blog_api.domain.entities.User;
+import com.phirom_02.blog_api.domain.events.CategoryDeletedEvent;
 import com.phirom_02.blog_api.repository.CategoryRepository;
 import com.phirom_02.blog_api.repository.TagRepository;
-import com.phirom_02.blog_api.service.CategoryService;
 import com.phirom_02.blog_api.util.TestDataHelper;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.annotation.Rollback;
 import org.testcontainers.containers.PostgreSQLContainer;
@@ -47,9 +51,13 @@ class CategoryServiceImplIntTest extends IntegrationTest {
     private CategoryRepository categoryRepository;
 
     @Autowired
-    private CategoryService categoryService;
+    private CategoryServiceImpl categoryService;
     @Autowired
     private TagRepository tagRepository;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private MeterRegistry meterRegistry;
 
     @BeforeEach
     @Rollback
@@ -95,6 +103,25 @@ class CategoryServiceImplIntTest extends IntegrationTest {
         assertThat(category.getId()).isEqualTo(categoryId);
     }
 
+    @Test
+    public void getCategoryRef_shouldServeRepeatedLookupsFromTheCache() {
+        // Arrange
+        UUID categoryId = testDataHelper.getCategoryByName("category-3").getId();
+        double hits = meterRegistry.get("cache.gets").tag("cache", CacheConfig.CATEGORIES).tag("result", "hit")
+                .functionCounter().count();
+
+        // Act
+        CategoryRef first = categoryService.getCategoryRef(categoryId);
+        CategoryRef second = categoryService.getCategoryRef(categoryId);
+
+        // Assert
+        assertThat(first).isEqualTo(new CategoryRef(categoryId, "category-3"));
+        assertThat(second).isSameAs(first);
+        assertThat(cacheManager.getCache(CacheConfig.CATEGORIES).get(categoryId)).isNotNull();
+        assertThat(meterRegistry.get("cache.gets").tag("cache", CacheConfig.CATEGORIES).tag("result", "hit")
+                .functionCounter().count()).isGreaterThan(hits);
+    }
+
     @Test
     public void getCategoryById_shouldThrowEntityNotFoundException() {
         // Arrange
@@ -136,12 +163,17 @@ class CategoryServiceImplIntTest extends IntegrationTest {
     public void deleteCategory_shouldDeleteACategory() {
         // Arrange
         UUID categoryId = testDataHelper.getCategoryByName("category-2").getId();
+        categoryService.getCategoryRef(categoryId);
 
         // Act
         categoryService.deleteCategory(categoryId);
 
         // Assert
         assertThat(tagRepository.findById(categoryId)).isNotPresent();
+        // Evicted once the deletion commits, which the test transaction never does
+        assertThat(cacheManager.getCache(CacheConfig.CATEGORIES).get(categoryId)).isNotNull();
+        categoryService.onCategoryDeleted(new CategoryDeletedEvent(categoryId));
+        assertThat(cacheManager.getCache(CacheConfig.CATEGORIES).get(categoryId)).isNull();
     }
 
     @Test
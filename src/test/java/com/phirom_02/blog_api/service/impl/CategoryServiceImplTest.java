@@ -1,15 +1,21 @@
 package com.phirom_02.blog_api.service.impl;
 
+import com.phirom_02.blog_api.domain.dtos.CategoryResponse;
 import com.phirom_02.blog_api.domain.entities.Category;
 import com.phirom_02.blog_api.domain.entities.Post;
+import com.phirom_02.blog_api.domain.events.CategoryDeletedEvent;
+import com.phirom_02.blog_api.mappers.CategoryMapper;
 import com.phirom_02.blog_api.repository.CategoryRepository;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -30,6 +36,12 @@ class CategoryServiceImplTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    CategoryMapper categoryMapper = Mappers.getMapper(CategoryMapper.class);
+
     List<Category> categories;
 
     @BeforeEach
@@ -43,7 +55,7 @@ class CategoryServiceImplTest {
     @Test
     public void getAllCategories_shouldRetrieveAllCategories() {
         // Arrange
-        when(categoryRepository.findAllWithPostCount()).thenReturn(categories);
+        when(categoryRepository.findAll()).thenReturn(categories);
 
         // Act
         List<Category> result = categoryService.getAllCategories();
@@ -52,6 +64,21 @@ class CategoryServiceImplTest {
         assertThat(result.size()).isEqualTo(3);
     }
 
+    @Test
+    public void getAllCategoryResponses_shouldMapAllCategories() {
+        // Arrange
+        categories.getFirst().setPublishedPostCount(2);
+        when(categoryRepository.findAll()).thenReturn(categories);
+
+        // Act
+        List<CategoryResponse> result = categoryService.getAllCategoryResponses();
+
+        // Assert
+        assertThat(result.size()).isEqualTo(3);
+        assertThat(result.getFirst().getName()).isEqualTo("category1");
+        assertThat(result.getFirst().getPostCount()).isEqualTo(2);
+    }
+
     @Test
     public void getCategoryById_shouldRetrieveAMatchingCategory() {
         // Arrange
@@ -124,6 +151,7 @@ class CategoryServiceImplTest {
 
         // Assert | Verify
         verify(categoryRepository, times(1)).deleteById(categoryId);
+        verify(eventPublisher).publishEvent(new CategoryDeletedEvent(categoryId));
     }
 
     @Test
@@ -143,6 +171,7 @@ class CategoryServiceImplTest {
 
         // Act & Assert
         assertThrows(IllegalStateException.class, () -> categoryService.deleteCategory(categoryId));
+        verify(eventPublisher, never()).publishEvent(any());
         assertThat("There are posts associated with category: " + categoryId).isEqualTo(exception.getMessage());
     }
 }
\ No newline at end of file
@@ -2,18 +2,23 @@ package com.phirom_02.blog_api.service.impl;
 
 import com.phirom_02.blog_api.domain.entities.User;
 import com.phirom_02.blog_api.security.BlogUserDetails;
+import com.phirom_02.blog_api.security.RefreshToken;
+import com.phirom_02.blog_api.security.VerifiedToken;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @ExtendWith(MockitoExtension.class)
 class JwtServiceImplTest {
@@ -28,8 +33,7 @@ class JwtServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        jwtService = new JwtServiceImpl();
-        jwtService.jwtSecret = jwtSecret;
+        jwtService = new JwtServiceImpl(jwtSecret);
 
         User user = User.builder()
                 .id(UUID.randomUUID())
@@ -79,4 +83,66 @@ class JwtServiceImplTest {
         // Assert
         assertThat(expirationDate).isAfter(new Date());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void verifyToken_shouldBuildUserFromClaims() {
+        // Arrange
+        String token = jwtService.buildToken(testUser, new HashMap<>(), JWT_ACCESS_TOKEN_EXPIRES_IN_SECONDS);
+
+        // Act
+        VerifiedToken verifiedToken = jwtService.verifyToken(token);
+        BlogUserDetails userDetails = (BlogUserDetails) verifiedToken.principal();
+
+        // Assert
+        assertThat(userDetails.getId()).isEqualTo(testUser.getId());
+        assertThat(userDetails.getUsername()).isEqualTo("john.smith@example.com");
+        assertThat(userDetails.getAuthorities()).isEqualTo(testUser.getAuthorities());
+        assertThat(verifiedToken.expiresAt()).isAfter(Instant.now());
+    }
+
+    @Test
+    public void verifyToken_shouldRejectTokenWithoutUserId() {
+        // Arrange
+        String token = jwtService.buildToken(
+                new BlogUserDetails(User.builder().email("john.smith@example.com").build()),
+                new HashMap<>(),
+                JWT_ACCESS_TOKEN_EXPIRES_IN_SECONDS
+        );
+
+        // Act & Assert
+        assertThrows(JwtException.class, () -> jwtService.verifyToken(token));
+    }
+
+    @Test
+    public void verifyRefreshToken_shouldReturnTokenIdAndUser() {
+        // Arrange
+        UUID tokenId = UUID.randomUUID();
+        String token = jwtService.buildRefreshToken(testUser, tokenId, JWT_ACCESS_TOKEN_EXPIRES_IN_SECONDS);
+
+        // Act
+        RefreshToken refreshToken = jwtService.verifyRefreshToken(token);
+
+        // Assert
+        assertThat(refreshToken.id()).isEqualTo(tokenId);
+        assertThat(((BlogUserDetails) refreshToken.principal()).getId()).isEqualTo(testUser.getId());
+        assertThat(refreshToken.expiresAt()).isAfter(Instant.now());
+    }
+
+    @Test
+    public void verifyToken_shouldRejectRefreshToken() {
+        // Arrange
+        String token = jwtService.buildRefreshToken(testUser, UUID.randomUUID(), JWT_ACCESS_TOKEN_EXPIRES_IN_SECONDS);
+
+        // Act & Assert
+        assertThrows(JwtException.class, () -> jwtService.verifyToken(token));
+    }
+
+    @Test
+    public void verifyRefreshToken_shouldRejectAccessToken() {
+        // Arrange
+        String token = jwtService.buildToken(testUser, new HashMap<>(), JWT_ACCESS_TOKEN_EXPIRES_IN_SECONDS);
+
+        // Act & Assert
+        assertThrows(JwtException.class, () -> jwtService.verifyRefreshToken(token));
+    }
+}
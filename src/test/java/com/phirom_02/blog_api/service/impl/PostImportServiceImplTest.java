@@ -0,0 +1,121 @@
+package com.phirom_02.blog_api.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.phirom_02.blog_api.domain.dtos.CreatePostDto;
+import com.phirom_02.blog_api.domain.dtos.PostImportResult;
+import com.phirom_02.blog_api.domain.entities.User;
+import com.phirom_02.blog_api.mappers.PostMapper;
+import com.phirom_02.blog_api.service.PostService;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostImportServiceImplTest {
+
+    @Mock
+    PostService postService;
+
+    PostImportServiceImpl postImportService;
+
+    User user;
+    UUID categoryId;
+
+    @BeforeEach
+    void setUp() {
+        postImportService = new PostImportServiceImpl(
+                postService,
+                Mappers.getMapper(PostMapper.class),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                new ObjectMapper(),
+                2
+        );
+        user = new User();
+        categoryId = UUID.randomUUID();
+    }
+
+    @Test
+    public void importPosts_shouldImportValidRecordsInBatches() throws Exception {
+        // Arrange
+        List<Integer> batchSizes = new ArrayList<>();
+        when(postService.createPosts(eq(user), any())).thenAnswer(invocation -> {
+            batchSizes.add(invocation.<List<CreatePostDto>>getArgument(1).size());
+            return Map.of();
+        });
+
+        // Act
+        PostImportResult result = postImportService.importPosts(user, new StringReader(
+                record("first") + "\n" + record("second") + "\n\n" + record("third") + "\n"
+        ));
+
+        // Assert
+        assertThat(result.getImported()).isEqualTo(3);
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(batchSizes).containsExactly(2, 1);
+    }
+
+    @Test
+    public void importPosts_shouldReportInvalidRecordsByLine() throws Exception {
+        // Arrange
+        when(postService.createPosts(eq(user), any())).thenReturn(Map.of(1, "Category not found with id: x"));
+
+        // Act
+        PostImportResult result = postImportService.importPosts(user, new StringReader(String.join("\n",
+                record("first"),
+                "{not json",
+                "{\"title\":\"no\",\"content\":\"short\",\"status\":\"PUBLISHED\"}",
+                record("unknown category")
+        )));
+
+        // Assert
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getErrors()).extracting(PostImportResult.RecordError::getLine).containsExactly(2L, 3L, 4L);
+        assertThat(result.getErrors().get(0).getMessage()).startsWith("Malformed record");
+        assertThat(result.getErrors().get(1).getDetails())
+                .extracting(detail -> detail.getField())
+                .containsExactly("categoryId", "content", "title");
+        assertThat(result.getErrors().get(2).getMessage()).isEqualTo("Category not found with id: x");
+    }
+
+    @Test
+    public void importPosts_shouldRetryARejectedBatchOneRecordAtATime() throws Exception {
+        // Arrange
+        when(postService.createPosts(eq(user), argThat(dtos -> dtos.size() == 2)))
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(postService.createPosts(eq(user), argThat(dtos -> dtos.size() == 1 && dtos.get(0).getTitle().equals("first"))))
+                .thenReturn(Map.of());
+        when(postService.createPosts(eq(user), argThat(dtos -> dtos.size() == 1 && dtos.get(0).getTitle().equals("second"))))
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        // Act
+        PostImportResult result = postImportService.importPosts(user, new StringReader(
+                record("first") + "\n" + record("second")
+        ));
+
+        // Assert
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getErrors()).extracting(PostImportResult.RecordError::getLine).containsExactly(2L);
+    }
+
+    private String record(String title) {
+        return "{\"title\":\"" + title + "\",\"content\":\"content of " + title + "\","
+                + "\"categoryId\":\"" + categoryId + "\",\"status\":\"PUBLISHED\"}";
+    }
+}
@@ -3,6 +3,9 @@ package com.phirom_02.blog_api.service.impl;
 import com.phirom_02.blog_api.IntegrationTest;
 import com.phirom_02.blog_api.domain.PostStatus;
 import com.phirom_02.blog_api.domain.dtos.CreatePostDto;
+import com.phirom_02.blog_api.domain.dtos.CursorPage;
+import com.phirom_02.blog_api.domain.dtos.PostResponse;
+import com.phirom_02.blog_api.domain.dtos.PostSummary;
 import com.phirom_02.blog_api.domain.dtos.UpdatePostDto;
 import com.phirom_02.blog_api.domain.entities.Category;
 import com.phirom_02.blog_api.domain.entities.Post;
@@ -10,8 +13,11 @@ import com.phirom_02.blog_api.domain.entities.Tag;
 import com.phirom_02.blog_api.domain.entities.User;
 import com.phirom_02.blog_api.repository.PostRepository;
 import com.phirom_02.blog_api.util.TestDataHelper;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,6 +29,7 @@ import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.time.Instant;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -51,6 +58,9 @@ class PostServiceImplIntTest extends IntegrationTest {
     @Autowired
     PostServiceImpl postService;
 
+    @Autowired
+    EntityManager entityManager;
+
     UUID postId;
 
     @BeforeEach
@@ -108,10 +118,10 @@ class PostServiceImplIntTest extends IntegrationTest {
         UUID tagId = testDataHelper.getTagByName("tag-1").getId();
 
         // Act
-        List<Post> posts = postService.getAllPosts(categoryId, tagId);
+        CursorPage<PostSummary> posts = postService.getAllPosts(categoryId, tagId, null, 20);
 
         // Assert
-        assertThat(posts.size()).isEqualTo(1);
+        assertThat(posts.getItems().size()).isEqualTo(1);
     }
 
     @Test
@@ -120,10 +130,10 @@ class PostServiceImplIntTest extends IntegrationTest {
         UUID categoryId = testDataHelper.getCategoryByName("category-1").getId();
 
         // Act
-        List<Post> posts = postService.getAllPosts(categoryId, null);
+        CursorPage<PostSummary> posts = postService.getAllPosts(categoryId, null, null, 20);
 
         // Assert
-        assertThat(posts.size()).isEqualTo(1);
+        assertThat(posts.getItems().size()).isEqualTo(1);
     }
 
     @Test
@@ -132,10 +142,24 @@ class PostServiceImplIntTest extends IntegrationTest {
         UUID tagId = testDataHelper.getTagByName("tag-4").getId();
 
         // Act
-        List<Post> posts = postService.getAllPosts(null, tagId);
+        CursorPage<PostSummary> posts = postService.getAllPosts(null, tagId, null, 20);
+
+        // Assert
+        assertThat(posts.getItems().size()).isEqualTo(2);
+    }
+
+    @Test
+    public void getAllPosts_shouldPageThroughPublishedPostsWithCursor() {
+        // Act
+        CursorPage<PostSummary> firstPage = postService.getAllPosts(null, null, null, 1);
+        CursorPage<PostSummary> secondPage = postService.getAllPosts(null, null, firstPage.getNextCursor(), 1);
 
         // Assert
-        assertThat(posts.size()).isEqualTo(2);
+        assertThat(firstPage.getItems().size()).isEqualTo(1);
+        assertThat(firstPage.getNextCursor()).isNotNull();
+        assertThat(secondPage.getItems().size()).isEqualTo(1);
+        assertThat(secondPage.getNextCursor()).isNull();
+        assertThat(secondPage.getItems().getFirst().getId()).isNotEqualTo(firstPage.getItems().getFirst().getId());
     }
 
     @Test
@@ -144,11 +168,14 @@ class PostServiceImplIntTest extends IntegrationTest {
         UUID userId = testDataHelper.getUserByEmail("john.smith@example.com").get().getId();
 
         // Act
-        List<Post> draftedPost = postService.getAllDraftedPosts(userId);
+        List<PostSummary> draftedPost = postService.getAllDraftedPosts(userId);
 
         // Assert
+        assertThat(draftedPost.size()).isEqualTo(1);
         draftedPost.forEach(p -> {
             assertThat(p.getStatus()).isEqualTo(PostStatus.DRAFT);
+            assertThat(p.getExcerpt()).isEqualTo("Test contents 3");
+            assertThat(p.getTags().size()).isEqualTo(2);
         });
     }
 
@@ -180,6 +207,8 @@ class PostServiceImplIntTest extends IntegrationTest {
         UUID categoryId = testDataHelper.getCategoryByName("category-1").getId();
         UUID tagId = testDataHelper.getTagByName("tag-1").getId();
         Set<UUID> tags = Set.of(tagId);
+        long categoryPostCount = testDataHelper.getCategoryByName("category-1").getPublishedPostCount();
+        long tagPostCount = testDataHelper.getTagByName("tag-1").getPublishedPostCount();
         CreatePostDto createPostDto = CreatePostDto.builder()
                 .title("new post")
                 .content("new post content")
@@ -197,6 +226,73 @@ class PostServiceImplIntTest extends IntegrationTest {
         assertThat(post.getCategory().getId()).isEqualTo(categoryId);
         assertThat(post.getTags().stream().toList().getFirst().getId()).isEqualTo(tagId);
         assertThat(post.getStatus()).isEqualTo(PostStatus.PUBLISHED);
+
+        entityManager.clear();
+        assertThat(testDataHelper.getCategoryByName("category-1").getPublishedPostCount())
+                .isEqualTo(categoryPostCount + 1);
+        assertThat(testDataHelper.getTagByName("tag-1").getPublishedPostCount()).isEqualTo(tagPostCount + 1);
+    }
+
+    @Test
+    @Rollback
+    public void createPostResponse_shouldLoadNeitherTheUserNorTheCategoryOnceCached() {
+        // Arrange
+        UUID userId = testDataHelper.getUserByEmail("john.smith@example.com").get().getId();
+        UUID categoryId = testDataHelper.getCategoryByName("category-1").getId();
+        CreatePostDto createPostDto = CreatePostDto.builder()
+                .title("new post")
+                .content("new post content")
+                .categoryId(categoryId)
+                .tagIds(Set.of())
+                .status(PostStatus.PUBLISHED)
+                .build();
+        postService.createPostResponse(userId, createPostDto);
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        PostResponse response = postService.createPostResponse(userId, createPostDto);
+        entityManager.flush();
+
+        // Assert
+        assertThat(response.getAuthor().getName()).isEqualTo("John Smith");
+        assertThat(response.getCategory().getName()).isEqualTo("category-1");
+        assertThat(statistics.getEntityStatistics(User.class.getName()).getLoadCount()).isZero();
+        assertThat(statistics.getEntityStatistics(Category.class.getName()).getLoadCount()).isZero();
+    }
+
+    @Test
+    @Rollback
+    public void createPosts_shouldCreateValidPostsAndSkipUnknownReferences() {
+        // Arrange
+        User user = testDataHelper.getUserByEmail("john.smith@example.com").get();
+        UUID categoryId = testDataHelper.getCategoryByName("category-1").getId();
+        UUID tagId = testDataHelper.getTagByName("tag-1").getId();
+        long categoryPostCount = testDataHelper.getCategoryByName("category-1").getPublishedPostCount();
+        long tagPostCount = testDataHelper.getTagByName("tag-1").getPublishedPostCount();
+        long postCount = postRepository.count();
+        List<CreatePostDto> dtos = List.of(
+                CreatePostDto.builder().title("imported 1").content("imported content 1")
+                        .categoryId(categoryId).tagIds(Set.of(tagId)).status(PostStatus.PUBLISHED).build(),
+                CreatePostDto.builder().title("imported 2").content("imported content 2")
+                        .categoryId(UUID.randomUUID()).tagIds(Set.of()).status(PostStatus.PUBLISHED).build(),
+                CreatePostDto.builder().title("imported 3").content("imported content 3")
+                        .categoryId(categoryId).tagIds(Set.of(tagId)).status(PostStatus.PUBLISHED).build(),
+                CreatePostDto.builder().title("imported 4").content("imported content 4")
+                        .categoryId(categoryId).tagIds(Set.of(UUID.randomUUID())).status(PostStatus.DRAFT).build()
+        );
+
+        // Act
+        var errors = postService.createPosts(user, dtos);
+
+        // Assert
+        assertThat(errors.keySet()).isEqualTo(Set.of(1, 3));
+        assertThat(postRepository.count()).isEqualTo(postCount + 2);
+        assertThat(testDataHelper.getCategoryByName("category-1").getPublishedPostCount())
+                .isEqualTo(categoryPostCount + 2);
+        assertThat(testDataHelper.getTagByName("tag-1").getPublishedPostCount()).isEqualTo(tagPostCount + 2);
     }
 
     @Test
@@ -220,6 +316,31 @@ class PostServiceImplIntTest extends IntegrationTest {
         assertThat(updatedPost.getTitle()).isEqualTo("Updated title");
     }
 
+    @Test
+    @Rollback
+    public void updatePost_shouldReturnTheStoredModificationTimeWhenOnlyTheTagsChange() {
+        // Arrange
+        Post post = postService.getPostById(postId);
+        Instant previousUpdatedAt = post.getUpdatedAt();
+
+        UpdatePostDto updatePostDto = UpdatePostDto.builder()
+                .id(postId)
+                .title(post.getTitle())
+                .content(post.getContent())
+                .categoryId(post.getCategory().getId())
+                .tagIds(Set.of(testDataHelper.getTagByName("tag-3").getId()))
+                .build();
+
+        // Act
+        Instant returnedUpdatedAt = postService.updatePost(postId, updatePostDto).getUpdatedAt();
+        entityManager.flush();
+        entityManager.clear();
+
+        // Assert
+        assertThat(returnedUpdatedAt).isAfter(previousUpdatedAt);
+        assertThat(postRepository.findById(postId).orElseThrow().getUpdatedAt()).isEqualTo(returnedUpdatedAt);
+    }
+
     @Test
     @Rollback
     public void deletePost_shouldDeleteAPost() {
@@ -1,25 +1,52 @@
 package com.phirom_02.blog_api.service.impl;
 
+import com.phirom_02.blog_api.domain.CategoryRef;
+import com.phirom_02.blog_api.domain.PostCursor;
+import com.phirom_02.blog_api.domain.PostSearchCursor;
 import com.phirom_02.blog_api.domain.PostStatus;
+import com.phirom_02.blog_api.domain.PostVersion;
+import com.phirom_02.blog_api.domain.TagRef;
+import com.phirom_02.blog_api.domain.UserRef;
 import com.phirom_02.blog_api.domain.dtos.CreatePostDto;
+import com.phirom_02.blog_api.domain.dtos.CursorPage;
+import com.phirom_02.blog_api.domain.dtos.PostResponse;
+import com.phirom_02.blog_api.domain.dtos.PostSummary;
 import com.phirom_02.blog_api.domain.dtos.UpdatePostDto;
 import com.phirom_02.blog_api.domain.entities.Category;
 import com.phirom_02.blog_api.domain.entities.Post;
 import com.phirom_02.blog_api.domain.entities.Tag;
 import com.phirom_02.blog_api.domain.entities.User;
+import com.phirom_02.blog_api.domain.events.PostChangedEvent;
+import com.phirom_02.blog_api.domain.projections.PostSearchHit;
+import com.phirom_02.blog_api.domain.projections.PostSummaryView;
+import com.phirom_02.blog_api.domain.projections.PostTagView;
+import com.phirom_02.blog_api.mappers.PostMapper;
 import com.phirom_02.blog_api.repository.PostRepository;
+import com.phirom_02.blog_api.search.PostSearchEngine;
 import com.phirom_02.blog_api.service.CategoryService;
 import com.phirom_02.blog_api.service.TagService;
 import com.phirom_02.blog_api.service.UserService;
+import com.phirom_02.blog_api.stats.PostViewCounter;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -27,6 +54,8 @@ import java.util.UUID;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,6 +72,18 @@ class PostServiceImplTest {
     CategoryService categoryService;
     @Mock
     TagService tagService;
+    @Spy
+    PostMapper postMapper = Mappers.getMapper(PostMapper.class);
+    @Mock
+    PostSearchEngine postSearchEngine;
+    @Mock
+    PostViewCounter postViewCounter;
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+    @Mock
+    EntityManager entityManager;
+
+    ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
 
     UUID categoryId;
     UUID tagId;
@@ -99,65 +140,194 @@ class PostServiceImplTest {
     @Test
     public void getAllPosts_shouldRetrieveAllPostByCategoryIdAndTagId() {
         // Arrange
-        when(categoryService.getCategoryById(categoryId)).thenReturn(category);
-        when(tagService.getTagById(tagId)).thenReturn(tag);
-        when(postRepository.findAllByStatusAndCategoryAndTagsContaining(PostStatus.PUBLISHED, category, tag))
-                .thenReturn(posts.stream().filter(p -> p.getStatus() == PostStatus.PUBLISHED).toList());
+        when(categoryService.getCategoryRef(categoryId)).thenReturn(new CategoryRef(categoryId, category.getName()));
+        when(tagService.getTagRef(tagId)).thenReturn(new TagRef(tagId, tag.getName()));
+        when(postRepository.findPageByStatusAndCategoryAndTag(
+                PostStatus.PUBLISHED, categoryId, tagId, PostCursor.FIRST.createdAt(), PostCursor.FIRST.id(), Limit.of(21)
+        )).thenReturn(summaryViews(PostStatus.PUBLISHED));
 
         // Act
-        List<Post> result = postService.getAllPosts(categoryId, tagId);
+        CursorPage<PostSummary> result = postService.getAllPosts(categoryId, tagId, null, 20);
 
         // Assert
-        assertThat(result.size()).isEqualTo(1);
+        assertThat(result.getItems().size()).isEqualTo(1);
+        assertThat(result.getNextCursor()).isNull();
     }
 
     @Test
     public void getAllPost_shouldRetrieveAllPostByCategoryId() {
         // Arrange
-        when(categoryService.getCategoryById(categoryId)).thenReturn(category);
-        when(postRepository.findAllByStatusAndCategory(PostStatus.PUBLISHED, category))
-                .thenReturn(posts.stream().filter(p -> p.getStatus() == PostStatus.PUBLISHED).toList());
+        when(categoryService.getCategoryRef(categoryId)).thenReturn(new CategoryRef(categoryId, category.getName()));
+        when(postRepository.findPageByStatusAndCategory(
+                PostStatus.PUBLISHED, categoryId, PostCursor.FIRST.createdAt(), PostCursor.FIRST.id(), Limit.of(21)
+        )).thenReturn(summaryViews(PostStatus.PUBLISHED));
 
         // Act
-        List<Post> result = postService.getAllPosts(categoryId, null);
+        CursorPage<PostSummary> result = postService.getAllPosts(categoryId, null, null, 20);
 
         // Assert
-        assertThat(result.size()).isEqualTo(1);
+        assertThat(result.getItems().size()).isEqualTo(1);
     }
 
     @Test
     public void getAllPost_shouldRetrieveAllPostByTagId() {
         // Arrange
-        when(tagService.getTagById(tagId)).thenReturn(tag);
-        when(postRepository.findAllByStatusAndTagsContaining(PostStatus.PUBLISHED, tag))
-                .thenReturn(posts.stream().filter(p -> p.getStatus() == PostStatus.PUBLISHED).toList());
+        when(tagService.getTagRef(tagId)).thenReturn(new TagRef(tagId, tag.getName()));
+        when(postRepository.findPageByStatusAndTag(
+                PostStatus.PUBLISHED, tagId, PostCursor.FIRST.createdAt(), PostCursor.FIRST.id(), Limit.of(21)
+        )).thenReturn(summaryViews(PostStatus.PUBLISHED));
 
         // Act
-        List<Post> result = postService.getAllPosts(null, tagId);
+        CursorPage<PostSummary> result = postService.getAllPosts(null, tagId, null, 20);
 
         // Assert
-        assertThat(result.size()).isEqualTo(1);
+        assertThat(result.getItems().size()).isEqualTo(1);
+    }
+
+    @Test
+    public void getAllPosts_shouldReturnNextCursorWhenMorePostsExist() {
+        // Arrange
+        Instant now = Instant.now();
+        posts.get(0).setCreatedAt(now);
+        posts.get(1).setCreatedAt(now.minusSeconds(1));
+        PostCursor cursor = new PostCursor(now.plusSeconds(10), UUID.randomUUID());
+        when(postRepository.findPageByStatus(PostStatus.PUBLISHED, cursor.createdAt(), cursor.id(), Limit.of(2)))
+                .thenReturn(posts.stream().map(this::summaryView).toList());
+
+        // Act
+        CursorPage<PostSummary> result = postService.getAllPosts(null, null, cursor.encode(), 1);
+
+        // Assert
+        assertThat(result.getItems().size()).isEqualTo(1);
+        assertThat(result.getNextCursor()).isEqualTo(new PostCursor(now, post1Id).encode());
+    }
+
+    @Test
+    public void getAllPostsVersion_shouldTagThePageFromAVersionQuery() {
+        // Arrange
+        Instant now = Instant.now();
+        List<PostVersion> versions = List.of(new PostVersion(post1Id, now), new PostVersion(post2Id, now));
+        when(postRepository.findPageVersionsByStatus(
+                PostStatus.PUBLISHED, PostCursor.FIRST.createdAt(), PostCursor.FIRST.id(), Limit.of(2)
+        )).thenReturn(versions);
+
+        // Act
+        String tag = postService.getAllPostsVersion(null, null, null, 1);
+
+        // Assert
+        assertThat(tag).isEqualTo(PostVersion.tagOf(versions.subList(0, 1), true));
+        assertThat(tag).isNotEqualTo(PostVersion.tagOf(versions.subList(0, 1), false));
+        verify(postRepository, never()).findPageByStatus(any(), any(), any(), any());
+    }
+
+    @Test
+    public void getAllPosts_shouldThrowWhenLimitIsOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> postService.getAllPosts(null, null, null, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> postService.getAllPosts(null, null, null, PostServiceImpl.MAX_PAGE_SIZE + 1));
+    }
+
+    @Test
+    public void getAllPosts_shouldThrowWhenCursorIsMalformed() {
+        assertThrows(IllegalArgumentException.class, () -> postService.getAllPosts(null, null, "not-a-cursor", 20));
+    }
+
+    @Test
+    public void searchPosts_shouldReturnPostsInRelevanceOrder() {
+        // Arrange
+        Instant now = Instant.now();
+        List<PostSearchHit> hits = List.of(
+                new PostSearchHit(post2Id, 0.9f, now),
+                new PostSearchHit(post1Id, 0.5f, now)
+        );
+        when(postSearchEngine.search("spring", null, null, PostSearchCursor.FIRST, 2)).thenReturn(hits);
+        when(postRepository.findSummariesByIdIn(List.of(post2Id))).thenReturn(List.of(summaryView(posts.get(1))));
+
+        // Act
+        CursorPage<PostSummary> result = postService.searchPosts(" spring ", null, null, null, 1);
+
+        // Assert
+        assertThat(result.getItems().size()).isEqualTo(1);
+        assertThat(result.getItems().getFirst().getId()).isEqualTo(post2Id);
+        assertThat(result.getNextCursor()).isEqualTo(new PostSearchCursor(0.9f, now, post2Id).encode());
+    }
+
+    @Test
+    public void searchPosts_shouldThrowWhenQueryIsBlank() {
+        assertThrows(IllegalArgumentException.class, () -> postService.searchPosts(" ", null, null, null, 20));
+        assertThrows(IllegalArgumentException.class, () -> postService.searchPosts(null, null, null, null, 20));
+    }
+
+    @Test
+    public void searchPosts_shouldThrowWhenCategoryDoesNotExist() {
+        // Arrange
+        when(categoryService.getCategoryRef(categoryId)).thenThrow(new EntityNotFoundException());
+
+        // Act & Assert
+        assertThrows(EntityNotFoundException.class, () -> postService.searchPosts("spring", categoryId, null, null, 20));
+        verify(postSearchEngine, never()).search(any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    public void exportPublishedPosts_shouldHandOverEveryPostWithItsTags() {
+        // Arrange
+        PostTagView tagView = projectionFactory.createProjection(
+                PostTagView.class, Map.of("postId", post1Id, "id", tagId, "name", "tag")
+        );
+        when(postRepository.streamAllByStatus(PostStatus.PUBLISHED)).thenReturn(posts.stream());
+        when(postRepository.findTagsByPostIdIn(List.of(post1Id, post2Id))).thenReturn(List.of(tagView));
+        List<PostResponse> exported = new ArrayList<>();
+
+        // Act
+        postService.exportPublishedPosts(exported::add);
+
+        // Assert | Verify
+        assertThat(exported.size()).isEqualTo(2);
+        assertThat(exported.get(0).getContent()).isEqualTo("post content 1");
+        assertThat(exported.get(0).getTags().iterator().next().getId()).isEqualTo(tagId);
+        assertThat(exported.get(1).getTags().isEmpty()).isTrue();
+        verify(entityManager).clear();
+    }
+
+    @Test
+    public void exportPublishedPosts_shouldLoadTagsOncePerChunk() {
+        // Arrange
+        List<Post> published = new ArrayList<>();
+        for (int i = 0; i < PostRepository.EXPORT_FETCH_SIZE + 1; i++) {
+            published.add(Post.builder().id(UUID.randomUUID()).author(user).status(PostStatus.PUBLISHED).build());
+        }
+        when(postRepository.streamAllByStatus(PostStatus.PUBLISHED)).thenReturn(published.stream());
+        List<PostResponse> exported = new ArrayList<>();
+
+        // Act
+        postService.exportPublishedPosts(exported::add);
+
+        // Assert | Verify
+        assertThat(exported.size()).isEqualTo(PostRepository.EXPORT_FETCH_SIZE + 1);
+        verify(postRepository, times(2)).findTagsByPostIdIn(any());
+        verify(entityManager, times(2)).clear();
     }
 
     @Test
     public void getAllDraftedPosts_shouldRetrieveAllDraftedPostByUserId() {
         // Arrange
-        when(userService.findUserById(userId)).thenReturn(user);
-        when(postRepository.findAllByAuthorAndStatus(user, PostStatus.DRAFT))
-                .thenReturn(posts.stream().filter(p -> p.getStatus() == PostStatus.DRAFT).toList());
+        when(userService.findUserRefById(userId)).thenReturn(new UserRef(userId, user.getName()));
+        when(postRepository.findAllByAuthorAndStatus(userId, PostStatus.DRAFT))
+                .thenReturn(summaryViews(PostStatus.DRAFT));
 
         // Act
-        List<Post> result = postService.getAllDraftedPosts(userId);
+        List<PostSummary> result = postService.getAllDraftedPosts(userId);
 
         // Assert
         assertThat(result.size()).isEqualTo(1);
-
+        assertThat(result.getFirst().getAuthor().getId()).isEqualTo(userId);
+        assertThat(result.getFirst().getCategory().getId()).isEqualTo(categoryId);
     }
 
     @Test
     public void getPostById_shouldRetrieveAMatchingPost() {
         // Arrange
-        when(postRepository.findById(post1Id)).thenReturn(posts.stream().filter(p -> p.getId() == post1Id).findFirst());
+        when(postRepository.findWithDetailsById(post1Id)).thenReturn(posts.stream().filter(p -> p.getId() == post1Id).findFirst());
 
         // Act
         Post result = postService.getPostById(post1Id);
@@ -172,7 +342,7 @@ class PostServiceImplTest {
         UUID postId = UUID.randomUUID();
         Exception exception = new EntityNotFoundException("Post not found with id: " + postId);
 
-        when(postRepository.findById(postId)).thenReturn(Optional.empty());
+        when(postRepository.findWithDetailsById(postId)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(EntityNotFoundException.class, () -> postService.getPostById(postId));
@@ -180,6 +350,34 @@ class PostServiceImplTest {
 
     }
 
+    @Test
+    public void getPostResponse_shouldMapAMatchingPost() {
+        // Arrange
+        Post post = posts.getFirst();
+        when(postRepository.findWithDetailsById(post1Id)).thenReturn(Optional.of(post));
+        when(postViewCounter.getViewCount(post1Id)).thenReturn(7L);
+
+        // Act
+        PostResponse result = postService.getPostResponse(post1Id);
+
+        // Assert
+        assertThat(result.getId()).isEqualTo(post1Id);
+        assertThat(result.getAuthor().getId()).isEqualTo(userId);
+        assertThat(result.getCategory().getId()).isEqualTo(categoryId);
+        assertThat(result.getTags().iterator().next().getId()).isEqualTo(tagId);
+        assertThat(result.getViewCount()).isEqualTo(7L);
+    }
+
+    @Test
+    public void getPostVersion_shouldThrowEntityNotFoundException() {
+        // Arrange
+        UUID postId = UUID.randomUUID();
+        when(postRepository.findVersionById(postId)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(EntityNotFoundException.class, () -> postService.getPostVersion(postId));
+    }
+
     @Test
     public void createPost_shouldReturnAPostAfterCreate() {
         // Arrange
@@ -199,7 +397,8 @@ class PostServiceImplTest {
                 .tags(Set.of(tag))
                 .build();
 
-        when(categoryService.getCategoryById(categoryId)).thenReturn(category);
+        when(categoryService.getCategoryRef(categoryId)).thenReturn(new CategoryRef(categoryId, category.getName()));
+        when(categoryService.getCategoryReference(categoryId)).thenReturn(category);
         when(tagService.getTagsByIds(Set.of(tagId))).thenReturn(List.of(tag));
         when(postRepository.save(any(Post.class))).thenReturn(post);
 
@@ -212,6 +411,74 @@ class PostServiceImplTest {
         assertThat(dto.getStatus()).isEqualTo(result.getStatus());
         assertThat(dto.getCategoryId()).isEqualTo(result.getCategory().getId());
         assertThat(dto.getTagIds().stream().toList().getFirst()).isEqualTo(result.getTags().stream().toList().getFirst().getId());
+        verify(categoryService).adjustPublishedPostCount(categoryId, 1);
+        verify(tagService).adjustPublishedPostCount(Set.of(tagId), 1);
+        verify(eventPublisher).publishEvent(PostChangedEvent.saved(result, PostChangedEvent.Placement.NONE));
+    }
+
+    @Test
+    public void createPostResponse_shouldSetTheUserAndCategoryWithoutLoadingThem() {
+        // Arrange
+        CreatePostDto dto = CreatePostDto.builder()
+                .title("New Post")
+                .content("New post content")
+                .status(PostStatus.PUBLISHED)
+                .categoryId(categoryId)
+                .tagIds(Set.of(tagId))
+                .build();
+        Category categoryReference = Category.builder().id(categoryId).build();
+        User userReference = User.builder().id(userId).build();
+
+        when(userService.findUserRefById(userId)).thenReturn(new UserRef(userId, "John Smith"));
+        when(userService.getUserReference(userId)).thenReturn(userReference);
+        when(categoryService.getCategoryRef(categoryId)).thenReturn(new CategoryRef(categoryId, "Java"));
+        when(categoryService.getCategoryReference(categoryId)).thenReturn(categoryReference);
+        when(tagService.getTagsByIds(Set.of(tagId))).thenReturn(List.of(tag));
+        when(postRepository.save(any(Post.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        PostResponse result = postService.createPostResponse(userId, dto);
+
+        // Assert | Verify
+        assertThat(result.getAuthor().getName()).isEqualTo("John Smith");
+        assertThat(result.getCategory().getName()).isEqualTo("Java");
+        verify(postRepository).save(argThat(post ->
+                post.getAuthor() == userReference && post.getCategory() == categoryReference));
+        verify(userService, never()).findUserById(any());
+        verify(categoryService, never()).getCategoryById(any());
+    }
+
+    @Test
+    public void createPosts_shouldResolveReferencesOnceAndSkipPostsWithUnknownOnes() {
+        // Arrange
+        UUID unknownTagId = UUID.randomUUID();
+        List<CreatePostDto> dtos = List.of(
+                CreatePostDto.builder().title("post 1").content("content 1")
+                        .categoryId(categoryId).tagIds(Set.of(tagId)).status(PostStatus.PUBLISHED).build(),
+                CreatePostDto.builder().title("post 2").content("content 2")
+                        .categoryId(UUID.randomUUID()).tagIds(Set.of()).status(PostStatus.PUBLISHED).build(),
+                CreatePostDto.builder().title("post 3").content("content 3")
+                        .categoryId(categoryId).tagIds(Set.of(tagId, unknownTagId)).status(PostStatus.PUBLISHED).build(),
+                CreatePostDto.builder().title("post 4").content("content 4")
+                        .categoryId(categoryId).tagIds(Set.of(tagId)).status(PostStatus.PUBLISHED).build()
+        );
+        when(categoryService.getCategoriesByIds(any())).thenReturn(List.of(category));
+        when(tagService.getTagsByIds(any())).thenReturn(List.of(tag));
+        when(postRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        Map<Integer, String> errors = postService.createPosts(user, dtos);
+
+        // Assert | Verify
+        assertThat(errors.keySet()).isEqualTo(Set.of(1, 2));
+        assertThat(errors.get(2)).isEqualTo("Tags not found with ids: [" + unknownTagId + "]");
+        verify(categoryService, times(1)).getCategoriesByIds(any());
+        verify(tagService, times(1)).getTagsByIds(any());
+        verify(categoryService).adjustPublishedPostCount(categoryId, 2L);
+        verify(tagService).adjustPublishedPostCount(Set.of(tagId), 2L);
+        verify(eventPublisher, times(2)).publishEvent(any(PostChangedEvent.class));
+        verify(entityManager).flush();
+        verify(entityManager).clear();
     }
 
     @Test
@@ -238,7 +505,7 @@ class PostServiceImplTest {
                 .tags(Set.of(tag))
                 .build();
 
-        when(postRepository.findById(postId)).thenReturn(posts.stream().filter(p -> p.getId() == postId).findFirst());
+        when(postRepository.findWithDetailsById(postId)).thenReturn(posts.stream().filter(p -> p.getId() == postId).findFirst());
         when(postRepository.save(any(Post.class))).thenReturn(updatedPost.get());
 
         // Act
@@ -250,17 +517,88 @@ class PostServiceImplTest {
         assertThat(dto.getStatus()).isEqualTo(result.getStatus());
         assertThat(dto.getCategoryId()).isEqualTo(result.getCategory().getId());
         assertThat(dto.getTagIds().stream().toList().getFirst()).isEqualTo(result.getTags().stream().toList().getFirst().getId());
+        verify(categoryService, never()).adjustPublishedPostCount(any(), anyLong());
+        verify(tagService, never()).adjustPublishedPostCount(any(), anyLong());
+    }
+
+    @Test
+    public void updatePost_shouldMovePublishedPostCountsWhenCategoryAndTagsChange() {
+        // Arrange
+        Category newCategory = Category.builder().id(UUID.randomUUID()).build();
+        Tag newTag = Tag.builder().id(UUID.randomUUID()).build();
+        UpdatePostDto dto = new UpdatePostDto();
+        dto.setTitle("Updated Title");
+        dto.setContent("Updated content.");
+        dto.setCategoryId(newCategory.getId());
+        dto.setTagIds(Set.of(newTag.getId()));
+
+        Post post = posts.getFirst();
+        when(postRepository.findWithDetailsById(post1Id)).thenReturn(Optional.of(post));
+        when(categoryService.getCategoryById(newCategory.getId())).thenReturn(newCategory);
+        when(tagService.getTagsByIds(Set.of(newTag.getId()))).thenReturn(List.of(newTag));
+        when(postRepository.save(post)).thenReturn(post);
+
+        // Act
+        postService.updatePost(post1Id, dto);
+
+        // Assert
+        verify(categoryService).adjustPublishedPostCount(categoryId, -1);
+        verify(categoryService).adjustPublishedPostCount(newCategory.getId(), 1);
+        verify(tagService).adjustPublishedPostCount(Set.of(tagId), -1);
+        verify(tagService).adjustPublishedPostCount(Set.of(newTag.getId()), 1);
+    }
+
+    @Test
+    public void updatePost_shouldCountADraftThatGetsPublished() {
+        // Arrange
+        UpdatePostDto dto = new UpdatePostDto();
+        dto.setTitle("Published draft");
+        dto.setContent("Draft content.");
+        dto.setCategoryId(categoryId);
+        dto.setTagIds(Set.of(tagId));
+
+        Post draft = posts.get(1);
+        when(postRepository.findWithDetailsById(post2Id)).thenReturn(Optional.of(draft));
+        when(postRepository.save(draft)).thenReturn(draft);
+
+        // Act
+        postService.updatePost(post2Id, dto);
+
+        // Assert
+        verify(categoryService).adjustPublishedPostCount(categoryId, 1);
+        verify(tagService).adjustPublishedPostCount(Set.of(tagId), 1);
     }
 
     @Test
     public void deletePost_shouldDeleteAPost() {
         // Arrange
-        when(postRepository.findById(post1Id)).thenReturn(Optional.of(posts.stream().filter(p -> p.getId() == post1Id).toList().getFirst()));
+        when(postRepository.findWithDetailsById(post1Id)).thenReturn(Optional.of(posts.stream().filter(p -> p.getId() == post1Id).toList().getFirst()));
 
         // Act
         postService.deletePost(post1Id);
 
         // Assert | Verify
-        verify(postRepository, times(1)).deleteById(post1Id);
+        verify(postRepository, times(1)).delete(posts.getFirst());
+        verify(categoryService).adjustPublishedPostCount(categoryId, -1);
+        verify(tagService).adjustPublishedPostCount(Set.of(tagId), -1);
+        verify(eventPublisher).publishEvent(PostChangedEvent.deleted(posts.getFirst()));
+    }
+
+    private List<PostSummaryView> summaryViews(PostStatus status) {
+        return posts.stream()
+                .filter(p -> p.getStatus() == status)
+                .map(this::summaryView)
+                .toList();
+    }
+
+    private PostSummaryView summaryView(Post post) {
+        Map<String, Object> columns = new HashMap<>();
+        columns.put("id", post.getId());
+        columns.put("title", post.getTitle());
+        columns.put("status", post.getStatus());
+        columns.put("createdAt", post.getCreatedAt());
+        columns.put("authorId", post.getAuthor().getId());
+        columns.put("categoryId", post.getCategory().getId());
+        return projectionFactory.createProjection(PostSummaryView.class, columns);
     }
-}
\ No newline at end of file
+}
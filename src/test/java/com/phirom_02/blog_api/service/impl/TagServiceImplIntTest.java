@@ -1,10 +1,13 @@
 package com.phirom_02.blog_api.service.impl;
 
 import com.phirom_02.blog_api.IntegrationTest;
+import com.phirom_02.blog_api.config.CacheConfig;
 import com.phirom_02.blog_api.domain.PostStatus;
+import com.phirom_02.blog_api.domain.TagRef;
 import com.phirom_02.blog_api.domain.entities.Category;
 import com.phirom_02.blog_api.domain.entities.Tag;
 import com.phirom_02.blog_api.domain.entities.User;
+import com.phirom_02.blog_api.domain.events.TagDeletedEvent;
 import com.phirom_02.blog_api.repository.TagRepository;
 import com.phirom_02.blog_api.util.TestDataHelper;
 import jakarta.persistence.EntityNotFoundException;
@@ -14,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.annotation.Rollback;
 import org.testcontainers.containers.PostgreSQLContainer;
@@ -47,6 +51,9 @@ class TagServiceImplIntTest extends IntegrationTest {
     @Autowired
     private TagServiceImpl tagService;
 
+    @Autowired
+    private CacheManager cacheManager;
+
     @BeforeEach
     @Rollback
     void setUp() {
@@ -135,12 +142,18 @@ class TagServiceImplIntTest extends IntegrationTest {
     public void deleteTagById_shouldDeleteTag() {
         // Arrange
         UUID tagId = testDataHelper.getTagByName("tag-3").getId();
+        assertThat(tagService.getTagRef(tagId)).isEqualTo(new TagRef(tagId, "tag-3"));
+        assertThat(cacheManager.getCache(CacheConfig.TAGS).get(tagId)).isNotNull();
 
         // Act
         tagService.deleteTag(tagId);
 
         // Assert
         assertThat(tagRepository.findById(tagId)).isNotPresent();
+        // Evicted once the deletion commits, which the test transaction never does
+        assertThat(cacheManager.getCache(CacheConfig.TAGS).get(tagId)).isNotNull();
+        tagService.onTagDeleted(new TagDeletedEvent(tagId));
+        assertThat(cacheManager.getCache(CacheConfig.TAGS).get(tagId)).isNull();
     }
 
     @Test
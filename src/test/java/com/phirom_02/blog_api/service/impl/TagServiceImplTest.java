@@ -1,15 +1,21 @@
 package com.phirom_02.blog_api.service.impl;
 
+import com.phirom_02.blog_api.domain.dtos.TagResponse;
 import com.phirom_02.blog_api.domain.entities.Post;
+import com.phirom_02.blog_api.domain.events.TagDeletedEvent;
 import com.phirom_02.blog_api.domain.entities.Tag;
+import com.phirom_02.blog_api.mappers.TagMapper;
 import com.phirom_02.blog_api.repository.TagRepository;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.*;
 
@@ -27,6 +33,12 @@ class TagServiceImplTest {
     @Mock
     private TagRepository tagRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private TagMapper tagMapper = Mappers.getMapper(TagMapper.class);
+
     List<Tag> tags;
 
     @BeforeEach
@@ -45,7 +57,7 @@ class TagServiceImplTest {
         String tag2 = "tag2";
         String tag3 = "tag3";
 
-        when(tagRepository.findAllWithPostCount()).thenReturn(tags);
+        when(tagRepository.findAll()).thenReturn(tags);
 
         // Act
         List<Tag> result = tagService.getAllTags();
@@ -56,6 +68,21 @@ class TagServiceImplTest {
         assertThat(result.get(2).getName()).isEqualTo(tag3);
     }
 
+    @Test
+    public void getAllTagResponses_shouldMapAllTags() {
+        // Arrange
+        tags.getFirst().setPublishedPostCount(2);
+        when(tagRepository.findAll()).thenReturn(tags);
+
+        // Act
+        List<TagResponse> result = tagService.getAllTagResponses();
+
+        // Assert
+        assertThat(result.size()).isEqualTo(3);
+        assertThat(result.getFirst().getName()).isEqualTo("tag1");
+        assertThat(result.getFirst().getPostCount()).isEqualTo(2);
+    }
+
     @Test
     public void createTags_shouldReturnTagsAfterCreate() {
         // Arrange
@@ -139,6 +166,7 @@ class TagServiceImplTest {
 
         // Assert | Verify
         verify(tagRepository, times(1)).deleteById(tagId);
+        verify(eventPublisher).publishEvent(new TagDeletedEvent(tagId));
     }
 
     @Test
@@ -158,6 +186,7 @@ class TagServiceImplTest {
 
         // Arrange & Assert
         assertThrows(IllegalStateException.class, () -> tagService.deleteTag(tagId));
+        verify(eventPublisher, never()).publishEvent(any());
         assertThat("There are posts associated with tag: " + tagId).isEqualTo(exception.getMessage());
     }
 }
\ No newline at end of file
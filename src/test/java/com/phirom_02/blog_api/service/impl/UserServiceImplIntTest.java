@@ -1,6 +1,8 @@
 package com.phirom_02.blog_api.service.impl;
 
 import com.phirom_02.blog_api.IntegrationTest;
+import com.phirom_02.blog_api.config.CacheConfig;
+import com.phirom_02.blog_api.domain.UserRef;
 import com.phirom_02.blog_api.domain.dtos.CreateUserDto;
 import com.phirom_02.blog_api.domain.entities.User;
 import com.phirom_02.blog_api.repository.UserRepository;
@@ -12,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.annotation.Rollback;
 import org.testcontainers.containers.PostgreSQLContainer;
@@ -42,6 +45,9 @@ class UserServiceImplIntTest extends IntegrationTest {
     @Autowired
     private UserServiceImpl userService;
 
+    @Autowired
+    private CacheManager cacheManager;
+
     @BeforeEach
     @Rollback
     void setUp() {
@@ -89,5 +95,21 @@ class UserServiceImplIntTest extends IntegrationTest {
         // Assert
         assertThat(result.getName()).isEqualTo(dto.getName());
         assertThat(result.getEmail()).isEqualTo(dto.getEmail());
+        assertThat(cacheManager.getCache(CacheConfig.USERS).get(result.getId())).isNull();
+    }
+
+    @Test
+    public void findUserRefById_shouldCacheTheIdAndNameOnly() {
+        // Arrange
+        User user = testDataHelper.getUserByEmail("user.b@example.com").get();
+
+        // Act
+        UserRef first = userService.findUserRefById(user.getId());
+        UserRef second = userService.findUserRefById(user.getId());
+
+        // Assert
+        assertThat(first).isEqualTo(new UserRef(user.getId(), "user B"));
+        assertThat(second).isSameAs(first);
+        assertThat(cacheManager.getCache(CacheConfig.USERS).get(user.getId()).get()).isSameAs(first);
     }
 }
\ No newline at end of file
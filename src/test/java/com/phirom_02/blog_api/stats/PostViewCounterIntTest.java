@@ -0,0 +1,128 @@
+package com.phirom_02.blog_api.stats;
+
+import com.phirom_02.blog_api.IntegrationTest;
+import com.phirom_02.blog_api.domain.PostStatus;
+import com.phirom_02.blog_api.domain.entities.Category;
+import com.phirom_02.blog_api.domain.entities.Post;
+import com.phirom_02.blog_api.domain.entities.User;
+import com.phirom_02.blog_api.repository.PostRepository;
+import com.phirom_02.blog_api.repository.PostStatsRepository;
+import com.phirom_02.blog_api.util.TestDataHelper;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Testcontainers
+@Import(TestDataHelper.class)
+@Transactional
+class PostViewCounterIntTest extends IntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:latest");
+
+    @Autowired
+    TestDataHelper testDataHelper;
+
+    @Autowired
+    PostRepository postRepository;
+
+    @Autowired
+    PostStatsRepository postStatsRepository;
+
+    @Autowired
+    PostViewCounter postViewCounter;
+
+    @Autowired
+    EntityManager entityManager;
+
+    UUID post1Id;
+    UUID post2Id;
+
+    @BeforeEach
+    void setUp() {
+        User user = testDataHelper.createUser("John Smith", "john.smith@example.com");
+        Category category = testDataHelper.createCategory("category-1");
+        post1Id = testDataHelper.createPost("Test1", "Test contents 1", PostStatus.PUBLISHED, user, category, Set.of()).getId();
+        post2Id = testDataHelper.createPost("Test2", "Test contents 2", PostStatus.PUBLISHED, user, category, Set.of()).getId();
+        entityManager.flush();
+    }
+
+    @Test
+    void flush_shouldAddViewsToStoredCounts() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            postViewCounter.recordView(post1Id);
+        }
+        postViewCounter.recordView(post2Id);
+
+        // Act
+        postViewCounter.flush();
+        postViewCounter.recordView(post1Id);
+        postViewCounter.recordView(post1Id);
+        postViewCounter.flush();
+
+        // Assert
+        assertThat(postStatsRepository.findViewCounts(List.of(post1Id, post2Id))).isEqualTo(Map.of(post1Id, 5L, post2Id, 1L));
+        assertThat(postViewCounter.getViewCount(post1Id)).isEqualTo(5);
+    }
+
+    @Test
+    void getViewCount_shouldIncludeViewsNotFlushedYet() {
+        // Arrange
+        postViewCounter.recordView(post1Id);
+        postViewCounter.flush();
+
+        // Act
+        postViewCounter.recordView(post1Id);
+
+        // Assert
+        assertThat(postStatsRepository.findViewCount(post1Id)).isEqualTo(1);
+        assertThat(postViewCounter.getViewCount(post1Id)).isEqualTo(2);
+    }
+
+    @Test
+    void flush_shouldSkipViewsOfDeletedPosts() {
+        // Arrange
+        UUID deletedPostId = UUID.randomUUID();
+        postViewCounter.recordView(deletedPostId);
+        postViewCounter.recordView(post1Id);
+
+        // Act
+        postViewCounter.flush();
+
+        // Assert
+        assertThat(postStatsRepository.findViewCounts(List.of(deletedPostId, post1Id))).isEqualTo(Map.of(post1Id, 1L));
+        assertThat(postViewCounter.getViewCount(deletedPostId)).isEqualTo(0);
+    }
+
+    @Test
+    void deletePost_shouldDeleteItsViewCount() {
+        // Arrange
+        postViewCounter.recordView(post1Id);
+        postViewCounter.flush();
+
+        // Act
+        postRepository.deleteById(post1Id);
+        entityManager.flush();
+
+        // Assert
+        assertThat(postStatsRepository.findViewCount(post1Id)).isEqualTo(0);
+    }
+}
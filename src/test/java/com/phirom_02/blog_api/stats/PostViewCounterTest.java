@@ -0,0 +1,160 @@
+package com.phirom_02.blog_api.stats;
+
+import com.phirom_02.blog_api.repository.PostStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostViewCounterTest {
+
+    @Mock
+    PostStatsRepository postStatsRepository;
+
+    PostViewCounter postViewCounter;
+
+    UUID post1Id;
+    UUID post2Id;
+    UUID post3Id;
+
+    @BeforeEach
+    void setUp() {
+        postViewCounter = new PostViewCounter(postStatsRepository, 2, 4);
+        post1Id = UUID.randomUUID();
+        post2Id = UUID.randomUUID();
+        post3Id = UUID.randomUUID();
+    }
+
+    @Test
+    void getViewCount_shouldAddPendingViewsToStoredCount() {
+        // Arrange
+        when(postStatsRepository.findViewCount(post1Id)).thenReturn(5L);
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            postViewCounter.recordView(post1Id);
+        }
+
+        // Assert
+        assertThat(postViewCounter.getViewCount(post1Id)).isEqualTo(8);
+    }
+
+    @Test
+    void getViewCounts_shouldAddPendingViewsToStoredCounts() {
+        // Arrange
+        when(postStatsRepository.findViewCounts(List.of(post1Id, post2Id, post3Id))).thenReturn(Map.of(post1Id, 5L));
+        postViewCounter.recordView(post1Id);
+        postViewCounter.recordView(post2Id);
+
+        // Act
+        Map<UUID, Long> viewCounts = postViewCounter.getViewCounts(List.of(post1Id, post2Id, post3Id));
+
+        // Assert
+        assertThat(viewCounts).isEqualTo(Map.of(post1Id, 6L, post2Id, 1L));
+    }
+
+    @Test
+    void flush_shouldWriteMergedViewsInBatches() {
+        // Arrange
+        List.of(post1Id, post1Id, post1Id, post2Id, post3Id, post3Id).forEach(postViewCounter::recordView);
+        Map<UUID, Long> written = new HashMap<>();
+        when(postStatsRepository.addViews(any())).thenAnswer(invocation -> {
+            Map<UUID, Long> views = invocation.getArgument(0);
+            assertThat(views.size()).isLessThanOrEqualTo(2);
+            written.putAll(views);
+            return views.size();
+        });
+
+        // Act
+        postViewCounter.flush();
+
+        // Assert
+        verify(postStatsRepository, times(2)).addViews(any());
+        assertThat(written).isEqualTo(Map.of(post1Id, 3L, post2Id, 1L, post3Id, 2L));
+        assertThat(postViewCounter.getViewCount(post1Id)).isEqualTo(0);
+    }
+
+    @Test
+    void flush_shouldWriteNothingWithoutViews() {
+        // Act
+        postViewCounter.flush();
+
+        // Assert
+        verify(postStatsRepository, never()).addViews(any());
+    }
+
+    @Test
+    void flush_shouldKeepViewsThatCouldNotBeWritten() {
+        // Arrange
+        postViewCounter.recordView(post1Id);
+        postViewCounter.recordView(post1Id);
+        when(postStatsRepository.addViews(any()))
+                .thenThrow(new DataAccessResourceFailureException("Database is down"))
+                .thenReturn(1);
+
+        // Act
+        postViewCounter.flush();
+        postViewCounter.recordView(post1Id);
+        postViewCounter.flush();
+
+        // Assert
+        ArgumentCaptor<Map<UUID, Long>> views = ArgumentCaptor.captor();
+        verify(postStatsRepository, times(2)).addViews(views.capture());
+        assertThat(views.getAllValues().getLast()).isEqualTo(Map.of(post1Id, 3L));
+    }
+
+    @Test
+    void recordView_shouldNotLoseViewsCountedDuringAFlush() throws Exception {
+        // Arrange
+        int threads = 8;
+        int viewsPerThread = 10_000;
+        Map<UUID, Long> written = new HashMap<>();
+        when(postStatsRepository.addViews(any())).thenAnswer(invocation -> {
+            Map<UUID, Long> views = invocation.getArgument(0);
+            synchronized (written) {
+                views.forEach((postId, count) -> written.merge(postId, count, Long::sum));
+            }
+            return views.size();
+        });
+
+        // Act
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            List<Future<?>> viewers = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                viewers.add(executor.submit(() -> {
+                    for (int j = 0; j < viewsPerThread; j++) {
+                        postViewCounter.recordView(j % 2 == 0 ? post1Id : post2Id);
+                    }
+                }));
+            }
+            while (viewers.stream().anyMatch(viewer -> !viewer.isDone())) {
+                postViewCounter.flush();
+            }
+            for (Future<?> viewer : viewers) {
+                viewer.get();
+            }
+        }
+        postViewCounter.close();
+
+        // Assert
+        long total = (long) threads * viewsPerThread;
+        assertThat(written).isEqualTo(Map.of(post1Id, total / 2, post2Id, total / 2));
+    }
+}
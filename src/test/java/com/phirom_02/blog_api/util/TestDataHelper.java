@@ -32,7 +32,7 @@ public class TestDataHelper {
     }
 
     public Category createCategory(String name) {
-        return categoryRepository.save(new Category(null, name, new ArrayList<>()));
+        return categoryRepository.save(new Category(null, name, new ArrayList<>(), 0));
     }
 
     public Category getCategoryByName(String name) {
@@ -44,7 +44,7 @@ public class TestDataHelper {
     }
 
     public Tag createTag(String name) {
-        return tagRepository.save(new Tag(null, name, new ArrayList<>()));
+        return tagRepository.save(new Tag(null, name, new ArrayList<>(), 0));
     }
 
     public Post createPost(String title, String content, PostStatus status, User author, Category category, Set<Tag> tags) {